@@ -0,0 +1,94 @@
+package com.edtech.edtech_backend;
+
+import com.edtech.edtech_backend.dto.FocusDto;
+import com.edtech.edtech_backend.dto.LlmQuizDto;
+import com.edtech.edtech_backend.entity.FocusInterval;
+import com.edtech.edtech_backend.service.FocusIntervalMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 집중 구간 변환 비용.
+ * - parseAndMap : 저장 요청 본문 역직렬화 + 엔티티 변환 (saveIntervals 의 DB 전 구간)
+ * - toEntities / toViews : saveIntervals / getLatest 매핑
+ * - toLlmIntervals : 퀴즈 생성 때 LLM 요청 구간 (정렬 포함, 입력 순서를 섞어 둠)
+ * 구간 수는 짧은 세션(30) ~ 한 강의 전체(5000) 정도.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FocusMappingBenchmark {
+
+    @Param({"30", "300", "5000"})
+    public int intervals;
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+    private List<FocusDto.IntervalPayload> payload;
+    private List<FocusInterval> entities;
+    private List<FocusInterval> shuffled;
+    private Instant startedAt;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        Random rnd = new Random(42);
+        long t = 1_740_000_000_000L;
+        startedAt = Instant.ofEpochMilli(t);
+
+        payload = new ArrayList<>(intervals);
+        for (int i = 0; i < intervals; i++) {
+            long len = 1000 + rnd.nextInt(4000);
+            var ip = new FocusDto.IntervalPayload();
+            ip.setStart(t);
+            ip.setEnd(t + len);
+            ip.setDurationSec((int) (len / 1000));
+            ip.setAvgScore(Math.round(rnd.nextDouble() * 10000) / 10000.0);
+            payload.add(ip);
+            t += len + rnd.nextInt(3000);
+        }
+
+        var session = new FocusDto.SessionPayload();
+        session.setClassId(1L);
+        session.setCourseId(1L);
+        session.setStartedAt(startedAt.toEpochMilli());
+        session.setIntervals(payload);
+        body = objectMapper.writeValueAsBytes(session);
+
+        entities = FocusIntervalMapper.toEntities(payload);
+        shuffled = new ArrayList<>(entities);
+        Collections.shuffle(shuffled, rnd);
+    }
+
+    @Benchmark
+    public List<FocusInterval> parseAndMap() throws Exception {
+        var session = objectMapper.readValue(body, FocusDto.SessionPayload.class);
+        return FocusIntervalMapper.toEntities(session.getIntervals());
+    }
+
+    @Benchmark
+    public List<FocusInterval> toEntities() {
+        return FocusIntervalMapper.toEntities(payload);
+    }
+
+    @Benchmark
+    public List<FocusDto.IntervalView> toViews() {
+        return FocusIntervalMapper.toViews(entities);
+    }
+
+    @Benchmark
+    public List<LlmQuizDto.IntervalDto> toLlmIntervals() {
+        return FocusIntervalMapper.toLlmIntervals(startedAt, shuffled);
+    }
+}
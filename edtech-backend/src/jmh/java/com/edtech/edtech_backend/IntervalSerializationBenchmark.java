@@ -0,0 +1,101 @@
+package com.edtech.edtech_backend;
+
+import com.edtech.edtech_backend.dto.ColumnarIntervals;
+import com.edtech.edtech_backend.dto.FocusDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 세션 구간 응답 직렬화 비교: 기존 객체 배열 JSON vs 컬럼형 JSON vs 컬럼형 CBOR.
+ * 컬럼형은 엔티티 → 배열 채우기까지 포함 (컨트롤러에서 하는 일 그대로). 응답 크기는 setUp 에서 출력.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IntervalSerializationBenchmark {
+
+    @Param({"500", "5000"})
+    public int intervals;
+
+    private ObjectMapper json;
+    private ObjectMapper cbor;
+    private Instant startedAt;
+    private List<Instant[]> bounds;
+    private List<Integer> durations;
+    private List<Double> scores;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        json = Jackson2ObjectMapperBuilder.json().build();
+        cbor = Jackson2ObjectMapperBuilder.cbor()
+                .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .featuresToDisable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+                .build();
+
+        Random rnd = new Random(42);
+        startedAt = Instant.parse("2025-03-01T09:00:00Z");
+        bounds = new ArrayList<>(intervals);
+        durations = new ArrayList<>(intervals);
+        scores = new ArrayList<>(intervals);
+        long t = startedAt.toEpochMilli();
+        for (int i = 0; i < intervals; i++) {
+            long len = 1000 + rnd.nextInt(2000);
+            bounds.add(new Instant[]{Instant.ofEpochMilli(t), Instant.ofEpochMilli(t + len)});
+            durations.add((int) (len / 1000));
+            scores.add(Math.round(rnd.nextDouble() * 10000) / 10000.0);
+            t += len + rnd.nextInt(500);
+        }
+
+        System.out.printf("%n[payload] intervals=%d objectJson=%dB columnarJson=%dB columnarCbor=%dB%n",
+                intervals, objectJson().length, columnarJson().length, columnarCbor().length);
+    }
+
+    @Benchmark
+    public byte[] objectJson() throws Exception {
+        var view = new FocusDto.LatestView();
+        view.setStartedAt(startedAt);
+        List<FocusDto.IntervalView> list = new ArrayList<>(intervals);
+        for (int i = 0; i < intervals; i++) {
+            var iv = new FocusDto.IntervalView();
+            iv.setStart(bounds.get(i)[0].toEpochMilli());
+            iv.setEnd(bounds.get(i)[1].toEpochMilli());
+            iv.setDurationSec(durations.get(i));
+            iv.setAvgScore(scores.get(i));
+            list.add(iv);
+        }
+        view.setIntervals(list);
+        return json.writeValueAsBytes(view);
+    }
+
+    @Benchmark
+    public byte[] columnarJson() throws Exception {
+        return json.writeValueAsBytes(compactView());
+    }
+
+    @Benchmark
+    public byte[] columnarCbor() throws Exception {
+        return cbor.writeValueAsBytes(compactView());
+    }
+
+    private FocusDto.CompactLatestView compactView() {
+        var c = new ColumnarIntervals(startedAt.toEpochMilli(), intervals);
+        for (int i = 0; i < intervals; i++) {
+            c.add(bounds.get(i)[0], bounds.get(i)[1], durations.get(i), scores.get(i));
+        }
+        var view = new FocusDto.CompactLatestView();
+        view.setStartedAt(startedAt);
+        view.setIntervals(c);
+        return view;
+    }
+}
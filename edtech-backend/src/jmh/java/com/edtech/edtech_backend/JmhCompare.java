@@ -0,0 +1,87 @@
+package com.edtech.edtech_backend;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JMH JSON 결과 두 개 비교 : ./gradlew jmhCompare [-Pbaseline=a.json -Pcandidate=b.json -Pthreshold=10]
+ * 벤치마크+파라미터별로 점수 변화율을 출력하고, threshold(%) 넘게 나빠진 항목이 있으면 종료 코드 1.
+ * 점수 단위가 시간(us/op 등)이면 작을수록, 처리량(ops/s)이면 클수록 좋은 것으로 본다.
+ */
+public final class JmhCompare {
+
+    private JmhCompare() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("usage: JmhCompare <baseline.json> <candidate.json> [threshold%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        Map<String, Result> base = read(Path.of(args[0]));
+        Map<String, Result> cand = read(Path.of(args[1]));
+
+        System.out.printf("baseline : %s%ncandidate: %s%n%n", args[0], args[1]);
+        System.out.printf("%-70s %14s %14s %9s%n", "benchmark", "baseline", "candidate", "change");
+        int regressions = 0;
+        for (var e : cand.entrySet()) {
+            Result c = e.getValue();
+            Result b = base.get(e.getKey());
+            if (b == null) {
+                System.out.printf("%-70s %14s %14s %9s%n", e.getKey(), "-", c.format(), "new");
+                continue;
+            }
+            // + 는 개선, - 는 악화 (단위 방향 보정)
+            double change = (c.higherIsBetter() ? c.score - b.score : b.score - c.score) / b.score * 100.0;
+            boolean regressed = change < -threshold;
+            if (regressed) regressions++;
+            System.out.printf("%-70s %14s %14s %+8.1f%%%s%n", e.getKey(), b.format(), c.format(), change,
+                    regressed ? "  << REGRESSION" : "");
+        }
+        for (String key : base.keySet()) {
+            if (!cand.containsKey(key)) {
+                System.out.printf("%-70s %14s %14s %9s%n", key, base.get(key).format(), "-", "removed");
+            }
+        }
+
+        System.out.printf("%n%d regression(s) over %.1f%%%n", regressions, threshold);
+        if (regressions > 0) System.exit(1);
+    }
+
+    private static Map<String, Result> read(Path file) throws IOException {
+        JsonNode root = new ObjectMapper().readTree(Files.readAllBytes(file));
+        Map<String, Result> out = new LinkedHashMap<>();
+        for (JsonNode run : root) {
+            String name = run.path("benchmark").asText();
+            name = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1); // 클래스.메서드
+            StringBuilder key = new StringBuilder(name);
+            JsonNode params = run.path("params");
+            for (Iterator<String> it = params.fieldNames(); it.hasNext(); ) {
+                String p = it.next();
+                key.append(key.indexOf("(") < 0 ? "(" : ",").append(p).append('=').append(params.path(p).asText());
+            }
+            if (key.indexOf("(") >= 0) key.append(')');
+            JsonNode metric = run.path("primaryMetric");
+            out.put(key.toString(), new Result(metric.path("score").asDouble(), metric.path("scoreUnit").asText()));
+        }
+        return out;
+    }
+
+    private record Result(double score, String unit) {
+        boolean higherIsBetter() {
+            return unit.startsWith("ops/");
+        }
+
+        String format() {
+            return String.format("%.3f %s", score, unit);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.edtech.edtech_backend;
+
+import com.edtech.edtech_backend.security.JwtTokenProvider;
+import com.edtech.edtech_backend.security.VerifiedTokenCache;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 인증 비용 비교.
+ * - legacyParse : 예전 방식 (요청마다 키/파서 새로 생성)
+ * - prebuiltParse : 미리 만든 파서 재사용
+ * - cachedVerify : 검증 결과 캐시 히트
+ * (예전 방식은 여기에 userRepository.findById DB 왕복이 추가로 붙었다)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthBenchmark {
+
+    static final String SECRET = "87YlPD4ykG0WHHB6s2JKGSWLYQDVCIzT8YebMT0Z1EFpYXhAsZo6RyAa88KeRuWddvp1vIXihU3X9oPxVXuhsw==";
+
+    // 이메일 길이로 토큰 크기를 조절
+    @Param({"16", "64", "256"})
+    public int emailLength;
+
+    private JwtTokenProvider provider;
+    private VerifiedTokenCache cache;
+    private String email;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(SECRET, 3_600_000L);
+        cache = new VerifiedTokenCache(provider, new SimpleMeterRegistry(), 10_000);
+        email = "s".repeat(Math.max(1, emailLength - 12)) + "@example.com";
+        token = provider.createToken(42L, "STUDENT", email);
+        cache.verify(token);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return provider.createToken(42L, "STUDENT", email);
+    }
+
+    @Benchmark
+    public Claims legacyParse() {
+        return Jwts.parserBuilder()
+                .setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+
+    @Benchmark
+    public Claims prebuiltParse() {
+        return provider.parse(token).getBody();
+    }
+
+    @Benchmark
+    public VerifiedTokenCache.VerifiedToken cachedVerify() {
+        return cache.verify(token);
+    }
+}
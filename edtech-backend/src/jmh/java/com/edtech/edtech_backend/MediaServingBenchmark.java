@@ -0,0 +1,150 @@
+package com.edtech.edtech_backend;
+
+import com.edtech.edtech_backend.controller.MediaController;
+import com.edtech.edtech_backend.service.MediaFileService;
+import com.edtech.edtech_backend.service.SegmentCacheService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.apache.catalina.Context;
+import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세그먼트 서빙 처리량 비교: 실제 MediaController.serve 를 임베디드 Tomcat(NIO, 루프백)에 올려 HTTP 로 받는다.
+ * - sendfile : 캐시 끔 + 임계값 0 → sendfile 요청 속성, 서블릿이 끝난 뒤 Tomcat 이 커널 zero-copy 로 전송
+ * - cachedBuffer : 핫 세그먼트 캐시 히트 → 메모리 버퍼를 응답 스트림에 씀
+ * - streamCopy : 캐시 끔 + sendfile 안 씀 → transferTo 로 응답 스트림 채널에 복사 (사용자 공간 복사)
+ * - classpathStreamCopy : 예전 방식 (ClassPathResource 스트림 복사) 기준선
+ * 클라이언트(HttpClient) 비용은 모든 경로에 똑같이 들어간다. 각 경로가 의도한 소스로 나갔는지는 setUp 에서 확인.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MediaServingBenchmark {
+
+    @Param({"mpd/init-stream0.m4s", "mpd/chunk_0_1.m4s", "mpd/chunk_0_3.m4s"})
+    public String segment;
+
+    private Tomcat tomcat;
+    private HttpClient client;
+    private String baseUrl;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        // 빌드 결과물의 static 디렉터리를 미디어 루트로 사용
+        String staticDir = new ClassPathResource("static").getFile().toPath().toString();
+        MediaFileService mediaFileService = new MediaFileService(staticDir);
+
+        SimpleMeterRegistry sendfileMetrics = new SimpleMeterRegistry();
+        SimpleMeterRegistry cacheMetrics = new SimpleMeterRegistry();
+        SimpleMeterRegistry streamMetrics = new SimpleMeterRegistry();
+        SegmentCacheService hotCache = segmentCache(mediaFileService, cacheMetrics, true);
+
+        tomcat = new Tomcat();
+        tomcat.setBaseDir(Files.createTempDirectory("bench-tomcat").toString());
+        Connector connector = new Connector();   // HTTP/1.1 NIO, sendfile 기본 사용
+        connector.setPort(0);
+        tomcat.setConnector(connector);
+        Context ctx = tomcat.addContext("", null);
+        mount(ctx, "sendfile", new MediaController(mediaFileService,
+                segmentCache(mediaFileService, sendfileMetrics, false), 0));
+        mount(ctx, "cachedBuffer", new MediaController(mediaFileService, hotCache, Long.MAX_VALUE));
+        mount(ctx, "streamCopy", new MediaController(mediaFileService,
+                segmentCache(mediaFileService, streamMetrics, false), Long.MAX_VALUE));
+        Tomcat.addServlet(ctx, "classpath", new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                try (InputStream in = new ClassPathResource("static" + req.getPathInfo()).getInputStream()) {
+                    in.transferTo(res.getOutputStream());
+                }
+            }
+        });
+        ctx.addServletMappingDecoded("/classpath/*", "classpath");
+        tomcat.start();
+
+        baseUrl = "http://127.0.0.1:" + connector.getLocalPort() + "/";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        // 두 번째 요청부터 백그라운드 적재 → 적재될 때까지 기다림
+        var file = mediaFileService.resolve(segment).orElseThrow();
+        while (hotCache.get(file).isEmpty()) Thread.sleep(10);
+
+        // 각 경로가 의도한 방식으로 나가는지 (sendfile 을 못 쓰면 streamCopy 와 같은 걸 재게 된다)
+        sendfile();
+        cachedBuffer();
+        streamCopy();
+        requireServed(sendfileMetrics, "sendfile");
+        requireServed(cacheMetrics, "cache");
+        requireServed(streamMetrics, "file");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws LifecycleException {
+        tomcat.stop();
+        tomcat.destroy();
+    }
+
+    @Benchmark
+    public long sendfile() throws Exception {
+        return get("sendfile");
+    }
+
+    @Benchmark
+    public long cachedBuffer() throws Exception {
+        return get("cachedBuffer");
+    }
+
+    @Benchmark
+    public long streamCopy() throws Exception {
+        return get("streamCopy");
+    }
+
+    @Benchmark
+    public long classpathStreamCopy() throws Exception {
+        return get("classpath");
+    }
+
+    private long get(String mount) throws Exception {
+        HttpResponse<byte[]> res = client.send(HttpRequest.newBuilder(URI.create(baseUrl + mount + "/" + segment)).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (res.statusCode() != 200) throw new IllegalStateException(mount + " -> " + res.statusCode());
+        return res.body().length;
+    }
+
+    private static void mount(Context ctx, String name, MediaController controller) {
+        Tomcat.addServlet(ctx, name, new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse res) throws IOException {
+                controller.serve(req.getPathInfo(), req, res);
+            }
+        });
+        ctx.addServletMappingDecoded("/" + name + "/*", name);
+    }
+
+    private static SegmentCacheService segmentCache(MediaFileService files, SimpleMeterRegistry metrics, boolean enabled) {
+        return new SegmentCacheService(files, metrics, enabled, 256L << 20, 16L << 20, 0, Duration.ofMinutes(10));
+    }
+
+    private static void requireServed(SimpleMeterRegistry metrics, String source) {
+        double bytes = metrics.get("media.bytes.served").tag("source", source).counter().count();
+        if (bytes <= 0) throw new IllegalStateException("expected bytes served via " + source);
+    }
+}
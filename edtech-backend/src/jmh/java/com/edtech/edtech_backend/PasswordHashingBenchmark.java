@@ -0,0 +1,91 @@
+package com.edtech.edtech_backend;
+
+import com.edtech.edtech_backend.security.JwtTokenProvider;
+import com.edtech.edtech_backend.security.VerifiedTokenCache;
+import com.edtech.edtech_backend.service.PasswordHashingService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그인 폭주 중 다른(가벼운) 요청의 지연 비교.
+ * 고정 크기 workers 풀이 Tomcat 워커 역할을 하고, 로그인/일반 요청이 모두 여기로 들어온다.
+ * - direct  : 워커가 직접 BCrypt 수행 (예전 방식) → 일반 요청이 워커를 못 잡고 줄을 선다
+ * - bounded : 워커는 PasswordHashingService 에 넘기고 바로 반환 (비동기 응답과 같은 모양)
+ * 로그인 스레드 수(GroupThreads)를 workers 수와 같게 두면 direct 쪽은 워커가 전부 해싱에 묶인다.
+ * 실행 예: gradle jmh -PjmhArgs="PasswordHashing"
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 3)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final int WORKERS = 4;
+
+    @Param({"10"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private PasswordHashingService hashing;
+    private ExecutorService workers;
+    private VerifiedTokenCache tokens;
+    private String storedHash;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        hashing = new PasswordHashingService(encoder, new SimpleMeterRegistry(), 0, 64, 2, false);
+        workers = Executors.newFixedThreadPool(WORKERS);
+        storedHash = encoder.encode("password1234");
+
+        JwtTokenProvider jwt = new JwtTokenProvider(JwtAuthBenchmark.SECRET, 3_600_000L);
+        tokens = new VerifiedTokenCache(jwt, new SimpleMeterRegistry(), 1000);
+        token = jwt.createToken(1L, "STUDENT", "student@example.com");
+        tokens.verify(token);
+    }
+
+    @TearDown
+    public void tearDown() {
+        workers.shutdownNow();
+    }
+
+    @Benchmark
+    @Group("direct")
+    @GroupThreads(WORKERS)
+    public boolean directLogin() {
+        return CompletableFuture.supplyAsync(() -> encoder.matches("password1234", storedHash), workers).join();
+    }
+
+    @Benchmark
+    @Group("direct")
+    @GroupThreads(1)
+    public Object directOtherRequest() {
+        return CompletableFuture.supplyAsync(() -> tokens.verify(token), workers).join();
+    }
+
+    @Benchmark
+    @Group("bounded")
+    @GroupThreads(WORKERS)
+    public boolean boundedLogin() {
+        return CompletableFuture.supplyAsync(() -> hashing.verify("password1234", storedHash), workers)
+                .thenCompose(f -> f)
+                .join()
+                .matched();
+    }
+
+    @Benchmark
+    @Group("bounded")
+    @GroupThreads(1)
+    public Object boundedOtherRequest() {
+        return CompletableFuture.supplyAsync(() -> tokens.verify(token), workers).join();
+    }
+}
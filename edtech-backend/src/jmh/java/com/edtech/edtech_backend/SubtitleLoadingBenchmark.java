@@ -0,0 +1,64 @@
+package com.edtech.edtech_backend;
+
+import com.edtech.edtech_backend.service.SubtitleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 퀴즈 생성 때마다 읽는 VTT 자막 로딩 비용 (SubtitleService.loadVttTextByPath).
+ * - absolutePath : 파일 경로로 저장된 자막 (cue 수로 길이 조절, 10분 강의 ≈ 150 cue)
+ * - classpath : '/vtt/...' 처럼 저장된 기본 자막 (리소스 로더 경유)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SubtitleLoadingBenchmark {
+
+    @Param({"150", "1500", "10000"})
+    public int cues;
+
+    private SubtitleService subtitleService;
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        subtitleService = new SubtitleService(new DefaultResourceLoader(), new SimpleMeterRegistry());
+
+        StringBuilder sb = new StringBuilder("WEBVTT\n\n");
+        for (int i = 0; i < cues; i++) {
+            sb.append(ts(i * 4000L)).append(" --> ").append(ts(i * 4000L + 3500)).append('\n')
+              .append("자막 ").append(i).append(" 번째 문장입니다. 강의 내용이 이어집니다.\n\n");
+        }
+        file = Files.createTempFile("bench-", ".vtt");
+        Files.writeString(file, sb, StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public String absolutePath() {
+        return subtitleService.loadVttTextByPath(file.toString());
+    }
+
+    @Benchmark
+    public String classpath() {
+        return subtitleService.loadVttTextByPath("/vtt/h265_1920.vtt");
+    }
+
+    private static String ts(long ms) {
+        return String.format("%02d:%02d:%02d.%03d", ms / 3_600_000, ms / 60_000 % 60, ms / 1000 % 60, ms % 1000);
+    }
+}
@@ -0,0 +1,229 @@
+package com.edtech.edtech_backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+/**
+ * 수업 한 개 시나리오: 관리자가 클래스/코스를 만들고, 학생 N 명이 단계별로 몰려든다 (강의 끝 무렵 패턴).
+ * register → login → enroll → 세션 업로드 → 최근 세션 조회 → 퀴즈 생성.
+ * 각 단계는 모든 학생이 concurrency 개 워커로 동시에 진행하고, 다음 단계는 앞 단계가 끝나야 시작.
+ */
+final class ClassroomScenario {
+
+    record Options(int students, int concurrency, int sessionsPerStudent, int intervalsPerSession, boolean quiz) {
+    }
+
+    record PhaseResult(String name, long millis) {
+    }
+
+    private static final String PASSWORD = "loadtest-pw";
+    // 해시 작업 큐나 수용 제어(admission)에 막히면 503/429 + Retry-After → 실제 클라이언트처럼 몇 번 다시 시도
+    private static final int MAX_RETRIES = 5;
+    private static final Set<Integer> SHED_STATUSES = Set.of(503, 429);
+
+    private final HttpClient http;
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LatencyRecorder recorder;
+    private final Options options;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final String[] tokens;
+    private final List<PhaseResult> phases = new ArrayList<>();
+
+    private long classId;
+    private long courseId;
+
+    ClassroomScenario(HttpClient http, String baseUrl, ObjectMapper objectMapper, LatencyRecorder recorder, Options options) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+        this.options = options;
+        this.tokens = new String[options.students()];
+    }
+
+    List<PhaseResult> phases() {
+        return phases;
+    }
+
+    /** 관리자 계정 + 클래스(정원 = 학생 수) + 코스. 강의(자막 경로) 연결은 API 가 없어서 JDBC 로 */
+    void setUp(JdbcTemplate jdbc) throws Exception {
+        String admin = "admin-" + runId + "@loadtest.local";
+        send(post("/api/auth/register", null, Map.of(
+                "email", admin, "password", PASSWORD, "name", "admin", "phone", "010", "role", "ADMIN")));
+        String adminToken = token(send(post("/api/auth/login", null, Map.of("email", admin, "password", PASSWORD))));
+
+        classId = json(send(post("/api/classes", adminToken, Map.of(
+                "title", "loadtest-" + runId, "tag", "#loadtest", "headcount", options.students())))).path("classId").asLong();
+        courseId = json(send(post("/api/classes/" + classId + "/courses", adminToken, Map.of(
+                "title", "lecture-" + runId)))).path("courseId").asLong();
+
+        jdbc.update("insert into lecture (title, mpd_path, vtt_path, created_at) values (?, ?, ?, current_timestamp)",
+                "loadtest-" + runId, "/mpd/output.mpd", "/vtt/h265_1920.vtt");
+        Long lectureId = jdbc.queryForObject("select max(lecture_id) from lecture", Long.class);
+        jdbc.update("update course set lecture_id = ? where course_id = ?", lectureId, courseId);
+    }
+
+    void run() throws Exception {
+        phase("register", i -> tokens[i] = token(retrying("POST /api/auth/register", () -> post("/api/auth/register", null, Map.of(
+                "email", email(i), "password", PASSWORD, "name", "student" + i, "phone", "010", "role", "STUDENT")))));
+        phase("login", i -> tokens[i] = token(retrying("POST /api/auth/login",
+                () -> post("/api/auth/login", null, Map.of("email", email(i), "password", PASSWORD)))));
+        phase("enroll", i -> retrying("POST /api/classes/{id}/enroll",
+                () -> post("/api/classes/" + classId + "/enroll", tokens[i], null)));
+        phase("upload", i -> {
+            for (int s = 0; s < options.sessionsPerStudent(); s++) {
+                Map<String, Object> body = session();
+                retrying("POST /api/focus/intervals", () -> post("/api/focus/intervals", tokens[i], body));
+            }
+        });
+        phase("latest", i -> retrying("GET /api/focus/intervals/latest", () -> get(
+                "/api/focus/intervals/latest?classId=" + classId + "&courseId=" + courseId, tokens[i])));
+        if (options.quiz()) {
+            phase("quiz", i -> retrying("POST /api/quizzes/.../generate", () -> post(
+                    "/api/quizzes/classes/" + classId + "/courses/" + courseId + "/generate", tokens[i], null)));
+        }
+    }
+
+    private void phase(String name, IntConsumer perStudent) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(options.concurrency());
+        long start = System.nanoTime();
+        try {
+            List<Future<?>> futures = new ArrayList<>(options.students());
+            for (int i = 0; i < options.students(); i++) {
+                int student = i;
+                futures.add(pool.submit(() -> perStudent.accept(student)));
+            }
+            for (Future<?> f : futures) f.get();
+        } finally {
+            pool.shutdownNow();
+        }
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        phases.add(new PhaseResult(name, millis));
+        System.out.printf("  %-9s %6d ms%n", name, millis);
+    }
+
+    private String email(int i) {
+        return "s" + i + "-" + runId + "@loadtest.local";
+    }
+
+    /** 한 세션: 수업 시간 동안의 집중 안함 구간 (2~20초, 점수 0~0.6) */
+    private Map<String, Object> session() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        long t = System.currentTimeMillis() - 3_600_000L;
+        long startedAt = t;
+        List<Map<String, Object>> intervals = new ArrayList<>(options.intervalsPerSession());
+        for (int k = 0; k < options.intervalsPerSession(); k++) {
+            t += 5_000 + r.nextInt(30_000);
+            long len = 2_000 + r.nextInt(18_000);
+            intervals.add(Map.of("start", t, "end", t + len, "durationSec", (int) (len / 1000),
+                    "avgScore", Math.round(r.nextDouble() * 6000) / 10000.0));
+            t += len;
+        }
+        return Map.of("classId", classId, "courseId", courseId, "startedAt", startedAt, "endedAt", t,
+                "totalDurationSec", (int) ((t - startedAt) / 1000), "intervals", intervals);
+    }
+
+    // ---- HTTP ----
+
+    private HttpRequest post(String path, String token, Object body) {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60));
+        if (token != null) b.header("Authorization", "Bearer " + token);
+        if (body == null) return b.POST(HttpRequest.BodyPublishers.noBody()).build();
+        try {
+            return b.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body))).build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private HttpRequest get(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(60))
+                .header("Authorization", "Bearer " + token).GET().build();
+    }
+
+    /**
+     * 503/429 + Retry-After 는 서버가 일부러 덜어낸 응답 → 기다렸다 다시 보내고, 그 응답은 오류가 아니라 shed 로 센다.
+     * 재시도를 다 써도 덜어내지면(끝내 처리 안 된 요청) 마지막 응답을 오류로 기록. Retry-After 없는 503 도 오류
+     */
+    private HttpResponse<byte[]> retrying(String endpoint, Supplier<HttpRequest> request) {
+        for (int attempt = 0; ; attempt++) {
+            long start = System.nanoTime();
+            HttpResponse<byte[]> res = exchange(request.get());
+            long took = System.nanoTime() - start;
+            OptionalLong retryAfter = retryAfter(res);
+            if (retryAfter.isEmpty() || attempt == MAX_RETRIES) {
+                recorder.record(endpoint, took, res == null ? 0 : res.statusCode());
+                return res;
+            }
+            recorder.shed(endpoint);
+            try {
+                Thread.sleep(retryAfter.getAsLong() * 1000 + ThreadLocalRandom.current().nextLong(250));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                recorder.record(endpoint, took, res.statusCode());
+                return res;
+            }
+        }
+    }
+
+    private static OptionalLong retryAfter(HttpResponse<byte[]> res) {
+        if (res == null || !SHED_STATUSES.contains(res.statusCode())) return OptionalLong.empty();
+        return res.headers().firstValueAsLong("Retry-After");
+    }
+
+    /** 연결 실패/타임아웃이면 null */
+    private HttpResponse<byte[]> exchange(HttpRequest request) {
+        try {
+            return http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** 준비 단계 요청: 기록하지 않고, 실패하면 바로 중단 (측정 대상 아님) */
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> res = http.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (res.statusCode() >= 400) {
+            throw new IllegalStateException("setup request failed: " + request.uri()
+                    + " -> " + res.statusCode() + " " + new String(res.body()));
+        }
+        return res;
+    }
+
+    private JsonNode json(HttpResponse<byte[]> res) {
+        try {
+            return objectMapper.readTree(res.body());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String token(HttpResponse<byte[]> res) {
+        if (res == null || res.statusCode() != 200) return null;
+        return json(res).path("token").asText(null);
+    }
+}
@@ -0,0 +1,63 @@
+package com.edtech.edtech_backend.loadtest;
+
+import com.edtech.edtech_backend.EdtechBackendApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 하네스 공통: --key=value 인자 분리 + loadtest 프로파일로 앱 기동.
+ * 키에 '.' 이 있으면 앱 설정(--spring.datasource.url=... 등), 없으면 하네스 옵션.
+ */
+final class Harness {
+
+    record Args(Map<String, String> options, Map<String, Object> appProps) {
+
+        String get(String key, String defaultValue) {
+            return options.getOrDefault(key, defaultValue);
+        }
+
+        int getInt(String key, int defaultValue) {
+            return options.containsKey(key) ? (int) parseCount(options.get(key)) : defaultValue;
+        }
+    }
+
+    private Harness() {
+    }
+
+    static Args parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        Map<String, Object> appProps = new LinkedHashMap<>();
+        for (String a : args) {
+            if (!a.startsWith("--") || !a.contains("=")) throw new IllegalArgumentException("expected --key=value: " + a);
+            String key = a.substring(2, a.indexOf('='));
+            String value = a.substring(a.indexOf('=') + 1);
+            if (key.contains(".")) appProps.put(key, value);
+            else options.put(key, value);
+        }
+        return new Args(options, appProps);
+    }
+
+    /** 명령행 인자로 넘겨야 application.yaml 값(server.port 등)보다 우선한다 */
+    static ConfigurableApplicationContext boot(Map<String, Object> appProps) {
+        Map<String, Object> props = new LinkedHashMap<>(appProps);
+        props.putIfAbsent("server.port", "0");
+        String[] appArgs = props.entrySet().stream()
+                .map(e -> "--" + e.getKey() + "=" + e.getValue())
+                .toArray(String[]::new);
+        return new SpringApplicationBuilder(EdtechBackendApplication.class)
+                .profiles("loadtest")
+                .run(appArgs);
+    }
+
+    /** "100000", "1e5", "100k", "10m" 모두 허용 */
+    static long parseCount(String s) {
+        String v = s.trim().toLowerCase();
+        if (v.endsWith("k")) return Math.round(Double.parseDouble(v.substring(0, v.length() - 1)) * 1_000);
+        if (v.endsWith("m")) return Math.round(Double.parseDouble(v.substring(0, v.length() - 1)) * 1_000_000);
+        return Math.round(Double.parseDouble(v));
+    }
+}
@@ -0,0 +1,40 @@
+package com.edtech.edtech_backend.loadtest;
+
+import com.edtech.edtech_backend.observability.JfrSummarizer;
+import com.edtech.edtech_backend.observability.JfrSummarizer.Stats;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * JFR 녹화 요약 CLI : ./gradlew jfrSummary -Pjfr=/tmp/edtech-jfr/recording-....jfr
+ * 파싱/집계는 앱의 JfrSummarizer (/actuator/jfr 와 같은 결과), 여기서는 표로 찍기만 한다.
+ */
+public final class JfrSummaryMain {
+
+    private JfrSummaryMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: JfrSummaryMain <recording.jfr>");
+            System.exit(2);
+        }
+        JfrSummarizer.Summary s = JfrSummarizer.summarize(Path.of(args[0]));
+        System.out.printf("%s  %s .. %s%n", args[0], s.start(), s.end());
+        print("operation", s.operations());
+        print("jvm", s.jvm());
+    }
+
+    private static void print(String title, List<Stats> rows) {
+        System.out.printf("%n%-28s %-13s %8s %10s %10s %10s %10s %12s%n",
+                title, "outcome", "count", "p50 ms", "p95 ms", "p99 ms", "max ms", "total ms");
+        for (Stats r : rows) {
+            System.out.printf("%-28s %-13s %8d %10.3f %10.3f %10.3f %10.3f %12.3f%n",
+                    r.name(), r.outcome() == null ? "-" : r.outcome(), r.count(),
+                    r.p50Ms(), r.p95Ms(), r.p99Ms(), r.maxMs(), r.totalMs());
+        }
+        if (rows.isEmpty()) System.out.println("(none)");
+    }
+}
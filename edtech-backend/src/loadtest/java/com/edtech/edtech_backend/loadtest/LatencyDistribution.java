@@ -0,0 +1,44 @@
+package com.edtech.edtech_backend.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 스텁 LLM 응답 지연 분포 (ms). 문자열로 지정:
+ * - none
+ * - fixed:800
+ * - uniform:300:2500
+ * - lognormal:900:0.6   (중앙값 ms, sigma) → 실제 LLM 처럼 꼬리가 긴 분포
+ */
+record LatencyDistribution(String kind, double a, double b) {
+
+    static LatencyDistribution parse(String spec) {
+        String[] p = spec.trim().split(":");
+        return switch (p[0]) {
+            case "none" -> new LatencyDistribution("none", 0, 0);
+            case "fixed" -> new LatencyDistribution("fixed", Double.parseDouble(p[1]), 0);
+            case "uniform" -> new LatencyDistribution("uniform", Double.parseDouble(p[1]), Double.parseDouble(p[2]));
+            case "lognormal" -> new LatencyDistribution("lognormal", Double.parseDouble(p[1]), Double.parseDouble(p[2]));
+            default -> throw new IllegalArgumentException("unknown latency spec: " + spec);
+        };
+    }
+
+    long sampleMs() {
+        ThreadLocalRandom r = ThreadLocalRandom.current();
+        return switch (kind) {
+            case "fixed" -> (long) a;
+            case "uniform" -> (long) (a + r.nextDouble() * (b - a));
+            case "lognormal" -> (long) (a * Math.exp(b * r.nextGaussian()));
+            default -> 0L;
+        };
+    }
+
+    @Override
+    public String toString() {
+        return switch (kind) {
+            case "fixed" -> "fixed:" + (long) a;
+            case "uniform" -> "uniform:" + (long) a + ":" + (long) b;
+            case "lognormal" -> "lognormal:" + (long) a + ":" + b;
+            default -> kind;
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.edtech.edtech_backend.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 엔드포인트별 응답 시간/상태 코드 기록. 요청 수가 많지 않아서(수만 건) 원본 값을 다 들고 정렬한다.
+ */
+final class LatencyRecorder {
+
+    private final Map<String, Series> series = new LinkedHashMap<>();
+
+    synchronized void record(String endpoint, long nanos, int status) {
+        series.computeIfAbsent(endpoint, k -> new Series()).add(nanos, status);
+    }
+
+    /** 덜어내져(503/429 + Retry-After) 다시 보낸 시도. 지연/오류에는 넣지 않는다 (바로 돌아오는 거절이 백분위를 끌어내림) */
+    synchronized void shed(String endpoint) {
+        series.computeIfAbsent(endpoint, k -> new Series()).shed++;
+    }
+
+    /** 엔드포인트별 요약. 처리량은 그 엔드포인트 첫 요청 시작 ~ 마지막 응답 사이 기준 */
+    synchronized List<Summary> summarize() {
+        List<Summary> out = new ArrayList<>(series.size());
+        series.forEach((endpoint, s) -> out.add(s.summary(endpoint)));
+        return out;
+    }
+
+    record Summary(String endpoint, int count, int errors, int shed, Map<Integer, Integer> statuses, double throughput,
+                   double p50Ms, double p90Ms, double p95Ms, double p99Ms, double maxMs) {
+    }
+
+    private static final class Series {
+        private long[] nanos = new long[1024];
+        private int size;
+        private int errors;
+        private int shed;
+        private final Map<Integer, Integer> statuses = new TreeMap<>();
+        private long firstStart = Long.MAX_VALUE;
+        private long lastEnd = Long.MIN_VALUE;
+
+        void add(long took, int status) {
+            if (size == nanos.length) nanos = Arrays.copyOf(nanos, size * 2);
+            nanos[size++] = took;
+            statuses.merge(status, 1, Integer::sum);
+            if (status == 0 || status >= 400) errors++; // 0 = 연결 실패/타임아웃
+            long end = System.nanoTime();
+            firstStart = Math.min(firstStart, end - took);
+            lastEnd = Math.max(lastEnd, end);
+        }
+
+        Summary summary(String endpoint) {
+            long[] sorted = Arrays.copyOf(nanos, size);
+            Arrays.sort(sorted);
+            double windowSec = Math.max(1e-9, (lastEnd - firstStart) / 1e9);
+            return new Summary(endpoint, size, errors, shed, Map.copyOf(statuses), size / windowSec,
+                    pct(sorted, 0.50), pct(sorted, 0.90), pct(sorted, 0.95), pct(sorted, 0.99),
+                    size == 0 ? 0 : sorted[size - 1] / 1e6);
+        }
+
+        private static double pct(long[] sorted, double q) {
+            if (sorted.length == 0) return 0;
+            int idx = (int) Math.ceil(q * sorted.length) - 1; // nearest-rank
+            return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1e6;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.edtech.edtech_backend.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * 부하 테스트 하네스 : ./gradlew loadTest [-PloadArgs="--students=200 --concurrency=50 ..."]
+ * <p>
+ * MariaDB/gpt-backend 없이 한 프로세스에서: 스텁 LLM(HttpServer) 기동 → 앱을 H2(MariaDB 모드)로 기동
+ * (loadtest 프로파일) → ClassroomScenario 실행 → 엔드포인트별 처리량/지연 백분위 출력 + JSON 저장.
+ * <p>
+ * 옵션 (기본값):
+ * --students=100 --concurrency=32 --sessions=1 --intervals=60 --quiz=true
+ * --llm-latency=lognormal:900:0.6 (none | fixed:ms | uniform:min:max | lognormal:medianMs:sigma)
+ * --report=build/reports/loadtest/results.json
+ * 그 밖의 --spring.xxx=... 는 앱 설정으로 그대로 넘긴다 (예: --spring.datasource.hikari.maximum-pool-size=20)
+ * <p>
+ * 종료 코드 1 은 실제 오류나 재시도를 다 써도 처리 안 된 요청이 있을 때만. 재시도로 넘긴 503/429 는 shed 열에만 센다
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Harness.Args opts = Harness.parse(args);
+        var options = new ClassroomScenario.Options(
+                opts.getInt("students", 100),
+                opts.getInt("concurrency", 32),
+                opts.getInt("sessions", 1),
+                opts.getInt("intervals", 60),
+                Boolean.parseBoolean(opts.get("quiz", "true")));
+        LatencyDistribution llmLatency = LatencyDistribution.parse(opts.get("llm-latency", "lognormal:900:0.6"));
+        Path report = Path.of(opts.get("report", "build/reports/loadtest/results.json"));
+
+        int exit = 0;
+        try (StubLlmServer stub = new StubLlmServer(llmLatency)) {
+            Map<String, Object> appProps = new LinkedHashMap<>(opts.appProps());
+            appProps.put("llm.base-url", stub.baseUrl());
+            ConfigurableApplicationContext ctx = Harness.boot(appProps);
+            try {
+                int port = ((WebServerApplicationContext) ctx).getWebServer().getPort();
+                HttpClient http = HttpClient.newBuilder()
+                        .connectTimeout(Duration.ofSeconds(5))
+                        .executor(Executors.newFixedThreadPool(4))
+                        .build();
+                ObjectMapper objectMapper = new ObjectMapper();
+                LatencyRecorder recorder = new LatencyRecorder();
+
+                System.out.printf("%nloadtest: %s, llm-latency=%s, app=http://127.0.0.1:%d%n", options, llmLatency, port);
+                var scenario = new ClassroomScenario(http, "http://127.0.0.1:" + port, objectMapper, recorder, options);
+                scenario.setUp(ctx.getBean(JdbcTemplate.class));
+                long start = System.nanoTime();
+                scenario.run();
+                long totalMs = (System.nanoTime() - start) / 1_000_000;
+
+                var summaries = recorder.summarize();
+                print(summaries, totalMs, stub);
+                for (var s : summaries) if (s.errors() > 0) exit = 1;
+
+                Map<String, Object> out = new LinkedHashMap<>();
+                out.put("finishedAt", Instant.now().toString());
+                out.put("options", options);
+                out.put("llmLatency", llmLatency.toString());
+                out.put("totalMillis", totalMs);
+                out.put("phases", scenario.phases());
+                out.put("endpoints", summaries);
+                Files.createDirectories(report.toAbsolutePath().getParent());
+                objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), out);
+                System.out.println("report: " + report.toAbsolutePath());
+            } finally {
+                ctx.close();
+            }
+        }
+        System.exit(exit); // 클라이언트/스텁 풀 스레드 정리
+    }
+
+    private static void print(Iterable<LatencyRecorder.Summary> summaries, long totalMs, StubLlmServer stub) {
+        System.out.printf("%n%-34s %7s %6s %6s %9s %9s %9s %9s %9s %9s  %s%n",
+                "endpoint", "count", "errors", "shed", "req/s", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms", "status");
+        for (var s : summaries) {
+            System.out.printf("%-34s %7d %6d %6d %9.1f %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    s.endpoint(), s.count(), s.errors(), s.shed(), s.throughput(),
+                    s.p50Ms(), s.p90Ms(), s.p95Ms(), s.p99Ms(), s.maxMs(), s.statuses());
+        }
+        System.out.printf("%ntotal %d ms, stub LLM %d requests (%d KB received)%n",
+                totalMs, stub.requests(), stub.requestBytes() / 1024);
+    }
+}
@@ -0,0 +1,170 @@
+package com.edtech.edtech_backend.loadtest;
+
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
+import com.edtech.edtech_backend.repository.CourseRepository;
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import com.edtech.edtech_backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * 저장소 쿼리 규모별 성능 : ./gradlew queryScaling [-PscalingArgs="--scales=1e3,1e4,1e5,1e6 ..."]
+ * <p>
+ * 규모(focus_intervals 행 수)마다 앱을 새로 띄워(ddl create) SyntheticDataset 으로 채우고,
+ * 주요 저장소 쿼리를 샘플 키로 반복 호출해 중앙값/p95 를 잰다. 마지막에 쿼리 × 규모 표와
+ * 규모 대비 증가 기울기(log-log)를 출력 — 1 에 가까우면 테이블 크기에 비례 = 인덱스를 못 타는 중.
+ * <p>
+ * 옵션 (기본값): --scales=1e3,1e4,1e5 --seed=42 --iterations=30 --warmup=200 --batch-size=1000
+ * --report=build/reports/loadtest/query-scaling.json
+ * H2 메모리로는 1e6 정도까지. 1e7 은 MariaDB 로:
+ * --spring.datasource.url=jdbc:mariadb://.../edtech_scaling --spring.datasource.driver-class-name=org.mariadb.jdbc.Driver
+ * --spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MariaDBDialect (해당 DB 의 테이블은 매번 다시 만든다)
+ */
+public final class QueryScalingMain {
+
+    private QueryScalingMain() {
+    }
+
+    private record Query(String name, ToIntFunction<SyntheticDataset.Session> call) {
+    }
+
+    record Timing(String query, long scale, double medianMs, double p95Ms, double avgRows) {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Harness.Args opts = Harness.parse(args);
+        long[] scales = Arrays.stream(opts.get("scales", "1e3,1e4,1e5").split(","))
+                .mapToLong(Harness::parseCount).toArray();
+        long seed = Long.parseLong(opts.get("seed", "42"));
+        int iterations = opts.getInt("iterations", 30);
+        int warmup = opts.getInt("warmup", 200);
+        int batchSize = opts.getInt("batch-size", 1000);
+        Path report = Path.of(opts.get("report", "build/reports/loadtest/query-scaling.json"));
+
+        List<Timing> timings = new ArrayList<>();
+        List<Map<String, Object>> datasets = new ArrayList<>();
+        for (long scale : scales) {
+            ConfigurableApplicationContext ctx = Harness.boot(opts.appProps());
+            try {
+                var volume = SyntheticDataset.Volume.forIntervals(scale);
+                var data = new SyntheticDataset(ctx.getBean(JdbcTemplate.class), batchSize).generate(volume, seed, 200);
+                System.out.printf("%nscale %,d: %s%n  loaded %,d rows in %,d ms (users %,d, classes %,d, enrollments %,d, sessions %,d, intervals %,d)%n",
+                        scale, volume, data.totalRows(), data.millis(), data.users(), data.classes(),
+                        data.enrollments(), data.sessions(), data.intervals());
+                Map<String, Object> ds = new LinkedHashMap<>();
+                ds.put("scale", scale);
+                ds.put("volume", volume);
+                ds.put("rows", Map.of("users", data.users(), "classes", data.classes(), "courses", data.courses(),
+                        "enrollments", data.enrollments(), "sessions", data.sessions(), "intervals", data.intervals()));
+                ds.put("loadMillis", data.millis());
+                datasets.add(ds);
+
+                List<Query> queries = queries(ctx);
+                // 첫 규모는 JIT/Hibernate 쿼리 계획 캐시가 비어 있어서, 전체를 먼저 충분히 돌린다
+                for (Query q : queries) {
+                    for (int i = 0; i < warmup; i++) q.call().applyAsInt(data.sampleSessions().get(i % data.sampleSessions().size()));
+                }
+                for (Query q : queries) {
+                    Timing t = time(q, data.sampleSessions(), iterations, scale);
+                    timings.add(t);
+                    System.out.printf("  %-44s median %8.3f ms  p95 %8.3f ms  rows %8.1f%n", q.name(), t.medianMs(), t.p95Ms(), t.avgRows());
+                }
+            } finally {
+                ctx.close();
+            }
+        }
+
+        printMatrix(timings, scales);
+
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("finishedAt", Instant.now().toString());
+        out.put("seed", seed);
+        out.put("iterations", iterations);
+        out.put("datasets", datasets);
+        out.put("timings", timings);
+        Files.createDirectories(report.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(report.toFile(), out);
+        System.out.println("report: " + report.toAbsolutePath());
+        System.exit(0);
+    }
+
+    /** 요청 경로에서 쓰는 저장소 쿼리들. 결과 행 수를 돌려준다 */
+    private static List<Query> queries(ConfigurableApplicationContext ctx) {
+        var cea = ctx.getBean(CourseEngagementAnalyticsRepository.class);
+        var enrollments = ctx.getBean(EnrollmentRepository.class);
+        var classes = ctx.getBean(ClassRepository.class);
+        var courses = ctx.getBean(CourseRepository.class);
+        var users = ctx.getBean(UserRepository.class);
+        return List.of(
+                new Query("cea.findLatest", s -> cea.findLatest(s.classId(), s.courseId(), s.email()).isPresent() ? 1 : 0),
+                new Query("cea.findSessions(limit 20)", s -> cea.findSessions(s.classId(), s.courseId(), s.email(), Limit.of(20)).size()),
+                new Query("cea.findSessionRowsBefore(limit 20)", s -> cea.findSessionRowsBefore(
+                        s.classId(), s.courseId(), s.email(), Long.MAX_VALUE, Limit.of(20)).size()),
+                new Query("cea.findIntervalRows(1 session)", s -> cea.findIntervalRows(List.of(s.sessionId())).size()),
+                new Query("cea.existsWithIntervals", s -> cea.existsByClassIdAndCourseIdAndUserIdAndAttentionArrNotEmpty(
+                        s.classId(), s.courseId(), s.email()) ? 1 : 0),
+                new Query("cea.findLatestSummaries", s -> cea.findLatestSummaries(s.email()).size()),
+                new Query("enrollment.findStudentRowsAfter(limit 50)", s -> enrollments.findStudentRowsAfter(s.classId(), 0L, Limit.of(50)).size()),
+                new Query("enrollment.findStatusesByClassId", s -> enrollments.findStatusesByClassId(s.classId()).size()),
+                new Query("enrollment.findApprovedClassIdsByEmail", s -> enrollments.findApprovedClassIdsByEmail(s.email()).size()),
+                new Query("enrollment.findDashboardClasses", s -> enrollments.findDashboardClasses(s.userId()).size()),
+                new Query("enrollment.findMemberEmailsByClassId", s -> enrollments.findMemberEmailsByClassId(s.classId()).size()),
+                new Query("enrollment.findWaitlistedIds(limit 10)", s -> enrollments.findWaitlistedIds(s.classId(), Limit.of(10)).size()),
+                new Query("enrollment.findClassIdsWithWaitlist", s -> enrollments.findClassIdsWithWaitlist().size()),
+                new Query("class.findSummariesAfter(limit 20)", s -> classes.findSummariesAfter(s.classId(), Limit.of(20)).size()),
+                new Query("course.findDashboardRows(1 class)", s -> courses.findDashboardRows(List.of(s.classId())).size()),
+                new Query("user.findByEmail", s -> users.findByEmail(s.email()).isPresent() ? 1 : 0));
+    }
+
+    private static Timing time(Query q, List<SyntheticDataset.Session> samples, int iterations, long scale) {
+        long[] nanos = new long[iterations];
+        long rows = 0;
+        for (int i = 0; i < iterations; i++) {
+            var s = samples.get((i * 7919) % samples.size());
+            long t0 = System.nanoTime();
+            rows += q.call().applyAsInt(s);
+            nanos[i] = System.nanoTime() - t0;
+        }
+        Arrays.sort(nanos);
+        return new Timing(q.name(), scale, nanos[iterations / 2] / 1e6,
+                nanos[Math.min(iterations - 1, (int) Math.ceil(iterations * 0.95) - 1)] / 1e6, (double) rows / iterations);
+    }
+
+    private static void printMatrix(List<Timing> timings, long[] scales) {
+        System.out.printf("%nmedian ms by scale (focus_intervals rows)%n%-44s", "query");
+        for (long s : scales) System.out.printf(" %12s", String.format("%,d", s));
+        System.out.printf(" %8s%n", scales.length > 1 ? "slope" : "");
+
+        Map<String, double[]> byQuery = new LinkedHashMap<>();
+        for (Timing t : timings) {
+            int idx = 0;
+            while (scales[idx] != t.scale()) idx++;
+            byQuery.computeIfAbsent(t.query(), k -> new double[scales.length])[idx] = t.medianMs();
+        }
+        byQuery.forEach((name, ms) -> {
+            System.out.printf("%-44s", name);
+            for (double m : ms) System.out.printf(" %12.3f", m);
+            if (scales.length > 1) {
+                // log-log 기울기: 0 ≈ 규모와 무관(인덱스), 1 ≈ 행 수에 비례(스캔)
+                double slope = Math.log10(Math.max(ms[ms.length - 1], 1e-3) / Math.max(ms[0], 1e-3))
+                        / Math.log10((double) scales[scales.length - 1] / scales[0]);
+                System.out.printf(" %8.2f%s", slope, slope >= 0.5 ? "  << grows with table size" : "");
+            }
+            System.out.println();
+        });
+    }
+}
@@ -0,0 +1,92 @@
+package com.edtech.edtech_backend.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * gpt-backend 대신 쓰는 프로세스 내 스텁. POST /llm/quiz-from-intervals 만 흉내낸다.
+ * 요청 본문(VTT + 구간)은 끝까지 읽고, 지연 분포만큼 기다린 뒤 고정 퀴즈 5문항을 돌려준다.
+ */
+final class StubLlmServer implements AutoCloseable {
+
+    private static final byte[] QUIZ = ("["
+            + "{\"question\":\"Q1\",\"options\":[{\"label\":\"A\",\"text\":\"a\"},{\"label\":\"B\",\"text\":\"b\"},"
+            + "{\"label\":\"C\",\"text\":\"c\"},{\"label\":\"D\",\"text\":\"d\"}],\"answer\":\"A\",\"type\":\"MCQ\"},"
+            + "{\"question\":\"Q2\",\"options\":[{\"label\":\"O\",\"text\":\"O\"},{\"label\":\"X\",\"text\":\"X\"}],\"answer\":\"O\",\"type\":\"OX\"},"
+            + "{\"question\":\"Q3\",\"options\":[{\"label\":\"A\",\"text\":\"a\"},{\"label\":\"B\",\"text\":\"b\"}],\"answer\":\"B\",\"type\":\"MCQ\"},"
+            + "{\"question\":\"Q4\",\"options\":[{\"label\":\"O\",\"text\":\"O\"},{\"label\":\"X\",\"text\":\"X\"}],\"answer\":\"X\",\"type\":\"OX\"},"
+            + "{\"question\":\"Q5\",\"options\":[{\"label\":\"A\",\"text\":\"a\"},{\"label\":\"B\",\"text\":\"b\"}],\"answer\":\"A\",\"type\":\"MCQ\"}"
+            + "]").getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final LatencyDistribution latency;
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong requestBytes = new AtomicLong();
+
+    StubLlmServer(LatencyDistribution latency) throws IOException {
+        this.latency = latency;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        // 지연 동안 스레드를 잡고 있으므로 동시 요청 수만큼 늘어나는 풀
+        this.executor = Executors.newCachedThreadPool(r -> {
+            Thread t = new Thread(r, "stub-llm");
+            t.setDaemon(true);
+            return t;
+        });
+        server.createContext("/llm/quiz-from-intervals", this::handleQuiz);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    long requests() {
+        return requests.get();
+    }
+
+    long requestBytes() {
+        return requestBytes.get();
+    }
+
+    private void handleQuiz(HttpExchange ex) throws IOException {
+        try (ex; InputStream in = ex.getRequestBody()) {
+            if (!"POST".equals(ex.getRequestMethod())) {
+                ex.sendResponseHeaders(405, -1);
+                return;
+            }
+            requestBytes.addAndGet(in.readAllBytes().length);
+            requests.incrementAndGet();
+            long delay = latency.sampleMs();
+            if (delay > 0) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            ex.getResponseHeaders().add("Content-Type", "application/json");
+            ex.sendResponseHeaders(200, QUIZ.length);
+            try (OutputStream out = ex.getResponseBody()) {
+                out.write(QUIZ);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,40 @@
+package com.edtech.edtech_backend.loadtest;
+
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 합성 데이터만 적재 : ./gradlew generateDataset -PdatasetArgs="--intervals=1e6 --seed=7 --spring.datasource.url=..."
+ * 개발 DB 에 덧붙일 때는 --spring.jpa.hibernate.ddl-auto=update 로 (loadtest 프로파일 기본값은 create).
+ * 규모를 직접 정하려면 --users/--classes/--courses-per-class/--classes-per-user/--sessions/--intervals-per-session.
+ */
+public final class SyntheticDataMain {
+
+    private SyntheticDataMain() {
+    }
+
+    public static void main(String[] args) {
+        Harness.Args opts = Harness.parse(args);
+        var base = SyntheticDataset.Volume.forIntervals(Harness.parseCount(opts.get("intervals", "1e5")));
+        var volume = new SyntheticDataset.Volume(
+                opts.getInt("users", base.users()),
+                opts.getInt("classes", base.classes()),
+                opts.getInt("courses-per-class", base.coursesPerClass()),
+                opts.getInt("classes-per-user", base.classesPerUser()),
+                opts.getInt("sessions", base.sessionsPerEnrollment()),
+                opts.getInt("intervals-per-session", base.intervalsPerSession()));
+        long seed = Long.parseLong(opts.get("seed", "42"));
+
+        ConfigurableApplicationContext ctx = Harness.boot(opts.appProps());
+        try {
+            var data = new SyntheticDataset(ctx.getBean(JdbcTemplate.class), opts.getInt("batch-size", 1000))
+                    .generate(volume, seed, 0);
+            System.out.printf("%n%s seed=%d%nloaded %,d rows in %,d ms: users %,d, classes %,d, courses %,d, enrollments %,d, sessions %,d, intervals %,d%n",
+                    volume, seed, data.totalRows(), data.millis(), data.users(), data.classes(), data.courses(),
+                    data.enrollments(), data.sessions(), data.intervals());
+        } finally {
+            ctx.close();
+        }
+        System.exit(0);
+    }
+}
@@ -0,0 +1,254 @@
+package com.edtech.edtech_backend.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * 집중도 데이터 합성기. 같은 seed 면 같은 데이터 (행 순서/값/샘플 키까지).
+ * <p>
+ * 사용자 → 클래스(약 40명) → 코스 → 수강 → 세션 → 집중 안함 구간 순서로 JDBC batch insert.
+ * id 는 테이블의 현재 max+1 부터 직접 넣어서 이미 데이터가 있는 DB 에도 덧붙일 수 있다.
+ * <p>
+ * 집중도 모델 (구간 = 집중 안함으로 감지된 구간):
+ * - 학생마다 기본 집중도 ~ Beta(5, 2.5) (대부분 0.6~0.8, 일부 낮은 학생)
+ * - 집중도가 낮을수록 구간이 자주 생김 (간격 ~ 지수분포, 평균 ∝ 기본 집중도)
+ * - 강의 후반일수록 피로로 점수가 내려감, 구간 길이 ~ 로그정규 (중앙값 6초, 긴 꼬리)
+ */
+final class SyntheticDataset {
+
+    static final String PASSWORD_HASH = "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BxAF.Y2ZQ9ZQ0N8lZ2rTj6p0RD5S";
+    private static final int STUDENTS_PER_CLASS = 40;
+
+    /** 생성 규모. intervalsPerSession 은 평균 (학생 집중도에 따라 달라짐) */
+    record Volume(int users, int classes, int coursesPerClass, int classesPerUser,
+                  int sessionsPerEnrollment, int intervalsPerSession) {
+
+        /** focus_intervals 행 수가 대략 target 이 되도록 (가장 큰 테이블 기준 규모) */
+        static Volume forIntervals(long target) {
+            int classesPerUser = 3;
+            int sessions = 4;
+            int intervals = 20;
+            int users = (int) Math.max(5, target / ((long) classesPerUser * sessions * intervals));
+            int classes = Math.max(classesPerUser, users * classesPerUser / STUDENTS_PER_CLASS);
+            return new Volume(users, classes, 8, classesPerUser, sessions, intervals);
+        }
+    }
+
+    record Session(long sessionId, long classId, long courseId, long userId, String email) {
+    }
+
+    /** 실제 들어간 행 수 + 조회 성능 측정용 샘플 키 */
+    record Result(long users, long classes, long courses, long enrollments, long sessions, long intervals,
+                  long millis, List<Session> sampleSessions) {
+        long totalRows() {
+            return users + classes + courses + enrollments + sessions + intervals;
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+    private final int batchSize;
+
+    SyntheticDataset(JdbcTemplate jdbc, int batchSize) {
+        this.jdbc = jdbc;
+        this.batchSize = batchSize;
+    }
+
+    Result generate(Volume v, long seed, int sampleSize) {
+        long started = System.nanoTime();
+        Random rnd = new Random(seed);
+        SplittableRandom scoreRnd = new SplittableRandom(seed ^ 0x5DEECE66DL);
+        Instant epoch = Instant.parse("2025-03-03T00:00:00Z");
+
+        long userBase = nextId("user", "user_id");
+        long classBase = nextId("class_entity", "class_id");
+        long courseBase = nextId("course", "course_id");
+        long enrollmentBase = nextId("enrollment", "id");
+        long sessionBase = nextId("course_engagement_analytics", "course_analytics_id");
+
+        // 1) 사용자
+        Batch users = new Batch("insert into user (user_id, email, name, password_hash, phone, role) values (?, ?, ?, ?, ?, ?)");
+        double[] baseline = new double[v.users()];
+        for (int u = 0; u < v.users(); u++) {
+            baseline[u] = beta(scoreRnd, 5, 2.5);
+            users.add(userBase + u, email(userBase + u), "student" + (userBase + u), PASSWORD_HASH, "010", "STUDENT");
+        }
+        users.flush();
+
+        // 2) 클래스 + 코스
+        Batch classes = new Batch("insert into class_entity (class_id, title, tag, headcount, enrolled_count) values (?, ?, ?, ?, 0)");
+        Batch courses = new Batch("insert into course (course_id, title, tag, instructor, class_id) values (?, ?, ?, ?, ?)");
+        for (int c = 0; c < v.classes(); c++) {
+            long classId = classBase + c;
+            classes.add(classId, "class-" + classId, "#synthetic", STUDENTS_PER_CLASS + 10);
+        }
+        classes.flush();
+        for (int c = 0; c < v.classes(); c++) {
+            for (int k = 0; k < v.coursesPerClass(); k++) {
+                long courseId = courseBase + (long) c * v.coursesPerClass() + k;
+                courses.add(courseId, "course-" + courseId, "#synthetic", "teacher" + (c % 50), classBase + c);
+            }
+        }
+        courses.flush();
+
+        // 3) 수강 → 세션 → 구간
+        Batch enrollments = new Batch("insert into enrollment (id, user_id, class_id, status, created_at) values (?, ?, ?, ?, ?)");
+        Batch sessions = new Batch("""
+                insert into course_engagement_analytics
+                  (course_analytics_id, class_id, course_id, user_email, started_at, ended_at, total_duration_sec, created_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?)""");
+        Batch intervals = new Batch(sessions, "insert into focus_intervals (course_analytics_id, start_at, end_at, duration_sec, avg_score) values (?, ?, ?, ?, ?)");
+
+        List<Session> sample = new ArrayList<>(sampleSize);
+        long enrollmentId = enrollmentBase;
+        long sessionId = sessionBase;
+        long sessionSeen = 0;
+        int perUser = Math.min(v.classesPerUser(), v.classes());
+        for (int u = 0; u < v.users(); u++) {
+            long userId = userBase + u;
+            String email = email(userId);
+            // 사용자마다 연속된 클래스 몇 개 (한 반 ≈ 40명이 되도록 시작점만 무작위)
+            int first = rnd.nextInt(v.classes());
+            for (int j = 0; j < perUser; j++) {
+                long classId = classBase + (first + j) % v.classes();
+                boolean waitlisted = rnd.nextDouble() < 0.03;
+                Instant enrolledAt = epoch.plus(rnd.nextInt(14 * 24 * 60), ChronoUnit.MINUTES);
+                enrollments.add(enrollmentId++, userId, classId, waitlisted ? "WAITLISTED" : "APPROVED", Timestamp.from(enrolledAt));
+                if (waitlisted) continue;
+
+                for (int s = 0; s < v.sessionsPerEnrollment(); s++) {
+                    long courseId = courseBase + (classId - classBase) * v.coursesPerClass() + rnd.nextInt(v.coursesPerClass());
+                    Instant start = enrolledAt.plus(1 + rnd.nextInt(60), ChronoUnit.DAYS).plusSeconds(rnd.nextInt(8 * 3600));
+                    int lectureSec = 1200 + rnd.nextInt(2400);
+                    Instant end = start.plusSeconds(lectureSec);
+                    sessions.add(sessionId, classId, courseId, email, Timestamp.from(start), Timestamp.from(end),
+                            lectureSec, Timestamp.from(end.plusSeconds(rnd.nextInt(30))));
+                    addIntervals(intervals, scoreRnd, sessionId, start, lectureSec, baseline[u], v.intervalsPerSession());
+
+                    // reservoir sampling → 규모와 상관없이 고르게 뽑힌 세션 키
+                    Session key = new Session(sessionId, classId, courseId, userId, email);
+                    sessionSeen++;
+                    if (sample.size() < sampleSize) sample.add(key);
+                    else {
+                        long r = (long) (rnd.nextDouble() * sessionSeen);
+                        if (r < sampleSize) sample.set((int) r, key);
+                    }
+                    sessionId++;
+                }
+            }
+            if (sessions.pending() >= batchSize) sessions.flush();
+            if (enrollments.pending() >= batchSize) enrollments.flush();
+        }
+        enrollments.flush();
+        sessions.flush();
+        intervals.flush();
+
+        jdbc.update("""
+                update class_entity c
+                set enrolled_count = (select count(*) from enrollment e where e.class_id = c.class_id and e.status = 'APPROVED')
+                where c.class_id >= ?""", classBase);
+
+        return new Result(users.total, classes.total, courses.total, enrollments.total, sessions.total, intervals.total,
+                (System.nanoTime() - started) / 1_000_000, sample);
+    }
+
+    /** 한 세션의 집중 안함 구간들 (시간 순, 겹치지 않음) */
+    private void addIntervals(Batch out, SplittableRandom r, long sessionId, Instant start, int lectureSec,
+                              double baseline, int meanCount) {
+        // 집중도가 낮을수록 간격이 짧다: 평균 간격 = 강의 길이 / (평균 개수 * (1.6 - 기본 집중도) 보정)
+        double meanGap = lectureSec / (meanCount * (1.6 - baseline) / 0.9);
+        double t = exponential(r, meanGap);
+        while (t < lectureSec) {
+            double progress = t / lectureSec;
+            int duration = (int) Math.max(1, Math.min(300, Math.round(6 * Math.exp(0.8 * gaussian(r)))));
+            // 감지된 구간 평균 점수: 기본보다 낮고, 후반일수록 더 낮음
+            double score = baseline * (0.75 - 0.25 * progress) + 0.08 * gaussian(r);
+            score = Math.round(Math.max(0.0, Math.min(1.0, score)) * 10000) / 10000.0;
+            Instant s = start.plusMillis((long) (t * 1000));
+            out.add(sessionId, Timestamp.from(s), Timestamp.from(s.plusSeconds(duration)), duration, score);
+            t += duration + exponential(r, meanGap);
+        }
+    }
+
+    private long nextId(String table, String column) {
+        Long max = jdbc.queryForObject("select max(" + column + ") from " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    static String email(long userId) {
+        return "u" + userId + "@synthetic.local";
+    }
+
+    // ---- 분포 ----
+
+    private static double exponential(SplittableRandom r, double mean) {
+        return -mean * Math.log(1 - r.nextDouble());
+    }
+
+    private static double gaussian(SplittableRandom r) {
+        // Box-Muller (SplittableRandom 에는 nextGaussian 이 없음)
+        double u1 = 1 - r.nextDouble();
+        double u2 = r.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+
+    private static double beta(SplittableRandom r, double a, double b) {
+        double x = gamma(r, a);
+        double y = gamma(r, b);
+        return x / (x + y);
+    }
+
+    /** Marsaglia-Tsang (shape >= 1) */
+    private static double gamma(SplittableRandom r, double shape) {
+        double d = shape - 1.0 / 3;
+        double c = 1 / Math.sqrt(9 * d);
+        while (true) {
+            double x = gaussian(r);
+            double v = 1 + c * x;
+            if (v <= 0) continue;
+            v = v * v * v;
+            double u = r.nextDouble();
+            if (Math.log(u) < 0.5 * x * x + d - d * v + d * Math.log(v)) return d * v;
+        }
+    }
+
+    /** batchSize 마다 jdbc.batchUpdate. parent 가 있으면 (FK 대상) 그쪽을 먼저 flush */
+    private final class Batch {
+        private final Batch parent;
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>();
+        private long total;
+
+        Batch(String sql) {
+            this(null, sql);
+        }
+
+        Batch(Batch parent, String sql) {
+            this.parent = parent;
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= batchSize) flush();
+        }
+
+        int pending() {
+            return rows.size();
+        }
+
+        void flush() {
+            if (parent != null) parent.flush();
+            if (rows.isEmpty()) return;
+            jdbc.batchUpdate(sql, rows);
+            total += rows.size();
+            rows.clear();
+        }
+    }
+}
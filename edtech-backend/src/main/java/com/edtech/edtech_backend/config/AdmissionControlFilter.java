@@ -0,0 +1,266 @@
+package com.edtech.edtech_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 엔드포인트 그룹별 입장 제어 (admission.groups.*).
+ * 강의 종료 직후 업로드(DB), 퀴즈 생성(LLM), 로그인 폭주(CPU)가 서로 다른 병목이라 그룹마다 따로 한도를 둔다.
+ * <p>
+ * - 그룹마다 GradientLimiter: 지연이 평소보다 늘면 동시 처리 한도를 줄이고, 여유가 있으면 늘린다
+ * - 우선순위: GET/HEAD = INTERACTIVE, 그 외 = NORMAL, bulk-paths = BULK (한도가 줄면 BULK 부터 거절)
+ * - 그룹 한도 초과 → 503, 한 클라이언트가 per-client-limit 초과 → 429, 둘 다 Retry-After
+ * - 인증/비즈니스 로직 전에 거절하도록 보안 필터보다 앞 (요청 ID/접근 로그는 남게 RequestIdFilter 뒤)
+ * - 비동기 응답(로그인/가입의 CompletableFuture)은 실제로 끝날 때 반납
+ * - OPTIONS(CORS preflight)는 세지 않는다. 보안 필터 체인의 CorsFilter 보다 앞이라 거절 응답에는
+ *   같은 corsConfigurationSource 로 CORS 헤더를 직접 붙인다 (안 붙이면 브라우저가 503/429 와 Retry-After 를 못 읽음)
+ * <p>
+ * 결정은 admission.requests{group, priority, outcome}, 한도/처리 중 수는 admission.limit / admission.inflight{group}.
+ * 어느 그룹에도 안 맞는 요청(actuator 등)은 제한하지 않는다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 5)
+@ConditionalOnProperty(name = "admission.enabled", havingValue = "true")
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    /** admission.groups.{name}.* — paths/bulk-paths 는 "/api/x/**" 또는 "POST /api/x" */
+    public record Settings(List<String> paths,
+                           @DefaultValue List<String> bulkPaths,
+                           @DefaultValue("20") int initialLimit,
+                           @DefaultValue("4") int minLimit,
+                           @DefaultValue("200") int maxLimit,
+                           @DefaultValue("1.5") double tolerance,
+                           @DefaultValue("0") int perClientLimit,
+                           @DefaultValue("PT1S") Duration retryAfter) {
+    }
+
+    private record Route(String method, PathPattern pattern) {
+        boolean matches(HttpServletRequest req, PathContainer path) {
+            return (method == null || method.equals(req.getMethod())) && pattern.matches(path);
+        }
+    }
+
+    private static final class Group {
+        final String name;
+        final Settings settings;
+        final List<Route> paths;
+        final List<Route> bulkPaths;
+        final GradientLimiter limiter;
+        final Map<String, AtomicInteger> perClient = new ConcurrentHashMap<>();
+        final Map<GradientLimiter.Priority, Counter> accepted = new EnumMap<>(GradientLimiter.Priority.class);
+        final Map<GradientLimiter.Priority, Counter> shed = new EnumMap<>(GradientLimiter.Priority.class);
+        final Map<GradientLimiter.Priority, Counter> throttled = new EnumMap<>(GradientLimiter.Priority.class);
+
+        Group(String name, Settings settings, MeterRegistry registry) {
+            this.name = name;
+            this.settings = settings;
+            this.paths = routes(settings.paths());
+            this.bulkPaths = routes(settings.bulkPaths());
+            this.limiter = new GradientLimiter(settings.initialLimit(), settings.minLimit(), settings.maxLimit(), settings.tolerance());
+            for (GradientLimiter.Priority p : GradientLimiter.Priority.values()) {
+                accepted.put(p, decisions(registry, name, p, "accepted"));
+                shed.put(p, decisions(registry, name, p, "shed"));
+                throttled.put(p, decisions(registry, name, p, "throttled"));
+            }
+            Gauge.builder("admission.limit", limiter, GradientLimiter::limit).tag("group", name).register(registry);
+            Gauge.builder("admission.inflight", limiter, GradientLimiter::inflight).tag("group", name).register(registry);
+            Gauge.builder("admission.rtt", limiter, GradientLimiter::longRttMillis).tag("group", name)
+                    .baseUnit("milliseconds").register(registry);
+        }
+    }
+
+    private static final PathPatternParser PARSER = new PathPatternParser();
+
+    private final List<Group> groups = new ArrayList<>();
+    private final CorsConfigurationSource corsSource;
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+    // HandlerMappingIntrospector 도 CorsConfigurationSource 라 이름으로 (SecurityConfig.corsConfigurationSource)
+    public AdmissionControlFilter(Environment environment, MeterRegistry meterRegistry,
+                                  @Qualifier("corsConfigurationSource") CorsConfigurationSource corsSource) {
+        this.corsSource = corsSource;
+        // 설정 순서대로 먼저 맞는 그룹 하나만
+        Map<String, Settings> configured = Binder.get(environment)
+                .bind("admission.groups", Bindable.mapOf(String.class, Settings.class))
+                .orElse(Map.of());
+        configured.forEach((name, settings) -> groups.add(new Group(name, settings, meterRegistry)));
+        log.atInfo().addKeyValue("groups", configured.keySet()).log("admission control enabled");
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest req) {
+        return "OPTIONS".equals(req.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        PathContainer path = PathContainer.parsePath(req.getRequestURI().substring(req.getContextPath().length()));
+        Group group = match(req, path);
+        if (group == null) {
+            chain.doFilter(req, res);
+            return;
+        }
+        GradientLimiter.Priority priority = priority(group, req, path);
+
+        String client = group.settings.perClientLimit() > 0 ? clientKey(req) : null;
+        if (client != null && !acquireClient(group, client)) {
+            group.throttled.get(priority).increment();
+            reject(req, res, HttpStatus.TOO_MANY_REQUESTS, group, "too many concurrent requests from this client");
+            return;
+        }
+        if (!group.limiter.tryAcquire(priority)) {
+            if (client != null) releaseClient(group, client);
+            group.shed.get(priority).increment();
+            reject(req, res, HttpStatus.SERVICE_UNAVAILABLE, group, "server busy, retry later");
+            return;
+        }
+        group.accepted.get(priority).increment();
+
+        long started = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        Runnable release = () -> {
+            if (!released.compareAndSet(false, true)) return;
+            group.limiter.onComplete(System.nanoTime() - started);
+            if (client != null) releaseClient(group, client);
+        };
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            if (req.isAsyncStarted()) {
+                req.getAsyncContext().addListener(new ReleaseOnComplete(release));
+            } else {
+                release.run();
+            }
+        }
+    }
+
+    private Group match(HttpServletRequest req, PathContainer path) {
+        for (Group g : groups) {
+            for (Route r : g.paths) {
+                if (r.matches(req, path)) return g;
+            }
+        }
+        return null;
+    }
+
+    private static GradientLimiter.Priority priority(Group group, HttpServletRequest req, PathContainer path) {
+        for (Route r : group.bulkPaths) {
+            if (r.matches(req, path)) return GradientLimiter.Priority.BULK;
+        }
+        String method = req.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method)
+                ? GradientLimiter.Priority.INTERACTIVE
+                : GradientLimiter.Priority.NORMAL;
+    }
+
+    /** 인증 전이라 검증 안 된 토큰 값 그대로 (공정 분배용일 뿐 보안 경계 아님), 없으면 IP */
+    private static String clientKey(HttpServletRequest req) {
+        String authorization = req.getHeader(HttpHeaders.AUTHORIZATION);
+        return authorization != null ? "t:" + Integer.toHexString(authorization.hashCode()) : "ip:" + req.getRemoteAddr();
+    }
+
+    private static boolean acquireClient(Group group, String client) {
+        int count = group.perClient.computeIfAbsent(client, k -> new AtomicInteger()).incrementAndGet();
+        if (count <= group.settings.perClientLimit()) return true;
+        releaseClient(group, client);
+        return false;
+    }
+
+    private static void releaseClient(Group group, String client) {
+        group.perClient.computeIfPresent(client, (k, c) -> c.decrementAndGet() <= 0 ? null : c);
+    }
+
+    private void reject(HttpServletRequest req, HttpServletResponse res, HttpStatus status, Group group, String message)
+            throws IOException {
+        corsProcessor.processRequest(corsSource.getCorsConfiguration(req), req, res);
+        long retryAfter = Math.max(1, (group.settings.retryAfter().toMillis() + 999) / 1000);
+        res.setStatus(status.value());
+        res.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfter));
+        res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        res.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        res.getWriter().write("{\"status\":" + status.value() + ",\"error\":\"" + status.getReasonPhrase()
+                + "\",\"message\":\"" + message + "\",\"group\":\"" + group.name + "\"}");
+    }
+
+    private static List<Route> routes(List<String> specs) {
+        List<Route> out = new ArrayList<>();
+        if (specs == null) return out;
+        for (String spec : specs) {
+            String s = spec.trim();
+            int space = s.indexOf(' ');
+            out.add(space < 0
+                    ? new Route(null, PARSER.parse(s))
+                    : new Route(s.substring(0, space).toUpperCase(), PARSER.parse(s.substring(space + 1).trim())));
+        }
+        return out;
+    }
+
+    private static Counter decisions(MeterRegistry registry, String group, GradientLimiter.Priority priority, String outcome) {
+        return Counter.builder("admission.requests")
+                .tag("group", group)
+                .tag("priority", priority.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private record ReleaseOnComplete(Runnable release) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release.run();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.edtech.edtech_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+// @Async 작업용 실행기. 요청 스레드와 분리해서 크기를 따로 잡는다
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String DASHBOARD_EXECUTOR = "dashboardExecutor";
+    public static final String AUTH_DB_EXECUTOR = "authDbExecutor";
+
+    // 대시보드 읽기 모델 갱신: 한 스레드가 이벤트 순서대로 처리 (같은 사용자 갱신이 앞뒤로 뒤집히지 않게)
+    // 큐가 차면 발행한 스레드가 직접 처리 (갱신 누락 대신 느려지는 쪽을 택함)
+    @Bean(DASHBOARD_EXECUTOR)
+    public ThreadPoolTaskExecutor dashboardExecutor(
+            @Value("${dashboard.projection.queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("dashboard-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        return executor;
+    }
+
+    // 로그인/가입에서 BCrypt 가 끝난 뒤의 DB 작업 (사용자 저장, 해시 교체).
+    // 해싱 풀(코어 수)에서 커넥션을 기다리면 해싱이 막히므로 따로 돌린다. 큐가 차면 해싱 스레드가 직접 처리
+    @Bean(AUTH_DB_EXECUTOR)
+    public ThreadPoolTaskExecutor authDbExecutor(
+            @Value("${auth.db.threads:4}") int threads,
+            @Value("${auth.db.queue-capacity:1000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("auth-db-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+}
@@ -0,0 +1,10 @@
+package com.edtech.edtech_backend.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// 캐시 종류/크기/TTL 은 application.yaml 의 spring.cache.* 참고
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -0,0 +1,99 @@
+package com.edtech.edtech_backend.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간을 보고 동시 처리 한도를 조절하는 리미터 (Netflix concurrency-limits 의 Gradient2 방식).
+ * <p>
+ * - 최근 지연(shortRtt, 짧은 EWMA)과 평소 지연(longRtt, 긴 EWMA)의 비율 = gradient
+ * - 최근이 평소보다 느려지면(gradient < 1) 한도를 줄이고, 비슷하면 sqrt(한도) 만큼 늘려 본다
+ * - 한도의 절반도 안 쓰는 중이면 지연이 좋아도 늘리지 않는다 (트래픽이 적어서 빠른 것일 수 있음)
+ * - 부하가 풀려 최근 지연이 평소의 절반 아래면 longRtt 를 끌어내려 예전 느린 기준에 머물지 않게 한다
+ * <p>
+ * 우선순위별로 한도의 일부까지만 받아서, 한도가 줄어들면 BULK → NORMAL 순으로 먼저 거절된다.
+ */
+public class GradientLimiter {
+
+    public enum Priority {
+        INTERACTIVE(1.0), NORMAL(0.9), BULK(0.6);
+
+        final double share;
+
+        Priority(double share) {
+            this.share = share;
+        }
+    }
+
+    private static final int SHORT_WINDOW = 10;
+    private static final int LONG_WINDOW = 600;
+    private static final int WARMUP = 10;
+    private static final double SMOOTHING = 0.2;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+    private long samples;
+
+    /** tolerance: 평소 지연의 몇 배까지는 느려져도 한도를 안 줄이는지 (예: 1.5) */
+    public GradientLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit) throw new IllegalArgumentException("invalid limits: " + minLimit + ".." + maxLimit);
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /** 받을 수 있으면 inflight 를 하나 늘리고 true. true 면 반드시 onComplete 를 한 번 부를 것 */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * priority.share));
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) return false;
+            if (inflight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    public void onComplete(long rttNanos) {
+        int inflightAtStart = inflight.getAndDecrement();
+        onSample(rttNanos, inflightAtStart);
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart) {
+        double rtt = Math.max(1, rttNanos);
+        samples++;
+        if (samples <= WARMUP) {
+            // 처음 몇 개는 평균으로 시작값
+            shortRtt += (rtt - shortRtt) / samples;
+            longRtt = shortRtt;
+            return;
+        }
+        shortRtt += (rtt - shortRtt) / SHORT_WINDOW;
+        longRtt += (rtt - longRtt) / LONG_WINDOW;
+        if (longRtt / shortRtt > 2) longRtt *= 0.95;
+
+        double current = limit;
+        if (inflightAtStart < current / 2) return;
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRtt / shortRtt));
+        double next = current * gradient + Math.sqrt(current);
+        next = current * (1 - SMOOTHING) + next * SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    /** 평소 지연 (ms) — Retry-After 계산 등 참고용 */
+    public synchronized double longRttMillis() {
+        return longRtt / 1_000_000.0;
+    }
+}
@@ -0,0 +1,179 @@
+package com.edtech.edtech_backend.config;
+
+import com.edtech.edtech_backend.observability.JfrSummarizer;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 운영 중 JFR 녹화 (관리자, /actuator/** 는 ADMIN).
+ * - POST   /actuator/jfr {"seconds":60,"settings":"profile"} : 시작 (jfr.max-duration 으로 상한, 끝나면 자동 정지)
+ * - DELETE /actuator/jfr                                       : 지금 멈춤
+ * - GET    /actuator/jfr                                       : 상태 + 마지막 녹화의 작업별 요약 (JfrSummarizer)
+ * - GET    /actuator/jfr/recording                             : 마지막 녹화 파일 다운로드 (JDK Mission Control 로 열기)
+ * 한 번에 하나만 녹화하고, 파일은 jfr.directory 에 마지막 것만 남긴다.
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final DateTimeFormatter FILE_NAME = DateTimeFormatter.ofPattern("'recording-'yyyyMMdd-HHmmss'.jfr'")
+            .withZone(ZoneOffset.UTC);
+
+    private final Path directory;
+    private final Duration defaultDuration;
+    private final Duration maxDuration;
+    private final long maxSize;
+
+    private Recording recording;
+    private Path lastFile;
+    private JfrSummarizer.Summary lastSummary;
+
+    public JfrRecordingEndpoint(@Value("${jfr.directory:${java.io.tmpdir}/edtech-jfr}") Path directory,
+                                @Value("${jfr.default-duration:PT1M}") Duration defaultDuration,
+                                @Value("${jfr.max-duration:PT10M}") Duration maxDuration,
+                                @Value("${jfr.max-size:256MB}") DataSize maxSize) {
+        this.directory = directory;
+        this.defaultDuration = defaultDuration;
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize.toBytes();
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> out = new LinkedHashMap<>();
+        out.put("state", recording == null ? "NONE" : recording.getState().name());
+        if (recording != null) {
+            out.put("startedAt", recording.getStartTime());
+            out.put("duration", recording.getDuration());
+            out.put("settings", recording.getSettings().size() + " settings");
+        }
+        if (lastFile != null && Files.exists(lastFile) && !isRunning()) {
+            out.put("file", lastFile.toString());
+            out.put("summary", summary());
+        }
+        return out;
+    }
+
+    @WriteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> start(@Nullable Integer seconds,
+                                                                       @Nullable String settings) {
+        if (isRunning()) {
+            return new WebEndpointResponse<>(Map.of("error", "recording already running"), HttpStatus.CONFLICT.value());
+        }
+        Duration duration = seconds == null ? defaultDuration : Duration.ofSeconds(seconds);
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(maxDuration) > 0) {
+            return new WebEndpointResponse<>(Map.of("error", "seconds must be 1.." + maxDuration.toSeconds()),
+                    WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+        Configuration configuration;
+        try {
+            // default ≈ 1% 미만 오버헤드, profile 은 샘플링을 더 촘촘히 (수 % 정도)
+            configuration = Configuration.getConfiguration(settings == null ? "default" : settings);
+        } catch (IOException | ParseException e) {
+            return new WebEndpointResponse<>(Map.of("error", "unknown settings: " + settings),
+                    WebEndpointResponse.STATUS_BAD_REQUEST);
+        }
+
+        closeRecording();
+        deleteLastFile();
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve(FILE_NAME.format(Instant.now()));
+            Recording r = new Recording(configuration);
+            r.setName("edtech-on-demand");
+            r.setToDisk(true);
+            r.setMaxSize(maxSize);
+            r.setDuration(duration);      // 시간이 지나면 JFR 이 멈추고 destination 에 쓴다
+            r.setDestination(file);
+            r.start();
+            recording = r;
+            lastFile = file;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new WebEndpointResponse<>(status(), WebEndpointResponse.STATUS_OK);
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        if (isRunning()) recording.stop(); // destination 으로 덤프됨
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> file(@Selector String name) {
+        if (!"recording".equals(name) || lastFile == null || !Files.exists(lastFile)) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        if (isRunning()) {
+            return new WebEndpointResponse<>(HttpStatus.CONFLICT.value());
+        }
+        return new WebEndpointResponse<>(new FileSystemResource(lastFile), WebEndpointResponse.STATUS_OK);
+    }
+
+    private boolean isRunning() {
+        return recording != null
+                && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+
+    // 같은 파일을 여러 번 조회해도 한 번만 읽는다
+    private Object summary() {
+        if (lastSummary == null) {
+            try {
+                lastSummary = JfrSummarizer.summarize(lastFile);
+            } catch (IOException e) {
+                return Map.of("error", String.valueOf(e.getMessage()));
+            }
+        }
+        return lastSummary;
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+        lastSummary = null;
+    }
+
+    private void deleteLastFile() {
+        if (lastFile == null) return;
+        try {
+            Files.deleteIfExists(lastFile);
+        } catch (IOException ignore) {
+        }
+        lastFile = null;
+    }
+
+    @PreDestroy
+    synchronized void shutdown() {
+        closeRecording();
+    }
+}
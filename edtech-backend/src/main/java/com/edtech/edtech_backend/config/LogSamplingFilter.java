@@ -0,0 +1,116 @@
+package com.edtech.edtech_backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.filter.Filter;
+import ch.qos.logback.core.spi.FilterReply;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로거(카테고리)별 샘플링 + 초당 상한. logback-spring.xml 의 비동기 appender 에 붙여
+ * {@code <rule>edtech.access sample=0.1 rate=200</rule>} 처럼 설정한다 (이름은 접두사 매칭, 가장 긴 것 우선).
+ * - sample : INFO 이하만 이 비율로 남김 (WARN 이상은 샘플링 안 함)
+ * - rate   : 규칙 하나당 초당 최대 건수 (ERROR 는 제한 안 함)
+ * TurboFilter 가 아니라 appender 필터인 이유: logback 1.5 의 fluent API(log.atInfo()...log())는
+ * TurboFilter 를 거치지 않는다. 레벨이 꺼진 로그는 여기까지 오지 않으니 비용은 켜진 로그에만 든다.
+ * 버린 건수는 logging.events.dropped 메트릭 (LoggingMetrics).
+ */
+public class LogSamplingFilter extends Filter<ILoggingEvent> {
+
+    /** LoggingMetrics 가 읽는다 (logback 은 스프링보다 먼저 뜨므로 static) */
+    static final List<Rule> RULES = new CopyOnWriteArrayList<>();
+
+    private static final Rule NONE = new Rule("", 1.0, 0);
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Rule> byLogger = new ConcurrentHashMap<>();
+
+    public void addRule(String spec) {
+        String[] parts = spec.trim().split("\\s+");
+        double sample = 1.0;
+        int rate = 0;
+        for (int i = 1; i < parts.length; i++) {
+            String[] kv = parts[i].split("=", 2);
+            if (kv.length != 2) continue;
+            switch (kv[0]) {
+                case "sample" -> sample = Double.parseDouble(kv[1]);
+                case "rate" -> rate = Integer.parseInt(kv[1]);
+                default -> addWarn("unknown log sampling option: " + parts[i]);
+            }
+        }
+        rules.add(new Rule(parts[0], sample, rate));
+    }
+
+    @Override
+    public void start() {
+        RULES.clear();
+        RULES.addAll(rules);
+        super.start();
+    }
+
+    @Override
+    public FilterReply decide(ILoggingEvent event) {
+        Level level = event.getLevel();
+        if (!isStarted() || level == Level.ERROR) return FilterReply.NEUTRAL;
+        Rule rule = byLogger.computeIfAbsent(event.getLoggerName(), this::match);
+        if (rule == NONE) return FilterReply.NEUTRAL;
+        return rule.allow(level) ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Rule match(String loggerName) {
+        Rule best = NONE;
+        for (Rule r : rules) {
+            boolean matches = loggerName.equals(r.prefix)
+                    || (loggerName.startsWith(r.prefix) && loggerName.charAt(r.prefix.length()) == '.');
+            if (matches && r.prefix.length() > best.prefix.length()) best = r;
+        }
+        return best;
+    }
+
+    static final class Rule {
+        final String prefix;
+        final double sample;
+        final int ratePerSecond;
+        final AtomicLong sampledOut = new AtomicLong();
+        final AtomicLong rateLimited = new AtomicLong();
+        /** 상위 32비트 = 초, 하위 32비트 = 그 초에 센 건수. 둘을 한 번에 바꿔야 초가 바뀔 때 리셋과 카운트가 섞이지 않는다 */
+        private final AtomicLong window = new AtomicLong();
+
+        Rule(String prefix, double sample, int ratePerSecond) {
+            this.prefix = prefix;
+            this.sample = sample;
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        boolean allow(Level level) {
+            return allow(level, System.currentTimeMillis());
+        }
+
+        boolean allow(Level level, long nowMillis) {
+            if (sample < 1.0 && !level.isGreaterOrEqual(Level.WARN)
+                    && ThreadLocalRandom.current().nextDouble() >= sample) {
+                sampledOut.incrementAndGet();
+                return false;
+            }
+            if (ratePerSecond <= 0) return true;
+            long second = nowMillis / 1000;
+            long state = window.updateAndGet(w -> {
+                // 늦게 도착한 이전 초의 이벤트는 현재 창에 센다. 상한+1 에서 멈춰 넘치지 않게
+                if (second > (w >>> 32)) return (second << 32) | 1;
+                return (int) w > ratePerSecond ? w : w + 1;
+            });
+            if ((int) state > ratePerSecond) {
+                rateLimited.incrementAndGet();
+                return false;
+            }
+            return true;
+        }
+    }
+}
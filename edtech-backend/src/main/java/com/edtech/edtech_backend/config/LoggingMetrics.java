@@ -0,0 +1,21 @@
+package com.edtech.edtech_backend.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+/** LogSamplingFilter 가 버린 로그 건수 → logging.events.dropped{category, reason=sampled|rate} */
+@Component
+public class LoggingMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (LogSamplingFilter.Rule rule : LogSamplingFilter.RULES) {
+            FunctionCounter.builder("logging.events.dropped", rule, r -> r.sampledOut.get())
+                    .tag("category", rule.prefix).tag("reason", "sampled").register(registry);
+            FunctionCounter.builder("logging.events.dropped", rule, r -> r.rateLimited.get())
+                    .tag("category", rule.prefix).tag("reason", "rate").register(registry);
+        }
+    }
+}
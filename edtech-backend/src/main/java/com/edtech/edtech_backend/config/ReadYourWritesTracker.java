@@ -0,0 +1,47 @@
+package com.edtech.edtech_backend.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import java.time.Duration;
+
+/**
+ * 쓰기 트랜잭션을 커밋한 사용자는 sticky-window 동안 읽기도 primary 로 보낸다
+ * (세션 업로드 직후 목록/최신 조회가 복제 지연 때문에 비어 보이지 않게).
+ * TransactionExecutionListener 빈이라 Boot 가 JPA 트랜잭션 매니저에 자동으로 붙인다.
+ * 사용자는 요청 스레드의 SecurityContext 로 판단 (비동기 스레드의 쓰기는 대상 아님).
+ */
+public class ReadYourWritesTracker implements TransactionExecutionListener {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickyWindow) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyWindow)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly() || !transaction.isNewTransaction()) return;
+        String user = currentUser();
+        if (user != null) recentWriters.put(user, Boolean.TRUE);
+    }
+
+    public boolean isCurrentUserSticky() {
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    private static String currentUser() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth instanceof AnonymousAuthenticationToken || !auth.isAuthenticated()) return null;
+        return auth.getName();
+    }
+}
@@ -0,0 +1,94 @@
+package com.edtech.edtech_backend.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 복제본 지연 확인 (datasource.replica.lag-check-interval 마다).
+ * - lag-query 가 있으면 그 값(초), 없으면 MariaDB SHOW SLAVE STATUS 의 Seconds_Behind_Master
+ * - 지연이 max-lag 를 넘거나, 복제가 멈췄거나(NULL), 확인 자체가 실패하면 복제본을 안 쓴다
+ * - SHOW SLAVE STATUS 가 비어 있으면(복제 중이 아닌 서버, 복제 리셋, 잘못된 호스트) 얼마나 뒤처졌는지 모르므로 안 쓴다.
+ *   복제 설정 없이 읽기 엔드포인트를 쓰는 구성이면 lag-query 로 지연을 직접 알려 준다
+ * <p>
+ * 확인은 전용 스레드(replica-lag)에서 돈다. 스프링 기본 스케줄러는 스레드 하나를 BulkPurger·저널 드레인과 나눠 쓰므로
+ * 그 작업이 도는 동안(최대 수 초) usable 이 갱신되지 않아, 뒤처진 복제본이 계속 읽기를 받을 수 있다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate replicaJdbc;
+    private final String lagQuery;
+    private final long maxLagMs;
+    private volatile long lagMs = -1;       // -1 = 모름/실패
+    private volatile boolean usable;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread t = new Thread(r, "replica-lag");
+        t.setDaemon(true);
+        return t;
+    });
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replicaJdbc = new JdbcTemplate(replica);
+        this.replicaJdbc.setQueryTimeout(2);
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.maxLagMs = maxLag.toMillis();
+        Gauge.builder("datasource.replica.lag", this, m -> m.lagMs < 0 ? Double.NaN : m.lagMs / 1000.0)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("datasource.replica.usable", this, m -> m.usable ? 1 : 0).register(meterRegistry);
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    public void start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::refresh, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /** @Bean 의 destroy 메서드로 추론된다 */
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    public void refresh() {
+        long measured;
+        try {
+            measured = lagQuery != null ? queryLag() : replicationStatusLag();
+        } catch (RuntimeException e) {
+            // 예외가 새면 scheduleWithFixedDelay 가 이후 실행을 멈추므로 전부 잡는다
+            log.atWarn().addKeyValue("error", NestedExceptionUtils.getMostSpecificCause(e).getMessage())
+                    .log("replica lag check failed");
+            measured = -1;
+        }
+        boolean nowUsable = measured >= 0 && measured <= maxLagMs;
+        if (nowUsable != usable) {
+            log.atInfo().addKeyValue("usable", nowUsable).addKeyValue("lagMs", measured).log("replica routing changed");
+        }
+        lagMs = measured;
+        usable = nowUsable;
+    }
+
+    private long queryLag() {
+        Number seconds = replicaJdbc.queryForObject(lagQuery, Number.class);
+        return seconds == null ? -1 : Math.round(seconds.doubleValue() * 1000);
+    }
+
+    private long replicationStatusLag() {
+        List<Map<String, Object>> rows = replicaJdbc.queryForList("SHOW SLAVE STATUS");
+        if (rows.isEmpty()) return -1;
+        Object seconds = rows.get(0).get("Seconds_Behind_Master");
+        return seconds instanceof Number n ? n.longValue() * 1000 : -1;
+    }
+}
@@ -0,0 +1,88 @@
+package com.edtech.edtech_backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (datasource.replica.enabled=true 일 때만).
+ * <p>
+ * primary 풀은 spring.datasource.*, 복제본 풀은 datasource.replica.* (계정/드라이버는 비우면 primary 와 같음).
+ * JPA/JdbcTemplate 이 쓰는 @Primary DataSource 는 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource):
+ * 첫 SQL 을 보낼 때 현재 트랜잭션이 readOnly 인지 보고 풀을 고른다.
+ * <p>
+ * 트랜잭션 밖의 조회는 readOnly 가 아니므로 primary 로 간다.
+ * 풀 선택이 트랜잭션마다 이뤄지려면 open-in-view 가 꺼져 있어야 한다 (켜면 요청 전체가 첫 연결을 붙잡아
+ * readOnly 트랜잭션 뒤의 쓰기가 복제본 연결로 간다). application.yaml 에서 끔, ReplicaRoutingTest 가 확인.
+ * 로컬에서는 두 H2 인메모리 DB 로 확인 가능 (ReplicaRoutingTest).
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        ds.setPoolName("primary");
+        return ds;
+    }
+
+    @Bean
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties primary,
+                                              @Value("${datasource.replica.url}") String url,
+                                              @Value("${datasource.replica.username:}") String username,
+                                              @Value("${datasource.replica.password:}") String password) {
+        HikariDataSource ds = new HikariDataSource();
+        ds.setPoolName("replica");
+        ds.setJdbcUrl(url);
+        ds.setDriverClassName(primary.determineDriverClassName());
+        ds.setUsername(StringUtils.hasText(username) ? username : primary.determineUsername());
+        ds.setPassword(StringUtils.hasText(username) ? password : primary.determinePassword());
+        ds.setReadOnly(true);
+        return ds;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${datasource.replica.lag-query:}") String lagQuery,
+                                               @Value("${datasource.replica.max-lag:PT2S}") Duration maxLag,
+                                               @Value("${datasource.replica.lag-check-interval:PT1S}") Duration interval,
+                                               MeterRegistry meterRegistry) {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, maxLag, meterRegistry);
+        monitor.refresh();   // 첫 확인 전까지는 primary 만 쓰므로 기동 시 한 번
+        monitor.start(interval);
+        return monitor;
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(
+            @Value("${datasource.replica.sticky-window:PT5S}") Duration stickyWindow) {
+        return new ReadYourWritesTracker(stickyWindow);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor lagMonitor,
+                                 ReadYourWritesTracker readYourWrites,
+                                 MeterRegistry meterRegistry) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, replica, lagMonitor, readYourWrites, meterRegistry);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
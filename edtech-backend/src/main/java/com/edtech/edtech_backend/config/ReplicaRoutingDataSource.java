@@ -0,0 +1,67 @@
+package com.edtech.edtech_backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true))은 복제본, 나머지는 primary.
+ * 복제본이 뒤처졌거나(ReplicaLagMonitor) 방금 쓴 사용자(ReadYourWritesTracker)면 읽기도 primary.
+ * <p>
+ * 트랜잭션 시작 시점엔 readOnly 플래그가 아직 안 잡혀 있어서, 반드시 LazyConnectionDataSourceProxy 로
+ * 감싸 첫 SQL 때 커넥션을 고르게 해야 한다 (ReplicaRoutingConfig).
+ * 어디로 갔는지는 datasource.routing{target, reason}.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target { PRIMARY, REPLICA }
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWrites;
+    private final Counter write;
+    private final Counter replica;
+    private final Counter lagged;
+    private final Counter sticky;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replicaDataSource,
+                                    ReplicaLagMonitor lagMonitor, ReadYourWritesTracker readYourWrites,
+                                    MeterRegistry meterRegistry) {
+        this.lagMonitor = lagMonitor;
+        this.readYourWrites = readYourWrites;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replicaDataSource));
+        setDefaultTargetDataSource(primary);
+        this.write = routed(meterRegistry, Target.PRIMARY, "write");
+        this.replica = routed(meterRegistry, Target.REPLICA, "read");
+        this.lagged = routed(meterRegistry, Target.PRIMARY, "lag");
+        this.sticky = routed(meterRegistry, Target.PRIMARY, "sticky");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            write.increment();
+            return Target.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            lagged.increment();
+            return Target.PRIMARY;
+        }
+        if (readYourWrites.isCurrentUserSticky()) {
+            sticky.increment();
+            return Target.PRIMARY;
+        }
+        replica.increment();
+        return Target.REPLICA;
+    }
+
+    private static Counter routed(MeterRegistry registry, Target target, String reason) {
+        return Counter.builder("datasource.routing")
+                .tag("target", target.name().toLowerCase())
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
@@ -0,0 +1,117 @@
+package com.edtech.edtech_backend.config;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 ID (X-Request-Id) 를 MDC 에 넣어 그 요청에서 찍히는 모든 로그에 붙인다.
+ * 들어온 헤더가 형식에 맞으면 그대로 쓰고(프록시/프론트와 연결), 없으면 새로 만든다. 응답 헤더로도 돌려준다.
+ * 요청이 끝나면 edtech.access 로 한 줄 (key/value) — 5xx 는 WARN 이라 샘플링되지 않는다.
+ * 비동기 요청(CompletableFuture 반환 등)은 첫 디스패치가 끝날 때 상태가 아직 없으므로 AsyncListener.onComplete 에서 찍고,
+ * 결과를 쓰는 async 디스패치에서도 필터를 다시 타서 MDC 를 같은 ID 로 채운다.
+ */
+@Slf4j(topic = "edtech.access")
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestIdFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Request-Id";
+    public static final String MDC_KEY = "requestId";
+    private static final String ATTRIBUTE = RequestIdFilter.class.getName() + ".requestId";
+    private static final Pattern VALID = Pattern.compile("[A-Za-z0-9._-]{8,64}");
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+        if (isAsyncDispatch(req)) {
+            // 첫 디스패치에서 정한 ID 를 다시 MDC 로. 액세스 로그는 첫 디스패치가 건 리스너가 찍는다
+            MDC.put(MDC_KEY, (String) req.getAttribute(ATTRIBUTE));
+            try {
+                chain.doFilter(req, res);
+            } finally {
+                MDC.remove(MDC_KEY);
+            }
+            return;
+        }
+        String incoming = req.getHeader(HEADER);
+        String requestId = incoming != null && VALID.matcher(incoming).matches() ? incoming : newId();
+        req.setAttribute(ATTRIBUTE, requestId);
+        MDC.put(MDC_KEY, requestId);
+        res.setHeader(HEADER, requestId);
+        long started = System.nanoTime();
+        try {
+            chain.doFilter(req, res);
+        } finally {
+            if (req.isAsyncStarted()) {
+                req.getAsyncContext().addListener(new AccessLogOnComplete(requestId, started));
+            } else {
+                logAccess(req, res, started);
+            }
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    private static void logAccess(HttpServletRequest req, HttpServletResponse res, long started) {
+        int status = res.getStatus();
+        if (status >= 500 ? log.isWarnEnabled() : log.isInfoEnabled()) {
+            Object pattern = req.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            (status >= 500 ? log.atWarn() : log.atInfo())
+                    .addKeyValue("method", req.getMethod())
+                    .addKeyValue("uri", pattern != null ? pattern : "UNKNOWN")
+                    .addKeyValue("status", status)
+                    .addKeyValue("ms", (System.nanoTime() - started) / 1_000_000)
+                    .log("request");
+        }
+    }
+
+    // UUID.randomUUID() 는 SecureRandom 이라 요청마다 쓰기엔 무겁다. 상관관계용이면 64비트로 충분
+    private static String newId() {
+        return Long.toHexString(ThreadLocalRandom.current().nextLong() | Long.MIN_VALUE);
+    }
+
+    /** 타임아웃/오류여도 onComplete 는 마지막에 한 번 불린다 — 최종 상태로 한 줄만 */
+    private record AccessLogOnComplete(String requestId, long started) implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            MDC.put(MDC_KEY, requestId);
+            try {
+                logAccess((HttpServletRequest) event.getSuppliedRequest(),
+                        (HttpServletResponse) event.getSuppliedResponse(), started);
+            } finally {
+                MDC.remove(MDC_KEY);
+            }
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -3,9 +3,15 @@ package com.edtech.edtech_backend.config;
 
 import com.edtech.edtech_backend.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authorization.AuthorityAuthorizationManager;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
@@ -13,12 +19,16 @@ import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RegexRequestMatcher;
 
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.List;
 
 @Configuration
@@ -30,10 +40,14 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtFilter;
 
     @Bean
-    public PasswordEncoder passwordEncoder() { return new BCryptPasswordEncoder(); }
+    public PasswordEncoder passwordEncoder(@Value("${auth.bcrypt.strength:10}") int strength) {
+        // strength 를 올리면 기존 해시는 다음 로그인 때 재해싱됨 (PasswordHashingService)
+        return new BCryptPasswordEncoder(strength);
+    }
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           @Value("${metrics.scrape-token:}") String scrapeToken) throws Exception {
         http
             .csrf(csrf -> csrf.disable())
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -41,16 +55,25 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers("/api/auth/**", "/error").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
+                .requestMatchers(HttpMethod.GET, "/actuator/prometheus").access(scrapeAccess(scrapeToken))
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // ⬇️ 먼저 특정(me) 엔드포인트를 인증 요구로
                 .requestMatchers(HttpMethod.GET, "/api/classes/me/**").authenticated()
                 // ⬇️ 그 다음 일반 목록은 공개
                 .requestMatchers(HttpMethod.GET, "/api/classes/**").permitAll()
                 // 스트리밍 파일
                 .requestMatchers(HttpMethod.GET, "/api/lectures/**").permitAll()
-                .requestMatchers(HttpMethod.GET, "/mpd/**", "/vtt/**", "/**/*.m3u8","/**/*.m4s", "/**/*.mp4").permitAll()
+                .requestMatchers(HttpMethod.GET, "/api/media/**").permitAll()
+                .requestMatchers(HttpMethod.GET, "/mpd/**", "/vtt/**").permitAll()
+                // "/**/*.m4s" 형태는 PathPattern 에서 예외(500)가 나서 정규식으로
+                .requestMatchers(RegexRequestMatcher.regexMatcher(HttpMethod.GET, ".*\\.(m3u8|m4s|mp4)$")).permitAll()
                 .requestMatchers(HttpMethod.POST,   "/api/classes/*/enroll").hasAnyRole("STUDENT","ADMIN")
                 .requestMatchers(HttpMethod.DELETE, "/api/classes/*/enroll").hasAnyRole("STUDENT","ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/classes").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.DELETE, "/api/classes/*").hasRole("ADMIN")
+                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                .requestMatchers(HttpMethod.POST, "/api/classes/*/enrollments/bulk").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/quizzes/**").hasAnyRole("STUDENT","ADMIN")
                 .requestMatchers(HttpMethod.GET,  "/api/quizzes/**").hasAnyRole("STUDENT","ADMIN")
                 .requestMatchers(HttpMethod.POST, "/api/classes/*/courses/**").hasRole("ADMIN")
@@ -63,12 +86,30 @@ public class SecurityConfig {
         return http.build();
     }
 
+    // 스크레이퍼용 고정 토큰(만료 없음, prometheus 조회만) 또는 ADMIN JWT. 토큰이 비어 있으면 ADMIN 만
+    private static AuthorizationManager<RequestAuthorizationContext> scrapeAccess(String token) {
+        AuthorityAuthorizationManager<RequestAuthorizationContext> admin = AuthorityAuthorizationManager.hasRole("ADMIN");
+        byte[] expected = ("Bearer " + token).getBytes(StandardCharsets.UTF_8);
+        return (auth, ctx) -> {
+            String header = ctx.getRequest().getHeader(HttpHeaders.AUTHORIZATION);
+            if (!token.isBlank() && header != null
+                    && MessageDigest.isEqual(expected, header.getBytes(StandardCharsets.UTF_8))) {
+                return new AuthorizationDecision(true);
+            }
+            AuthorizationResult result = admin.authorize(auth, ctx);
+            return new AuthorizationDecision(result != null && result.isGranted());
+        };
+    }
+
     @Bean
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration conf = new CorsConfiguration();
         conf.setAllowedOrigins(List.of("http://localhost:3000"));
         conf.setAllowedMethods(List.of("GET","POST","PUT","PATCH","DELETE","OPTIONS"));
         conf.setAllowedHeaders(List.of("*"));
+        // 커서 페이지 헤더, 저널 접수 번호, 요청 ID (로그 상관관계), 입장 제어 거절(503/429)의 재시도 간격
+        conf.setExposedHeaders(List.of("ETag", "Link", "X-Next-Cursor", "X-Journal-Seq", RequestIdFilter.HEADER,
+                HttpHeaders.RETRY_AFTER));
         conf.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", conf);
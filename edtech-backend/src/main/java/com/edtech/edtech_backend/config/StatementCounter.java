@@ -0,0 +1,41 @@
+package com.edtech.edtech_backend.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Hibernate 가 준비하는 SQL 문 수를 요청 스레드 단위로 센다 (N+1 감시용).
+ * QueryCountFilter 가 요청 시작 때 start(), 끝날 때 stop() 으로 수를 가져간다.
+ * 요청 밖(스케줄러, 비동기 이벤트)에서 나가는 문은 세지 않는다.
+ */
+@Component
+public class StatementCounter implements StatementInspector, HibernatePropertiesCustomizer {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, this);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) count[0]++;
+        return sql;
+    }
+
+    void start() {
+        COUNT.set(new int[1]);
+    }
+
+    int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count[0];
+    }
+}
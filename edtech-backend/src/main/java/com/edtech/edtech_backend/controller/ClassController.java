@@ -1,25 +1,34 @@
 package com.edtech.edtech_backend.controller;
 
 import com.edtech.edtech_backend.dto.ClassRegisterRequestDto;
-import com.edtech.edtech_backend.dto.ClassSummaryDto;
+import com.edtech.edtech_backend.dto.CursorPage;
+import com.edtech.edtech_backend.dto.PurgeJobDto;
 import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.PurgeJob;
 import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.service.CatalogService;
+import com.edtech.edtech_backend.service.PurgeService;
 import lombok.RequiredArgsConstructor;
 
-import java.util.List;
-
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.data.domain.Limit;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/classes")
 @RequiredArgsConstructor
 public class ClassController {
 
     private final ClassRepository classRepository;
+    private final CatalogService catalogService;
+    private final PageResponseWriter pageResponseWriter;
+    private final PurgeService purgeService;
 
     // 관리자만 생성
     @PreAuthorize("hasRole('ADMIN')")
@@ -30,29 +39,45 @@ public class ClassController {
         e.setTag(dto.getTag());
         e.setHeadcount(dto.getHeadcount());
         ClassEntity saved = classRepository.save(e);
+        catalogService.evictClasses();
         return ResponseEntity.status(HttpStatus.CREATED).body(saved);
     }
 
-    // 공개 목록: 요약 DTO로만 반환
+    // 공개 목록: 요약 DTO로만 반환 (커서 페이지, 다음 페이지는 X-Next-Cursor 헤더)
     @GetMapping
-    public List<ClassSummaryDto> list() {
-        return classRepository.findAll().stream()
-                .map(c -> new ClassSummaryDto(c.getClassId(), c.getTitle(), c.getHeadcount()))
-                .toList();
+    public ResponseEntity<byte[]> list(@RequestParam(required = false) Long cursor,
+                                       @RequestParam(required = false) Integer size,
+                                       WebRequest request) {
+        return pageResponseWriter.write(catalogService.listClasses(cursor, CursorPage.clampSize(size)), request);
     }
 
     // (선택) 상세 조회가 필요하면 경로 분리
     @GetMapping("/{id}")
     public ResponseEntity<ClassEntity> getOne(@PathVariable Long id) {
-        return classRepository.findById(id)
+        return classRepository.findByClassIdAndDeletedAtIsNull(id)
                 .map(ResponseEntity::ok)
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    // 관리자 삭제: 삭제 표시 + 권한/목록에서 즉시 제외, 하위 데이터는 BulkPurger 가 정리 (202)
+    @PreAuthorize("hasRole('ADMIN')")
+    @DeleteMapping("/{id}")
+    public ResponseEntity<PurgeJobDto> delete(@PathVariable Long id) {
+        PurgeJob job = purgeService.deleteClass(id);
+        catalogService.evictClass(id);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/admin/purge-jobs/" + job.getJobId()))
+                .body(PurgeJobDto.from(job));
+    }
+
     // (선택) 관리자용 전체 엔티티 목록이 필요하면 별도 경로 + 권한 보호
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/admin/raw")
-    public List<ClassEntity> listRawForAdmin() {
-        return classRepository.findAll();
+    public ResponseEntity<byte[]> listRawForAdmin(@RequestParam(required = false) Long cursor,
+                                                  @RequestParam(required = false) Integer size,
+                                                  WebRequest request) {
+        int pageSize = CursorPage.clampSize(size);
+        var rows = classRepository.findAdminRowsAfter(cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
+        return pageResponseWriter.write(CursorPage.of(rows, pageSize, r -> r.classId()), request);
     }
 }
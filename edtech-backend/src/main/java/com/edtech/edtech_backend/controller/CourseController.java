@@ -3,20 +3,27 @@ package com.edtech.edtech_backend.controller;
 
 import com.edtech.edtech_backend.dto.CourseCreateRequestDto;
 import com.edtech.edtech_backend.dto.CourseSummaryDto;
+import com.edtech.edtech_backend.dto.CursorPage;
 import com.edtech.edtech_backend.dto.StudentSummaryDto;
 import com.edtech.edtech_backend.entity.ClassEntity;
 import com.edtech.edtech_backend.entity.Course;
 import com.edtech.edtech_backend.repository.ClassRepository;
 import com.edtech.edtech_backend.repository.CourseRepository;
 import com.edtech.edtech_backend.repository.EnrollmentRepository;
-import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.server.ResponseStatusException;
-
+import com.edtech.edtech_backend.service.CatalogService;
+import com.edtech.edtech_backend.dto.PurgeJobDto;
+import com.edtech.edtech_backend.entity.PurgeJob;
+import com.edtech.edtech_backend.service.DashboardEvents;
+import com.edtech.edtech_backend.service.PurgeService;
+import org.springframework.context.ApplicationEventPublisher;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.net.URI;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 
@@ -28,14 +35,15 @@ public class CourseController {
     private final ClassRepository classRepository;
     private final CourseRepository courseRepository;
     private final EnrollmentRepository enrollmentRepository;
+    private final CatalogService catalogService;
+    private final PageResponseWriter pageResponseWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PurgeService purgeService;
 
     /** 코스 목록: 누구나 조회 가능 */
     @GetMapping("/courses")
     public List<CourseSummaryDto> listCourses(@PathVariable Long classId) {
-        return courseRepository.findByClassEntity_ClassId(classId)
-                .stream()
-                .map(c -> new CourseSummaryDto(c.getCourseId(), c.getTitle()))
-                .toList();
+        return catalogService.listCourses(classId);
     }
 
     /** 코스 생성: 관리자만 */
@@ -43,7 +51,7 @@ public class CourseController {
     @PostMapping("/courses")
     public ResponseEntity<?> createCourse(@PathVariable Long classId,
                                           @RequestBody CourseCreateRequestDto dto) {
-        ClassEntity cls = classRepository.findById(classId)
+        ClassEntity cls = classRepository.findByClassIdAndDeletedAtIsNull(classId)
                 .orElseThrow(() -> new IllegalArgumentException("invalid classId"));
         Course c = new Course();
         c.setTitle(dto.getTitle());
@@ -52,37 +60,42 @@ public class CourseController {
         c.setTag(dto.getTag());
         c.setClassEntity(cls);
         Course saved = courseRepository.save(c);
+        catalogService.evictCourse(classId, saved.getCourseId());
+        eventPublisher.publishEvent(new DashboardEvents.CoursesChanged(classId));
         return ResponseEntity.status(HttpStatus.CREATED).body(new CourseSummaryDto(saved.getCourseId(), saved.getTitle()));
     }
 
-    /** 수강생 조회: 관리자만 */
+    /** 수강생 조회: 관리자만 (enrollment id 기준 커서 페이지) */
     @PreAuthorize("hasRole('ADMIN')")
     @GetMapping("/students")
-    public List<StudentSummaryDto> students(@PathVariable Long classId) {
-        var list = enrollmentRepository.findWithUserByClassId(classId);
+    public ResponseEntity<byte[]> students(@PathVariable Long classId,
+                                           @RequestParam(required = false) Long cursor,
+                                           @RequestParam(required = false) Integer size,
+                                           WebRequest request) {
+        int pageSize = CursorPage.clampSize(size);
+        var rows = enrollmentRepository.findStudentRowsAfter(classId, cursor == null ? 0L : cursor, Limit.of(pageSize + 1));
         DateTimeFormatter F = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
-        return list.stream()
-                .map(e -> new StudentSummaryDto(
-                        e.getUser().getUserId(),
-                        e.getUser().getName(),
-                        e.getUser().getEmail(),
-                        e.getUser().getPhone(),
-                        e.getCreatedAt() != null ? e.getCreatedAt().format(F) : ""
-                ))
-                .toList();
+        CursorPage<StudentSummaryDto> page = CursorPage.of(rows, pageSize, r -> r.enrollmentId(),
+                r -> new StudentSummaryDto(
+                        r.userId(),
+                        r.name(),
+                        r.email(),
+                        r.phone(),
+                        r.enrolledAt() != null ? r.enrolledAt().format(F) : ""
+                ));
+        return pageResponseWriter.write(page, request);
     }
-    @PreAuthorize("hasRole('ADMIN')") // 또는 hasAuthority("ADMIN") 
+    // 삭제 표시만 하고 바로 응답 (202). 세션/일정/요약 정리는 BulkPurger 가 백그라운드에서
+    @PreAuthorize("hasRole('ADMIN')")
     @DeleteMapping("/courses/{courseId}")
-    @Transactional
-    public ResponseEntity<Void> deleteCourse(
+    public ResponseEntity<PurgeJobDto> deleteCourse(
         @PathVariable Long classId,
         @PathVariable Long courseId
     ) {
-    var course = courseRepository
-            .findByCourseIdAndClassEntity_ClassId(courseId, classId)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "course not found"));
-
-    courseRepository.delete(course);
-    return ResponseEntity.noContent().build(); // 204
+        PurgeJob job = purgeService.deleteCourse(classId, courseId);
+        catalogService.evictCourse(classId, courseId);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/admin/purge-jobs/" + job.getJobId()))
+                .body(PurgeJobDto.from(job));
     }
 }
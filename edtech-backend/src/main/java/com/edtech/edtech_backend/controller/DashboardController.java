@@ -0,0 +1,50 @@
+// src/main/java/com/edtech/edtech_backend/controller/DashboardController.java
+package com.edtech.edtech_backend.controller;
+
+import com.edtech.edtech_backend.entity.StudentDashboard;
+import com.edtech.edtech_backend.service.StudentDashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final StudentDashboardService dashboardService;
+
+    // 홈 화면 한 번에: 내 정보 + 수강 클래스/코스 + 코스별 최근 집중 요약 + 퀴즈 가능 여부
+    // 저장된 JSON 을 그대로 내려보내고, 바뀐 게 없으면 304
+    @PreAuthorize("isAuthenticated()")
+    @GetMapping("/me")
+    public ResponseEntity<byte[]> me(Authentication auth, WebRequest request) {
+        String email = auth.getName();
+        StudentDashboard d;
+        try {
+            d = dashboardService.get(email);
+        } catch (DataIntegrityViolationException race) {
+            d = dashboardService.get(email); // 첫 조회가 동시에 들어와 다른 쪽이 먼저 만든 경우
+        }
+
+        String etag = "\"" + d.getUserId() + "-" + d.getSchemaVersion() + "-" + d.getRevision() + "\"";
+        if (request.checkNotModified(etag)) {
+            return null; // 304
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .body(d.getPayload().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,77 +1,75 @@
 package com.edtech.edtech_backend.controller;
 
-import com.edtech.edtech_backend.dto.StudentSummaryDto;
-import com.edtech.edtech_backend.entity.*;
-import com.edtech.edtech_backend.repository.*;
+import com.edtech.edtech_backend.dto.BulkEnrollResultDto;
+import com.edtech.edtech_backend.service.EnrollmentImportService;
+import com.edtech.edtech_backend.service.EnrollmentMembershipService;
+import com.edtech.edtech_backend.service.EnrollmentService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*; import org.springframework.web.bind.annotation.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
-import org.springframework.web.server.ResponseStatusException;
 
-import java.util.List;
+import java.io.IOException;
 
 @RestController
 @RequestMapping("/api/classes")
 @RequiredArgsConstructor
 public class EnrollmentController {
 
-  private final UserRepository userRepo;
-  private final ClassRepository classRepo;
-  private final EnrollmentRepository enrollRepo;
+  private final EnrollmentService enrollmentService;
+  private final EnrollmentMembershipService membershipService;
+  private final EnrollmentImportService importService;
 
   // 학생/관리자 모두 신청 가능하게. 필요하면 hasRole('STUDENT')로 좁혀도 됨
+  // 201: 등록됨 / 204: 이미 등록됨(멱등) / 202: 정원 초과로 대기열에 들어감
   @PreAuthorize("hasAnyRole('STUDENT','ADMIN')")
   @PostMapping("/{classId}/enroll")
   public ResponseEntity<Void> enroll(@PathVariable Long classId, Authentication auth) {
     String email = (String) auth.getPrincipal();
-    User user = userRepo.findByEmail(email)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED));
-    ClassEntity clazz = classRepo.findById(classId)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-
-    var existing = enrollRepo.findByUserAndClazz(user, clazz);
-    if (existing.isPresent()) {
-      // 이미 있으면 멱등 처리
-      if (existing.get().getStatus() != Enrollment.Status.APPROVED) {
-        existing.get().setStatus(Enrollment.Status.APPROVED);
-        enrollRepo.save(existing.get());
-      }
-      return ResponseEntity.noContent().build(); // 204
+    EnrollmentService.Result result;
+    try {
+      result = enrollmentService.enroll(email, classId);
+    } catch (DataIntegrityViolationException e) {
+      // 같은 사용자의 동시 중복 신청 → 먼저 들어간 요청이 처리함
+      return ResponseEntity.noContent().build();
     }
+    return switch (result) {
+      case ENROLLED -> ResponseEntity.status(HttpStatus.CREATED).build();
+      case WAITLISTED -> ResponseEntity.status(HttpStatus.ACCEPTED).build();
+      case ALREADY_ENROLLED -> ResponseEntity.noContent().build(); // 204
+    };
+  }
+
+  // 관리자 일괄 등록: CSV (첫 컬럼 email) — 행별 결과 리포트 반환
+  @PreAuthorize("hasRole('ADMIN')")
+  @PostMapping(value = "/{classId}/enrollments/bulk", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+  public BulkEnrollResultDto bulkEnrollCsv(@PathVariable Long classId, HttpServletRequest request) throws IOException {
+    return importService.enroll(classId, importService.readCsv(request.getReader()));
+  }
 
-    Enrollment e = new Enrollment();
-    e.setUser(user);
-    e.setClazz(clazz);
-    e.setStatus(Enrollment.Status.APPROVED); // 자동 승인
-    enrollRepo.save(e);
-    return ResponseEntity.status(HttpStatus.CREATED).build();
+  // 관리자 일괄 등록: JSON ["a@x.com", ...] 또는 [{"email": "..."}]
+  @PreAuthorize("hasRole('ADMIN')")
+  @PostMapping(value = "/{classId}/enrollments/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+  public BulkEnrollResultDto bulkEnrollJson(@PathVariable Long classId, HttpServletRequest request) throws IOException {
+    return importService.enroll(classId, importService.readJson(request.getInputStream()));
   }
 
-  // 내가 신청한 클래스 ID 목록
+  // 내가 신청한 클래스 ID 목록 (승인된 것만, 사용자별 캐시)
   @PreAuthorize("isAuthenticated()")
   @GetMapping("/me/enrollments")
   public ResponseEntity<java.util.Set<Long>> myEnrollments(Authentication auth) {
     String email = (String) auth.getPrincipal();
-    User user = userRepo.findByEmail(email)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED));
-    var ids = enrollRepo.findByUser(user).stream()
-        .filter(en -> en.getStatus() == Enrollment.Status.APPROVED)
-        .map(en -> en.getClazz().getClassId())
-        .collect(java.util.stream.Collectors.toSet());
-    return ResponseEntity.ok(ids);
+    return ResponseEntity.ok(membershipService.classIds(email).toSet());
   }
 
-  // (선택) 신청 취소
+  // (선택) 신청 취소 — 승인된 좌석이면 대기열 첫 사람에게 넘어감
   @PreAuthorize("isAuthenticated()")
   @DeleteMapping("/{classId}/enroll")
   public ResponseEntity<Void> cancel(@PathVariable Long classId, Authentication auth) {
     String email = (String) auth.getPrincipal();
-    User user = userRepo.findByEmail(email)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED));
-    ClassEntity clazz = classRepo.findById(classId)
-        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND));
-    enrollRepo.findByUserAndClazz(user, clazz).ifPresent(enrollRepo::delete);
+    enrollmentService.cancel(email, classId);
     return ResponseEntity.noContent().build();
   }
 }
@@ -1,24 +1,35 @@
 // src/main/java/com/edtech/edtech_backend/controller/FocusController.java
 package com.edtech.edtech_backend.controller;
 
+import com.edtech.edtech_backend.dto.ColumnarIntervals;
+import com.edtech.edtech_backend.dto.CursorPage;
 import com.edtech.edtech_backend.dto.FocusDto;
 import com.edtech.edtech_backend.entity.ClassEntity;
 import com.edtech.edtech_backend.entity.CourseEngagementAnalytics;
-import com.edtech.edtech_backend.entity.FocusInterval;
 import com.edtech.edtech_backend.repository.ClassRepository;
 import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
+import com.edtech.edtech_backend.service.CourseEngagementAnalyticsService;
+import com.edtech.edtech_backend.service.DashboardEvents;
+import com.edtech.edtech_backend.service.EnrollmentMembershipService;
+import com.edtech.edtech_backend.service.FocusHistoryService;
+import com.edtech.edtech_backend.service.FocusIntervalMapper;
+import com.edtech.edtech_backend.service.FocusJournalService;
+import com.edtech.edtech_backend.service.TimelineDownsampler;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.time.Instant;
-import java.util.stream.Collectors;
+import java.util.List;
 
 @RestController
 @RequestMapping("/api/focus")
@@ -27,6 +38,12 @@ public class FocusController {
 
     private final ClassRepository classRepository;
     private final CourseEngagementAnalyticsRepository analyticsRepository;
+    private final CourseEngagementAnalyticsService analyticsService;
+    private final EnrollmentMembershipService membershipService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final FocusHistoryService focusHistoryService;
+    private final FocusJournalService journalService;
+    private final PageResponseWriter pageResponseWriter;
 
     @PostMapping("/intervals")
     public ResponseEntity<FocusDto.SaveResponse> saveIntervals(
@@ -42,47 +59,45 @@ public class FocusController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유저 식별 불가");
         }
 
-        CourseEngagementAnalytics entity = new CourseEngagementAnalytics();
-
-        // 1) classId -> ClassEntity
-        if (payload.getClassId() != null) {
-            ClassEntity clazz = classRepository.findById(payload.getClassId())
-                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "classId not found: " + payload.getClassId()));
-            entity.setClassEntity(clazz);
-        } else {
+        // 1) classId (수강생/관리자만)
+        if (payload.getClassId() == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "classId 누락");
         }
-
-        // 2) 필드 세팅 (userId는 프론트값 무시하고 인증값 사용)
-        entity.setCourseId(payload.getCourseId());
-        entity.setUserId(userId);
-
-        if (payload.getStartedAt() != null) {
-            entity.setStartedAt(Instant.ofEpochMilli(payload.getStartedAt()));
-        }
-        if (payload.getEndedAt() != null) {
-            entity.setEndedAt(Instant.ofEpochMilli(payload.getEndedAt()));
+        try {
+            membershipService.requireMember(authentication, payload.getClassId());
+        } catch (RuntimeException e) {
+            // 수강 캐시 미스 + DB 장애: 저널로 받고 수강 확인은 드레이너가 저장할 때 (수강생이 아니면 그때 버림)
+            if (!journalService.shouldFallback(e)) throw e;
+            return journaled(journalService.appendUnverified(userId, payload));
         }
-        entity.setTotalDurationSec(payload.getTotalDurationSec());
-
-        // 3) intervals 매핑
-        if (payload.getIntervals() != null && !payload.getIntervals().isEmpty()) {
-            entity.setAttentionArr(
-                    payload.getIntervals().stream().map(ip -> {
-                        FocusInterval fi = new FocusInterval();
-                        fi.setStartAt(Instant.ofEpochMilli(ip.getStart()));
-                        fi.setEndAt(Instant.ofEpochMilli(ip.getEnd()));
-                        fi.setDurationSec(ip.getDurationSec());
-                        fi.setAvgScore(ip.getAvgScore());
-                        return fi;
-                    }).collect(Collectors.toList())
-            );
+
+        // 저널 모드: 로컬 저널에 적고 202 (DB 반영은 FocusJournalService 드레이너가, 세션 ID 는 아직 없음)
+        if (journalService.mode() == FocusJournalService.Mode.ALWAYS) {
+            return journaled(journalService.append(userId, payload));
         }
 
-        Long id = analyticsRepository.save(entity).getCourseAnalyticsId();
+        Long id;
+        try {
+            ClassEntity clazz = classRepository.findByClassIdAndDeletedAtIsNull(payload.getClassId())
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.BAD_REQUEST, "classId not found: " + payload.getClassId()));
+
+            // 2) 필드 세팅 + intervals 매핑 (userId는 프론트값 무시하고 인증값 사용)
+            CourseEngagementAnalytics entity = FocusIntervalMapper.toSession(clazz, userId, payload);
+            id = analyticsService.save(entity).getCourseAnalyticsId();
+        } catch (RuntimeException e) {
+            if (!journalService.shouldFallback(e)) throw e;
+            return journaled(journalService.append(userId, payload));
+        }
+        eventPublisher.publishEvent(new DashboardEvents.FocusSessionSaved(userId, payload.getClassId(), payload.getCourseId()));
         return ResponseEntity.ok(new FocusDto.SaveResponse(id));
     }
 
+    private static ResponseEntity<FocusDto.SaveResponse> journaled(long seq) {
+        return ResponseEntity.accepted()
+                .header("X-Journal-Seq", Long.toString(seq))
+                .body(new FocusDto.SaveResponse(null));
+    }
+
     private String resolveUserId(Authentication auth) {
         Object p = auth.getPrincipal();
         if (p instanceof UserDetails ud) return ud.getUsername();
@@ -93,16 +108,44 @@ public class FocusController {
         if (p instanceof String s) return s;     // ex) principal이 문자열인 커스텀 토큰
         return auth.getName();                   // 마지막 fallback
     }
+    // 세션 이력 (최신순, cursor = 이전 페이지 마지막 sessionId, 다음 페이지는 X-Next-Cursor 헤더)
+    // fields=intervals 면 구간 목록 포함 (페이지 전체를 쿼리 한 번으로), 없으면 요약만
+    // maxPoints 를 주면 세션마다 구간을 그 개수 이하로 다운샘플링 (차트 폭에 맞춤)
+    // Accept: application/vnd.edtech.columnar+json 또는 application/cbor 면 구간을 컬럼형(timeline)으로
+    @GetMapping("/sessions")
+    public ResponseEntity<byte[]> history(
+            @RequestParam Long classId,
+            @RequestParam Long courseId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) List<String> fields,
+            @RequestParam(required = false) Integer maxPoints,
+            Authentication auth,
+            WebRequest request
+    ) {
+        membershipService.requireMember(auth, classId);
+        MediaType compact = PageResponseWriter.columnarType(request);
+        FocusHistoryService.IntervalFormat format = fields == null || !fields.contains("intervals")
+                ? FocusHistoryService.IntervalFormat.NONE
+                : compact != null ? FocusHistoryService.IntervalFormat.COLUMNAR : FocusHistoryService.IntervalFormat.LIST;
+        var page = focusHistoryService.history(classId, courseId, resolveUserId(auth),
+                cursor, CursorPage.clampSize(size), format, maxPoints);
+        return pageResponseWriter.write(page, request, compact != null ? compact : MediaType.APPLICATION_JSON);
+    }
+
     @GetMapping("/intervals/latest")
 @Transactional(readOnly = true)
-public ResponseEntity<FocusDto.LatestView> getLatest(
+public ResponseEntity<?> getLatest(
         @RequestParam Long classId,
         @RequestParam Long courseId,
-        Authentication auth
+        @RequestParam(required = false) Integer maxPoints, // 차트 폭(px) 정도. 주면 LTTB 로 다운샘플링
+        Authentication auth,
+        WebRequest request
 ) {
     if (auth == null || !auth.isAuthenticated()) {
         return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
     }
+    membershipService.requireMember(auth, classId);
     String userId = resolveUserId(auth);
     var opt = analyticsRepository.findLatest(classId, courseId, userId);
     if (opt.isEmpty()) return ResponseEntity.noContent().build();
@@ -112,24 +155,37 @@ public ResponseEntity<FocusDto.LatestView> getLatest(
         return ResponseEntity.noContent().build();
     }
 
-    var view = new FocusDto.LatestView();
     // startedAt 없을 수도 있으니 보정
     var started = cea.getStartedAt();
     if (started == null && cea.getAttentionArr().get(0).getStartAt() != null) {
         started = cea.getAttentionArr().get(0).getStartAt();
     }
+
+    // 컬럼형: 구간 객체(IntervalView) 없이 배열로 바로 채워서 씀
+    MediaType compact = PageResponseWriter.columnarType(request);
+    if (compact != null) {
+        var columnar = ColumnarIntervals.of(started, cea.getAttentionArr());
+        var view = new FocusDto.CompactLatestView();
+        view.setStartedAt(started);
+        if (maxPoints != null) {
+            var reduced = columnar.downsample(maxPoints);
+            if (reduced != columnar) view.setTotalIntervals(columnar.size());
+            columnar = reduced;
+        }
+        view.setIntervals(columnar);
+        return pageResponseWriter.writeBody(view, request, compact);
+    }
+
+    var view = new FocusDto.LatestView();
     view.setStartedAt(started);
 
-    var intervals = cea.getAttentionArr().stream().map(fi -> {
-        var iv = new FocusDto.IntervalView();
-        iv.setStart(fi.getStartAt() != null ? fi.getStartAt().toEpochMilli() : 0L);
-        iv.setEnd(fi.getEndAt() != null ? fi.getEndAt().toEpochMilli() : iv.getStart());
-        iv.setDurationSec(fi.getDurationSec());
-        iv.setAvgScore(fi.getAvgScore());
-        return iv;
-    }).collect(Collectors.toList());
+    var intervals = FocusIntervalMapper.toViews(cea.getAttentionArr());
+    if (maxPoints != null && intervals.size() > Math.max(maxPoints, TimelineDownsampler.MIN_POINTS)) {
+        view.setTotalIntervals(intervals.size());
+        intervals = FocusHistoryService.downsample(intervals, maxPoints);
+    }
     view.setIntervals(intervals);
 
-    return ResponseEntity.ok(view);
+    return ResponseEntity.ok().header(HttpHeaders.VARY, HttpHeaders.ACCEPT).body(view);
 }
 }
@@ -0,0 +1,145 @@
+// src/main/java/com/edtech/edtech_backend/controller/MediaController.java
+package com.edtech.edtech_backend.controller;
+
+import com.edtech.edtech_backend.service.MediaFileService;
+import com.edtech.edtech_backend.service.MediaFileService.MediaFile;
+import com.edtech.edtech_backend.service.SegmentCacheService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * DASH 세그먼트/매니페스트 전용 서빙 엔드포인트.
+ * GET /api/media/mpd/chunk_0_1.m4s → {media.root}/mpd/chunk_0_1.m4s
+ * - 단일 Range 요청 지원 (206 / 416)
+ * - 강한 ETag + 세그먼트는 immutable 캐시
+ * - 핫 세그먼트는 SegmentCacheService 메모리 버퍼에서 응답
+ * - 그 외는 Tomcat sendfile 이 가능하면 커널 zero-copy, 아니면 응답 스트림으로 복사
+ *   (대상이 소켓이 아니라 서블릿 OutputStream 채널이라 transferTo 도 8KB 버퍼를 거치는 사용자 공간 복사)
+ */
+@RestController
+@RequestMapping("/api/media")
+public class MediaController {
+
+    // Tomcat DefaultServlet 과 같은 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365))
+            .cachePublic().immutable().getHeaderValue();
+    private static final String REVALIDATE = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private final MediaFileService mediaFileService;
+    private final SegmentCacheService segmentCacheService;
+    private final long sendfileThreshold;
+
+    public MediaController(MediaFileService mediaFileService,
+                           SegmentCacheService segmentCacheService,
+                           @Value("${media.sendfile-threshold:49152}") long sendfileThreshold) {
+        this.mediaFileService = mediaFileService;
+        this.segmentCacheService = segmentCacheService;
+        this.sendfileThreshold = sendfileThreshold;
+    }
+
+    @GetMapping("/{*path}") // HEAD 도 같이 매핑됨
+    public void serve(@PathVariable String path, HttpServletRequest req, HttpServletResponse res) throws IOException {
+        MediaFile file = mediaFileService.resolve(path).orElse(null);
+        if (file == null) {
+            res.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        res.setHeader(HttpHeaders.CACHE_CONTROL, file.immutable() ? IMMUTABLE : REVALIDATE);
+        res.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // If-None-Match / If-Modified-Since → 304 (ETag, Last-Modified 헤더도 여기서 세팅됨)
+        if (new ServletWebRequest(req, res).checkNotModified(file.etag(), file.lastModified())) {
+            return;
+        }
+
+        long length = file.length();
+        long start = 0;
+        long end = length - 1;
+
+        String rangeHeader = req.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && ifRangeMatches(req, file)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of(); // 형식이 틀린 Range 는 무시하고 전체 응답
+            }
+            // 다중 Range(multipart/byteranges)는 플레이어가 쓰지 않으므로 전체 응답으로 대체
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                } catch (IllegalArgumentException e) {
+                    start = -1;
+                }
+                if (start < 0 || start >= length || end < start) {
+                    res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    res.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                res.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                res.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        res.setContentType(file.contentType().toString());
+        res.setContentLengthLong(count);
+
+        if ("HEAD".equals(req.getMethod()) || count == 0) return;
+
+        // 핫 세그먼트는 메모리 버퍼에서 바로 쓴다
+        var cached = segmentCacheService.get(file);
+        if (cached.isPresent()) {
+            ByteBuffer slice = cached.get();
+            slice.position((int) start).limit((int) (start + count));
+            WritableByteChannel out = Channels.newChannel(res.getOutputStream());
+            while (slice.hasRemaining()) out.write(slice);
+            segmentCacheService.recordServed(SegmentCacheService.Source.CACHE, count);
+            return;
+        }
+
+        if (count >= sendfileThreshold && Boolean.TRUE.equals(req.getAttribute(SENDFILE_SUPPORTED))) {
+            segmentCacheService.recordServed(SegmentCacheService.Source.SENDFILE, count);
+            // 서블릿이 끝난 뒤 Tomcat 이 sendfile 로 직접 전송
+            req.setAttribute(SENDFILE_FILENAME, file.path().toString());
+            req.setAttribute(SENDFILE_START, start);
+            req.setAttribute(SENDFILE_END, start + count);
+            return;
+        }
+        // sendfile 불가(HTTPS 등)/작은 파일: 사용자 공간 복사
+        segmentCacheService.recordServed(SegmentCacheService.Source.FILE, count);
+        mediaFileService.transfer(file, start, count, Channels.newChannel(res.getOutputStream()));
+    }
+
+    // If-Range 가 없거나 현재 ETag(강한 비교)/Last-Modified 와 같을 때만 Range 적용
+    private static boolean ifRangeMatches(HttpServletRequest req, MediaFile file) {
+        String ifRange = req.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) return true;
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) return ifRange.equals(file.etag());
+        try {
+            return req.getDateHeader(HttpHeaders.IF_RANGE) / 1000 == file.lastModified() / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+// src/main/java/com/edtech/edtech_backend/controller/PageResponseWriter.java
+package com.edtech.edtech_backend.controller;
+
+import com.edtech.edtech_backend.dto.ColumnarIntervals;
+import com.edtech.edtech_backend.dto.CursorPage;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * 커서 페이지 응답 공통 처리.
+ * - 본문은 기존과 같은 JSON 배열 (프론트 호환)
+ * - 다음 페이지는 X-Next-Cursor 헤더 + Link: <...>; rel="next"
+ * - 본문 해시로 ETag → If-None-Match 일치하면 304
+ * - 구간이 많은 응답은 Accept 에 따라 컬럼형 JSON / CBOR 로도 (columnarType)
+ */
+@Component
+class PageResponseWriter {
+
+    static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    private final ObjectMapper objectMapper;
+    // CBOR 에서는 시각을 epoch ms 숫자로 (ISO 문자열/소수 초 대신)
+    private final ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor()
+            .featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .featuresToDisable(SerializationFeature.WRITE_DATE_TIMESTAMPS_AS_NANOSECONDS)
+            .build();
+
+    PageResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Accept 에 컬럼형 JSON 이나 CBOR 가 명시돼 있으면 그 타입, 아니면 null (기존 JSON).
+     * 브라우저 기본값 같은 와일드카드는 기존 형식으로 본다.
+     */
+    static MediaType columnarType(WebRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (accept == null || accept.isBlank()) return null;
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(types); // q 값 높은 순
+        for (MediaType t : types) {
+            if (t.isWildcardType() || t.isWildcardSubtype()) continue;
+            if (t.isCompatibleWith(MediaType.APPLICATION_CBOR)) return MediaType.APPLICATION_CBOR;
+            if (t.isCompatibleWith(ColumnarIntervals.COLUMNAR_JSON)) return ColumnarIntervals.COLUMNAR_JSON;
+            if (t.isCompatibleWith(MediaType.APPLICATION_JSON)) return null;
+        }
+        return null;
+    }
+
+    ResponseEntity<byte[]> write(CursorPage<?> page, WebRequest request) {
+        return write(page, request, MediaType.APPLICATION_JSON);
+    }
+
+    ResponseEntity<byte[]> write(CursorPage<?> page, WebRequest request, MediaType type) {
+        byte[] body = serialize(page.items(), type);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body)
+                + (page.nextCursor() != null ? "-" + page.nextCursor() : "") + "\"";
+
+        if (request.checkNotModified(etag)) {
+            return null; // 304
+        }
+
+        ResponseEntity.BodyBuilder res = ok(type, etag);
+        if (page.nextCursor() != null) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", page.nextCursor())
+                    .toUriString();
+            res.header(NEXT_CURSOR, String.valueOf(page.nextCursor()))
+               .header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return res.body(body);
+    }
+
+    /** 단건 응답 (페이지 아님) 을 주어진 형식으로 */
+    ResponseEntity<byte[]> writeBody(Object value, WebRequest request, MediaType type) {
+        byte[] body = serialize(value, type);
+        String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+        if (request.checkNotModified(etag)) {
+            return null; // 304
+        }
+        return ok(type, etag).body(body);
+    }
+
+    private ResponseEntity.BodyBuilder ok(MediaType type, String etag) {
+        return ResponseEntity.ok()
+                .contentType(type)
+                .cacheControl(CacheControl.noCache())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .eTag(etag);
+    }
+
+    private byte[] serialize(Object value, MediaType type) {
+        ObjectMapper mapper = MediaType.APPLICATION_CBOR.equals(type) ? cborMapper : objectMapper;
+        try {
+            return mapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
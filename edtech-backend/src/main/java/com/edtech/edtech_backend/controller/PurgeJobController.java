@@ -0,0 +1,34 @@
+package com.edtech.edtech_backend.controller;
+
+import com.edtech.edtech_backend.dto.PurgeJobDto;
+import com.edtech.edtech_backend.repository.PurgeJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+// 코스/클래스 삭제 후 백그라운드 정리 진행 상황 (관리자)
+@RestController
+@RequestMapping("/api/admin/purge-jobs")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class PurgeJobController {
+
+    private final PurgeJobRepository purgeJobRepository;
+
+    // 최근 50건
+    @GetMapping
+    public List<PurgeJobDto> recent() {
+        return purgeJobRepository.findTop50ByOrderByJobIdDesc().stream().map(PurgeJobDto::from).toList();
+    }
+
+    @GetMapping("/{jobId}")
+    public PurgeJobDto get(@PathVariable Long jobId) {
+        return purgeJobRepository.findById(jobId)
+                .map(PurgeJobDto::from)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "purge job not found"));
+    }
+}
@@ -1,6 +1,7 @@
 package com.edtech.edtech_backend.controller;
 
 import com.edtech.edtech_backend.dto.LlmQuizDto;
+import com.edtech.edtech_backend.service.EnrollmentMembershipService;
 import com.edtech.edtech_backend.service.QuizLlmGatewayService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -16,6 +17,7 @@ import java.util.List;
 public class QuizController {
 
     private final QuizLlmGatewayService quizLlmGatewayService;
+    private final EnrollmentMembershipService membershipService;
 
     @PostMapping("/classes/{classId}/courses/{courseId}/generate") // ✅ 메서드 레벨
     public ResponseEntity<List<LlmQuizDto.QuizItemDto>> generate(
@@ -23,6 +25,7 @@ public class QuizController {
             @PathVariable Long courseId,
             Authentication auth
     ) {
+        membershipService.requireMember(auth, classId); // 수강생/관리자만
         String userId = resolveUserId(auth);
         var items = quizLlmGatewayService.generateFromIntervals(classId, courseId, userId);
         return ResponseEntity.ok(items);
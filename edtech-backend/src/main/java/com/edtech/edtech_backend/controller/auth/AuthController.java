@@ -1,32 +1,46 @@
 package com.edtech.edtech_backend.controller.auth;
 
+import com.edtech.edtech_backend.config.AsyncConfig;
 import com.edtech.edtech_backend.dto.auth.AuthResponseDto;
 import com.edtech.edtech_backend.dto.auth.LoginRequestDto;        
 import com.edtech.edtech_backend.dto.auth.RegisterRequestDto;     
 import com.edtech.edtech_backend.entity.User;
 import com.edtech.edtech_backend.repository.UserRepository;
 import com.edtech.edtech_backend.security.JwtTokenProvider;
+import com.edtech.edtech_backend.service.PasswordHashingService;
 import jakarta.validation.Valid;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 @CrossOrigin(origins = "http://localhost:3000")
 @RestController
 @RequestMapping("/api/auth")
-@RequiredArgsConstructor
 public class AuthController {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashing; // BCrypt 는 전용 풀에서 (요청 스레드는 바로 반환)
     private final JwtTokenProvider jwt;
+    private final Executor authDbExecutor;                // 해싱 후 DB 작업은 해싱 풀이 아닌 여기서
+
+    public AuthController(UserRepository userRepository,
+                          PasswordHashingService passwordHashing,
+                          JwtTokenProvider jwt,
+                          @Qualifier(AsyncConfig.AUTH_DB_EXECUTOR) Executor authDbExecutor) {
+        this.userRepository = userRepository;
+        this.passwordHashing = passwordHashing;
+        this.jwt = jwt;
+        this.authDbExecutor = authDbExecutor;
+    }
 
     @PostMapping("/register")
-    public ResponseEntity<AuthResponseDto> register(@Valid @RequestBody RegisterRequestDto req) { // ✅ 타입 변경
+    public CompletableFuture<ResponseEntity<AuthResponseDto>> register(@Valid @RequestBody RegisterRequestDto req) { // ✅ 타입 변경
         userRepository.findByEmail(req.getEmail())
                 .ifPresent(u -> { throw new ResponseStatusException(HttpStatus.CONFLICT, "email exists"); });
 
@@ -34,7 +48,6 @@ public class AuthController {
         u.setName(req.getName());
         u.setEmail(req.getEmail());
         u.setPhone(req.getPhone());  // ✅ 연락처 저장
-        u.setPasswordHash(passwordEncoder.encode(req.getPassword()));
 
         // ✅ 역할 매핑 (대소문자 허용)
         try {
@@ -43,28 +56,37 @@ public class AuthController {
                 throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "role must be STUDENT or ADMIN");
         }
 
-        User saved = userRepository.save(u);
-        String token = jwt.createToken(saved.getUserId(), saved.getRole().name(), saved.getEmail());
+        return passwordHashing.encode(req.getPassword()).thenApplyAsync(hash -> {
+            u.setPasswordHash(hash);
+            User saved = userRepository.save(u);
+            String token = jwt.createToken(saved.getUserId(), saved.getRole().name(), saved.getEmail());
 
-        return ResponseEntity.ok(new AuthResponseDto(
-            token, saved.getUserId(), saved.getName(), saved.getEmail(), saved.getRole().name()
-        ));
+            return ResponseEntity.ok(new AuthResponseDto(
+                token, saved.getUserId(), saved.getName(), saved.getEmail(), saved.getRole().name()
+            ));
+        }, authDbExecutor);
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponseDto> login(@Valid @RequestBody LoginRequestDto req) {
+    public CompletableFuture<ResponseEntity<AuthResponseDto>> login(@Valid @RequestBody LoginRequestDto req) {
         User u = userRepository.findByEmail(req.getEmail())
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid credentials"));
 
-        if (!passwordEncoder.matches(req.getPassword(), u.getPasswordHash())) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid credentials");
-        }
-
-        String token = jwt.createToken(u.getUserId(), u.getRole().name(), u.getEmail());
-
-        return ResponseEntity.ok(new AuthResponseDto(
-                token, u.getUserId(), u.getName(), u.getEmail(), u.getRole().name()
-        ));
+        return passwordHashing.verify(req.getPassword(), u.getPasswordHash()).thenApplyAsync(result -> {
+            if (!result.matched()) {
+                throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "invalid credentials");
+            }
+            // cost 가 바뀌었으면 새 해시로 교체
+            if (result.upgradedHash() != null) {
+                userRepository.updatePasswordHash(u.getUserId(), result.upgradedHash());
+            }
+
+            String token = jwt.createToken(u.getUserId(), u.getRole().name(), u.getEmail());
+
+            return ResponseEntity.ok(new AuthResponseDto(
+                    token, u.getUserId(), u.getName(), u.getEmail(), u.getRole().name()
+            ));
+        }, authDbExecutor);
     }
 
     @GetMapping("/me")
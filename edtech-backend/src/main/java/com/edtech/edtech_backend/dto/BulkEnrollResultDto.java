@@ -0,0 +1,21 @@
+// src/main/java/com/edtech/edtech_backend/dto/BulkEnrollResultDto.java
+package com.edtech.edtech_backend.dto;
+
+import java.util.List;
+import java.util.Map;
+
+/** 일괄 수강 등록 결과: 결과별 건수 + 입력 행별 결과 */
+public record BulkEnrollResultDto(Long classId, int total, Map<Outcome, Integer> counts, List<Row> rows) {
+
+    public enum Outcome {
+        ENROLLED,          // 새로 등록(승인)됨
+        WAITLISTED,        // 정원 초과로 대기열
+        ALREADY_ENROLLED,  // 이미 승인되어 있음
+        USER_NOT_FOUND,    // 해당 이메일 사용자 없음
+        INVALID,           // 이메일 형식 오류 / 빈 값
+        DUPLICATE          // 같은 요청 안에서 중복된 이메일
+    }
+
+    /** row 는 1부터 시작 (CSV 헤더 제외) */
+    public record Row(int row, String email, Outcome result, Long userId) {}
+}
@@ -0,0 +1,4 @@
+package com.edtech.edtech_backend.dto;
+
+/** 관리자용 클래스 목록 행 (엔티티 대신 프로젝션) */
+public record ClassAdminDto(Long classId, String title, String tag, int headcount) {}
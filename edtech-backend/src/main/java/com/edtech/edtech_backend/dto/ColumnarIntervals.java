@@ -0,0 +1,144 @@
+// src/main/java/com/edtech/edtech_backend/dto/ColumnarIntervals.java
+package com.edtech.edtech_backend.dto;
+
+import com.edtech.edtech_backend.entity.FocusInterval;
+import com.edtech.edtech_backend.service.TimelineDownsampler;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 집중 구간 목록의 컬럼형(압축) 표현. 구간 객체 대신 평행 배열로 들고, 그대로 배열로 쓴다.
+ * <pre>
+ * {"base": 1700000000000, "count": 3,
+ *  "starts": [0, 2000, 4000], "ends": [1500, 3500, 5500],   // base 기준 상대 ms
+ *  "durationSec": [1, 1, null], "avgScore": [0.5, 0.61, null]}
+ * </pre>
+ * Accept: application/vnd.edtech.columnar+json (JSON) 또는 application/cbor 일 때만 사용.
+ */
+@JsonSerialize(using = ColumnarIntervals.Serializer.class)
+public final class ColumnarIntervals {
+
+    public static final String COLUMNAR_JSON_VALUE = "application/vnd.edtech.columnar+json";
+    public static final MediaType COLUMNAR_JSON = MediaType.parseMediaType(COLUMNAR_JSON_VALUE);
+
+    // 값 없음 표시 (durationSec 은 음수가 없고, avgScore 는 NaN)
+    private static final int NO_DURATION = Integer.MIN_VALUE;
+
+    private final long base;
+    private int size;
+    private long[] starts;
+    private long[] ends;
+    private int[] durations;
+    private double[] scores;
+
+    public ColumnarIntervals(long base, int capacity) {
+        this.base = base;
+        int cap = Math.max(capacity, 4);
+        this.starts = new long[cap];
+        this.ends = new long[cap];
+        this.durations = new int[cap];
+        this.scores = new double[cap];
+    }
+
+    /** 엔티티 구간에서 바로 (base = startedAt, 없으면 첫 구간 시작) */
+    public static ColumnarIntervals of(Instant startedAt, List<FocusInterval> intervals) {
+        long base = startedAt != null ? startedAt.toEpochMilli()
+                : (!intervals.isEmpty() && intervals.get(0).getStartAt() != null ? intervals.get(0).getStartAt().toEpochMilli() : 0L);
+        ColumnarIntervals c = new ColumnarIntervals(base, intervals.size());
+        for (FocusInterval fi : intervals) {
+            c.add(fi.getStartAt(), fi.getEndAt(), fi.getDurationSec(), fi.getAvgScore());
+        }
+        return c;
+    }
+
+    public void add(Instant start, Instant end, Integer durationSec, Double avgScore) {
+        if (size == starts.length) grow();
+        long s = start != null ? start.toEpochMilli() : 0L;
+        starts[size] = s;
+        ends[size] = end != null ? end.toEpochMilli() : s; // IntervalView 와 같은 보정
+        durations[size] = durationSec != null ? durationSec : NO_DURATION;
+        scores[size] = avgScore != null ? avgScore : Double.NaN;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /** maxPoints 보다 많으면 LTTB 로 골라낸 새 배열 (x = 구간 중앙, y = 점수) */
+    public ColumnarIntervals downsample(int maxPoints) {
+        if (size <= Math.max(maxPoints, TimelineDownsampler.MIN_POINTS)) return this;
+        long[] xs = new long[size];
+        double[] ys = new double[size];
+        for (int i = 0; i < size; i++) {
+            xs[i] = starts[i] + (ends[i] - starts[i]) / 2;
+            ys[i] = Double.isNaN(scores[i]) ? 0.0 : scores[i];
+        }
+        int[] picked = TimelineDownsampler.lttb(xs, ys, Math.max(maxPoints, TimelineDownsampler.MIN_POINTS));
+        ColumnarIntervals out = new ColumnarIntervals(base, picked.length);
+        for (int idx : picked) {
+            out.starts[out.size] = starts[idx];
+            out.ends[out.size] = ends[idx];
+            out.durations[out.size] = durations[idx];
+            out.scores[out.size] = scores[idx];
+            out.size++;
+        }
+        return out;
+    }
+
+    private void grow() {
+        int cap = starts.length * 2;
+        starts = Arrays.copyOf(starts, cap);
+        ends = Arrays.copyOf(ends, cap);
+        durations = Arrays.copyOf(durations, cap);
+        scores = Arrays.copyOf(scores, cap);
+    }
+
+    /** 배열을 바로 쓴다 (요소별 객체/맵 없음). JSON/CBOR 공용 */
+    public static final class Serializer extends StdSerializer<ColumnarIntervals> {
+
+        public Serializer() {
+            super(ColumnarIntervals.class);
+        }
+
+        @Override
+        public void serialize(ColumnarIntervals c, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            int n = c.size;
+            gen.writeStartObject();
+            gen.writeNumberField("base", c.base);
+            gen.writeNumberField("count", n);
+
+            gen.writeArrayFieldStart("starts");
+            for (int i = 0; i < n; i++) gen.writeNumber(c.starts[i] - c.base);
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("ends");
+            for (int i = 0; i < n; i++) gen.writeNumber(c.ends[i] - c.base);
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("durationSec");
+            for (int i = 0; i < n; i++) {
+                if (c.durations[i] == NO_DURATION) gen.writeNull();
+                else gen.writeNumber(c.durations[i]);
+            }
+            gen.writeEndArray();
+
+            gen.writeArrayFieldStart("avgScore");
+            for (int i = 0; i < n; i++) {
+                if (Double.isNaN(c.scores[i])) gen.writeNull();
+                else gen.writeNumber(c.scores[i]);
+            }
+            gen.writeEndArray();
+
+            gen.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+// src/main/java/com/edtech/edtech_backend/dto/CursorPage.java
+package com.edtech.edtech_backend.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 페이지. nextCursor 는 다음 요청의 cursor 값 (마지막 페이지면 null).
+ * 레포지토리는 size + 1 개를 읽어 오고, 여기서 한 개 더 있으면 다음 페이지가 있다고 본다.
+ */
+public record CursorPage<T>(List<T> items, Long nextCursor) {
+
+    public static final int DEFAULT_SIZE = 50;
+    public static final int MAX_SIZE = 200;
+
+    /** 요청 size 를 1..MAX_SIZE 로 제한 */
+    public static int clampSize(Integer size) {
+        if (size == null) return DEFAULT_SIZE;
+        return Math.max(1, Math.min(MAX_SIZE, size));
+    }
+
+    public static <R, T> CursorPage<T> of(List<R> rows, int size, Function<R, Long> keyOf, Function<R, T> mapper) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+        Long next = hasNext ? keyOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPage<>(page.stream().map(mapper).toList(), next);
+    }
+
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Long> keyOf) {
+        return of(rows, size, keyOf, Function.identity());
+    }
+}
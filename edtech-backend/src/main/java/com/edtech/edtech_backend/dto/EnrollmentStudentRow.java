@@ -0,0 +1,7 @@
+package com.edtech.edtech_backend.dto;
+
+import java.time.LocalDateTime;
+
+/** 수강생 목록 프로젝션 (enrollmentId 는 커서용) */
+public record EnrollmentStudentRow(Long enrollmentId, Long userId, String name, String email,
+                                   String phone, LocalDateTime enrolledAt) {}
@@ -1,6 +1,7 @@
 // src/main/java/com/edtech/edtech_backend/dto/FocusDto.java
 package com.edtech.edtech_backend.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -38,6 +39,32 @@ public class FocusDto {
     public static class LatestView {
     private Instant startedAt;            // ISO로 내려감 (프론트 toMs 처리)
     private List<IntervalView> intervals;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalIntervals;       // maxPoints 로 줄였을 때만: 원래 구간 수
+    }
+
+    // LatestView 의 컬럼형 버전 (Accept: application/vnd.edtech.columnar+json 또는 application/cbor)
+    @Getter @Setter
+    public static class CompactLatestView {
+    private Instant startedAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalIntervals;       // maxPoints 로 줄였을 때만: 원래 구간 수
+    private ColumnarIntervals intervals;
+    }
+
+    // 세션 이력 한 건. intervals 는 fields=intervals 로 요청했을 때만 채움
+    @Getter @Setter
+    public static class SessionView {
+    private Long sessionId;
+    private Instant startedAt;
+    private Instant endedAt;
+    private Integer totalDurationSec;
+    private int intervalCount;
+    private Instant createdAt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<IntervalView> intervals; // maxPoints 가 있으면 그 개수 이하로 줄인 것 (원래 개수는 intervalCount)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private ColumnarIntervals timeline;   // 컬럼형 응답일 때 intervals 대신
     }
 
     @Getter @Setter
@@ -0,0 +1,17 @@
+package com.edtech.edtech_backend.dto;
+
+import com.edtech.edtech_backend.entity.PurgeJob;
+
+import java.time.Instant;
+
+/** 삭제 정리 작업 진행 상황 (관리자 조회용) */
+public record PurgeJobDto(Long jobId, PurgeJob.Target target, Long targetId, PurgeJob.Status status,
+                          int step, long deletedRows, int attempts, String lastError,
+                          Instant createdAt, Instant updatedAt, Instant finishedAt) {
+
+    public static PurgeJobDto from(PurgeJob j) {
+        return new PurgeJobDto(j.getJobId(), j.getTarget(), j.getTargetId(), j.getStatus(),
+                j.getStep(), j.getDeletedRows(), j.getAttempts(), j.getLastError(),
+                j.getCreatedAt(), j.getUpdatedAt(), j.getFinishedAt());
+    }
+}
@@ -0,0 +1,23 @@
+// src/main/java/com/edtech/edtech_backend/dto/StudentDashboardDto.java
+package com.edtech.edtech_backend.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 학생 홈 화면 한 번에 그리기용 (StudentDashboard.payload 에 JSON 으로 저장되는 모양 그대로)
+ * /api/auth/me + /api/classes/me/enrollments + 클래스별 코스 + 코스별 최근 집중 세션을 합친 것.
+ */
+public record StudentDashboardDto(Long userId, String name, String email, String role,
+                                  List<ClassItem> classes, Instant updatedAt) {
+
+    /** status: APPROVED / WAITLISTED. 코스 목록은 승인된 클래스만 채운다 */
+    public record ClassItem(Long classId, String title, String tag, String status, List<CourseItem> courses) {}
+
+    /** quizAvailable: 강의 자막이 있고 최근 세션에 집중 안함 구간이 있으면 true (퀴즈 생성 조건과 같음) */
+    public record CourseItem(Long courseId, String title, Long lectureId, FocusSummary latestFocus, boolean quizAvailable) {}
+
+    /** 최근 세션 요약 (구간 상세는 /api/focus/intervals/latest) */
+    public record FocusSummary(Long sessionId, Instant startedAt, Integer totalDurationSec,
+                               int intervalCount, Integer unfocusedSec, Double avgScore) {}
+}
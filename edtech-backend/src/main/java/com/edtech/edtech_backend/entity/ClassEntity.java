@@ -17,7 +17,16 @@ public class ClassEntity {
 
     private String title;
     private String tag;
-    private int headcount;
+    private int headcount; // 정원 (0 이하면 무제한)
+
+    // 승인된 수강 인원. 조건부 UPDATE 로만 증감 (ClassRepository.tryReserveSeat / releaseSeat)
+    @Column(name = "enrolled_count", nullable = false)
+    private int enrolledCount = 0;
+
+    // 삭제 요청 시각. 값이 있으면 목록/신청에서 제외되고 BulkPurger 가 관련 데이터를 지운 뒤 행도 삭제
+    @Column(name = "deleted_at")
+    @JsonIgnore
+    private java.time.Instant deletedAt;
 
     @OneToMany(mappedBy = "clazz", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonIgnore
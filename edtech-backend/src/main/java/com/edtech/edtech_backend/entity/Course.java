@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 
+import java.time.Instant;
+
 @Entity
 @Getter
 @Setter
@@ -18,7 +20,7 @@ public class Course {
     private String tag;
     private String instructor;
 
-    @OneToOne
+    @OneToOne(fetch = FetchType.LAZY) // 목록 조회 때마다 강의까지 조인하지 않도록
     @JoinColumn(name = "lecture_id", unique = true)
     private Lecture lecture;
     
@@ -26,4 +28,8 @@ public class Course {
     @JoinColumn(name = "class_id")
     private ClassEntity classEntity;
 
+    // 삭제 요청 시각 (soft delete). 세션/일정/요약 정리는 BulkPurger 가 나중에
+    @Column(name = "deleted_at")
+    private Instant deletedAt;
+
 }
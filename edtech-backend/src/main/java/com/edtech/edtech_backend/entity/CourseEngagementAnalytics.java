@@ -11,7 +11,15 @@ import java.util.List;
 
 @Setter @Getter
 @Entity
-@Table(name = "course_engagement_analytics")
+@Table(name = "course_engagement_analytics",
+       indexes = {
+           // 사용자별 최근 세션 조회 (findLatest / 대시보드)
+           @Index(name = "idx_cea_user_class_course_created",
+                  columnList = "user_email, class_id, course_id, created_at"),
+           // 세션 이력 키셋 페이지 (sessionId 역순)
+           @Index(name = "idx_cea_user_class_course_id",
+                  columnList = "user_email, class_id, course_id, course_analytics_id")
+       })
 public class CourseEngagementAnalytics {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -2,6 +2,8 @@ package com.edtech.edtech_backend.entity;
 
 import jakarta.persistence.*;
 import lombok.Getter; import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 @Entity @Getter @Setter
@@ -9,7 +11,7 @@ import java.time.LocalDateTime;
        uniqueConstraints = @UniqueConstraint(columnNames = {"user_id","class_id"}))
 public class Enrollment {
 
-  public enum Status { APPROVED, PENDING, REJECTED }
+  public enum Status { APPROVED, PENDING, REJECTED, WAITLISTED } // WAITLISTED: 정원 초과 대기
 
   @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
   private Long id;
@@ -20,7 +22,8 @@ public class Enrollment {
   @ManyToOne(optional = false) @JoinColumn(name = "class_id")
   private ClassEntity clazz; // Class는 예약어라 피함
 
-  @Enumerated(EnumType.STRING)
+  @Enumerated(EnumType.STRING) @Column(length = 20)
+  @JdbcTypeCode(SqlTypes.VARCHAR) // DB enum 타입 대신 varchar (상태 추가 시 스키마 변경 불필요)
   private Status status = Status.APPROVED; // 지금은 자동 승인
 
   private LocalDateTime createdAt;
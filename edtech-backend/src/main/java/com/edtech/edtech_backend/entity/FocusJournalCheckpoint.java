@@ -0,0 +1,37 @@
+package com.edtech.edtech_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 로컬 집중 세션 저널(FocusJournal)이 DB 에 어디까지 반영됐는지.
+ * 세션 저장과 같은 트랜잭션에서 갱신하므로, 드레이너가 커밋 직후 죽어도 같은 레코드를 두 번 넣지 않는다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "focus_journal_checkpoint")
+public class FocusJournalCheckpoint {
+
+    // 저널 디렉터리마다 처음 만들 때 정한 ID (journal.id 파일)
+    @Id
+    @Column(name = "journal_id", length = 64)
+    private String journalId;
+
+    @Column(name = "applied_seq", nullable = false)
+    private long appliedSeq;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+
+    public FocusJournalCheckpoint(String journalId, long appliedSeq) {
+        this.journalId = journalId;
+        this.appliedSeq = appliedSeq;
+        this.updatedAt = Instant.now();
+    }
+}
@@ -0,0 +1,72 @@
+// src/main/java/com/edtech/edtech_backend/entity/PurgeJob.java
+package com.edtech.edtech_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+
+/**
+ * 삭제된 코스/클래스의 관련 데이터 정리 작업 (BulkPurger 가 처리).
+ * 단계(step)와 지운 행 수는 배치마다 같은 트랜잭션에서 갱신되므로 재시작하면 그 단계부터 이어서 한다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "purge_job", indexes = @Index(name = "idx_purge_job_status", columnList = "status, job_id"))
+public class PurgeJob {
+
+    public enum Target { COURSE, CLASS }
+
+    public enum Status { PENDING, RUNNING, DONE, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Long jobId;
+
+    @Enumerated(EnumType.STRING) @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 20, nullable = false)
+    private Target target;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING) @JdbcTypeCode(SqlTypes.VARCHAR)
+    @Column(length = 20, nullable = false)
+    private Status status = Status.PENDING;
+
+    // 진행 중인 단계 번호 (BulkPurger 의 단계 목록 인덱스)
+    @Column(nullable = false)
+    private int step;
+
+    @Column(name = "deleted_rows", nullable = false)
+    private long deletedRows;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // 처리 중인 인스턴스의 점유 만료 시각 (죽으면 만료 후 다른 인스턴스/재기동이 이어받음)
+    @Column(name = "lease_until")
+    private Instant leaseUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    @PrePersist
+    void prePersist() {
+        if (createdAt == null) createdAt = Instant.now();
+    }
+}
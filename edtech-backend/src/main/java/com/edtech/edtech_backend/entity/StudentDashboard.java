@@ -0,0 +1,41 @@
+// src/main/java/com/edtech/edtech_backend/entity/StudentDashboard.java
+package com.edtech.edtech_backend.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Instant;
+
+/**
+ * 학생 대시보드 읽기 모델 (사용자당 한 행).
+ * 수강/코스/집중 세션 이벤트 때 StudentDashboardService 가 다시 만들어 payload(JSON) 를 통째로 교체한다.
+ */
+@Getter
+@Setter
+@Entity
+@Table(name = "student_dashboard",
+       uniqueConstraints = @UniqueConstraint(name = "uk_student_dashboard_email", columnNames = "email"))
+public class StudentDashboard {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Column(columnDefinition = "LONGTEXT", nullable = false)
+    private String payload; // StudentDashboardDto JSON
+
+    // payload 모양이 바뀌면 StudentDashboardService.SCHEMA_VERSION 을 올린다 → 읽을 때 다시 생성
+    @Column(name = "schema_version", nullable = false)
+    private int schemaVersion;
+
+    // 다시 만들 때마다 +1 (ETag 로도 사용). 동시 갱신은 낙관적 락으로 한쪽만 반영
+    @Version
+    private Long revision;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
@@ -1,5 +1,6 @@
 package com.edtech.edtech_backend.entity;
 
+import com.edtech.edtech_backend.security.UserChangeListener;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.*;
@@ -9,6 +10,7 @@ import lombok.Setter;
 @Getter 
 @Setter
 @Entity
+@EntityListeners(UserChangeListener.class)
 @Table(name="user", uniqueConstraints=@UniqueConstraint(columnNames="email"))
 public class User {
   @Id 
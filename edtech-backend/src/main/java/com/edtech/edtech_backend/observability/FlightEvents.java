@@ -0,0 +1,84 @@
+package com.edtech.edtech_backend.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 핫 패스용 JFR 커스텀 이벤트 (카테고리 "Edtech").
+ * 녹화 중이 아니면 begin/commit 은 사실상 no-op 이라 항상 켜 둔다.
+ * 녹화는 /actuator/jfr, 요약은 JfrSummarizer.
+ * <p>
+ * 공통 필드 operation/outcome 으로 JfrSummarizer 가 작업별 지연 시간을 묶는다.
+ */
+public final class FlightEvents {
+
+    public static final String CATEGORY = "Edtech";
+
+    private FlightEvents() {
+    }
+
+    @Category(CATEGORY)
+    @StackTrace(false)
+    public abstract static class Operation extends Event {
+        @Label("Operation")
+        public String operation;
+
+        @Label("Outcome")
+        public String outcome;
+    }
+
+    @Name("edtech.FocusIngest")
+    @Label("Focus Session Save")
+    @Description("집중도 세션 + 구간 저장 (Hibernate flush 포함)")
+    public static class FocusIngest extends Operation {
+        @Label("Class Id")
+        public long classId;
+
+        @Label("Course Id")
+        public long courseId;
+
+        @Label("Intervals")
+        public int intervals;
+    }
+
+    @Name("edtech.LlmCall")
+    @Label("LLM Gateway Call")
+    @Description("LLM 서버 호출 — WebClient block() 으로 요청 스레드가 기다린 시간")
+    public static class LlmCall extends Operation {
+        @Label("HTTP Status")
+        public int status;
+
+        @Label("Intervals")
+        public int intervals;
+
+        @Label("Subtitle Chars")
+        public int vttChars;
+    }
+
+    @Name("edtech.SubtitleLoad")
+    @Label("Subtitle Load")
+    @Description("VTT 파일 읽기 (asset 은 gzip/ETag 계산 포함)")
+    public static class SubtitleLoad extends Operation {
+        @Label("Path")
+        public String path;
+
+        @Label("Bytes")
+        @DataAmount
+        public long bytes;
+    }
+
+    @Name("edtech.Auth")
+    @Label("Auth")
+    @Description("BCrypt 해싱/검증, JWT 서명 검증 (캐시 히트는 기록하지 않음)")
+    public static class Auth extends Operation {
+        @Label("Queue Wait")
+        @Timespan(Timespan.NANOSECONDS)
+        public long queueWait;
+    }
+}
@@ -0,0 +1,111 @@
+package com.edtech.edtech_backend.observability;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * JFR 녹화 파일 → 작업별 지연 시간 요약.
+ * - operations : FlightEvents (operation/outcome 별 count, p50/p95/p99/max, 합계)
+ * - jvm        : 같은 시간 동안 GC 정지, 락 경합, park(WebClient block() 대기 등, 유휴 풀 스레드 제외), 소켓 읽기/쓰기
+ * 작업 합계와 jvm 합계를 나란히 보면 느려진 시간이 Hibernate/BCrypt/LLM 대기/GC 중 어디로 갔는지 가늠할 수 있다.
+ * <p>
+ * 콘솔 출력은 없음. /actuator/jfr 와 CLI(loadtest 소스셋 JfrSummaryMain, ./gradlew jfrSummary -Pjfr=...) 가 같이 쓴다.
+ */
+public final class JfrSummarizer {
+
+    // JDK 이벤트 → 요약 이름 (GC 는 정지 시간 필드를 따로 본다)
+    private static final Map<String, String> JVM_EVENTS = Map.of(
+            "jdk.GarbageCollection", "gc.pause",
+            "jdk.JavaMonitorEnter", "lock.monitor-enter",
+            "jdk.ThreadPark", "thread.park",
+            "jdk.SocketRead", "socket.read",
+            "jdk.SocketWrite", "socket.write");
+
+    private static final Set<String> IDLE_FRAMES = Set.of(
+            "java.util.concurrent.ThreadPoolExecutor.getTask",
+            "org.apache.tomcat.util.threads.ThreadPoolExecutor.getTask",
+            "java.util.concurrent.ForkJoinPool.awaitWork",
+            "java.util.concurrent.ForkJoinPool.runWorker");
+
+    private JfrSummarizer() {
+    }
+
+    public record Stats(String name, String outcome, long count,
+                        double p50Ms, double p95Ms, double p99Ms, double maxMs, double totalMs) {
+    }
+
+    public record Summary(Instant start, Instant end, List<Stats> operations, List<Stats> jvm) {
+    }
+
+    public static Summary summarize(Path file) throws IOException {
+        Map<String, List<Long>> operations = new TreeMap<>();
+        Map<String, List<Long>> jvm = new TreeMap<>();
+        Instant start = null;
+        Instant end = null;
+
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent e = recording.readEvent();
+                if (start == null || e.getStartTime().isBefore(start)) start = e.getStartTime();
+                if (end == null || e.getEndTime().isAfter(end)) end = e.getEndTime();
+
+                String type = e.getEventType().getName();
+                if (e.getEventType().getCategoryNames().contains(FlightEvents.CATEGORY) && e.hasField("operation")) {
+                    String key = e.getString("operation") + "|" + e.getString("outcome");
+                    operations.computeIfAbsent(key, k -> new ArrayList<>()).add(e.getDuration().toNanos());
+                } else if (JVM_EVENTS.containsKey(type) && !isIdleWorker(e)) {
+                    Duration d = type.equals("jdk.GarbageCollection") ? e.getDuration("sumOfPauses") : e.getDuration();
+                    jvm.computeIfAbsent(JVM_EVENTS.get(type) + "|", k -> new ArrayList<>()).add(d.toNanos());
+                }
+            }
+        }
+        return new Summary(start, end, toStats(operations), toStats(jvm));
+    }
+
+    // 일감을 기다리는 풀 스레드(Tomcat/해싱/스케줄러)의 park 는 지연이 아니라서 뺀다
+    private static boolean isIdleWorker(RecordedEvent e) {
+        if (e.getStackTrace() == null) return false;
+        for (RecordedFrame f : e.getStackTrace().getFrames()) {
+            String method = f.getMethod().getType().getName() + "." + f.getMethod().getName();
+            if (IDLE_FRAMES.contains(method)) return true;
+        }
+        return false;
+    }
+
+    private static List<Stats> toStats(Map<String, List<Long>> byKey) {
+        List<Stats> out = new ArrayList<>(byKey.size());
+        byKey.forEach((key, list) -> {
+            long[] nanos = list.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(nanos);
+            int sep = key.indexOf('|');
+            String outcome = key.substring(sep + 1);
+            out.add(new Stats(key.substring(0, sep), outcome.isEmpty() || outcome.equals("null") ? null : outcome,
+                    nanos.length, ms(percentile(nanos, 0.50)), ms(percentile(nanos, 0.95)), ms(percentile(nanos, 0.99)),
+                    ms(nanos[nanos.length - 1]), ms(Arrays.stream(nanos).sum())));
+        });
+        out.sort(Comparator.comparingDouble(Stats::totalMs).reversed());
+        return out;
+    }
+
+    /** nearest-rank: 정렬된 값에서 ceil(p * n) 번째 */
+    static long percentile(long[] sorted, double p) {
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static double ms(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
@@ -1,9 +1,68 @@
 package com.edtech.edtech_backend.repository;
 
+import com.edtech.edtech_backend.dto.ClassAdminDto;
+import com.edtech.edtech_backend.dto.ClassSummaryDto;
 import com.edtech.edtech_backend.entity.ClassEntity;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface ClassRepository extends JpaRepository<ClassEntity, Long> {
+
+    // 키셋 페이지: classId > after 순서대로 (엔티티/enrollments 로딩 없음)
+    @Query("""
+        select new com.edtech.edtech_backend.dto.ClassSummaryDto(c.classId, c.title, c.headcount)
+        from ClassEntity c
+        where c.classId > :after and c.deletedAt is null
+        order by c.classId
+    """)
+    List<ClassSummaryDto> findSummariesAfter(Long after, Limit limit);
+
+    @Query("""
+        select new com.edtech.edtech_backend.dto.ClassAdminDto(c.classId, c.title, c.tag, c.headcount)
+        from ClassEntity c
+        where c.classId > :after and c.deletedAt is null
+        order by c.classId
+    """)
+    List<ClassAdminDto> findAdminRowsAfter(Long after, Limit limit);
+
+    // 좌석 1개 확보 (정원 남았을 때만). 해당 클래스 행만 잠깐 잠기고 테이블 락은 없음
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        update ClassEntity c set c.enrolledCount = c.enrolledCount + 1
+        where c.classId = :classId and (c.headcount <= 0 or c.enrolledCount < c.headcount)
+    """)
+    int tryReserveSeat(Long classId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update ClassEntity c set c.enrolledCount = c.enrolledCount - 1 where c.classId = :classId and c.enrolledCount > 0")
+    int releaseSeat(Long classId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update ClassEntity c set c.enrolledCount = c.enrolledCount + :seats where c.classId = :classId")
+    int addSeats(Long classId, int seats);
+
+    // 일괄 등록처럼 여러 좌석을 한 번에 계산할 때만 사용
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from ClassEntity c where c.classId = :classId and c.deletedAt is null")
+    Optional<ClassEntity> findForUpdate(Long classId);
+
+    // 삭제(soft delete)되지 않은 클래스만
+    Optional<ClassEntity> findByClassIdAndDeletedAtIsNull(Long classId);
+
+    // 승인 인원 재계산 (기동 시 정합성 맞추기)
+    @Modifying
+    @Query(value = """
+        update class_entity c
+        set enrolled_count = (select count(*) from enrollment e where e.class_id = c.class_id and e.status = 'APPROVED')
+    """, nativeQuery = true)
+    int recountEnrolled();
 }
@@ -1,9 +1,13 @@
 package com.edtech.edtech_backend.repository;
 
 import com.edtech.edtech_backend.entity.CourseEngagementAnalytics;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,13 +20,54 @@ public interface CourseEngagementAnalyticsRepository
       where a.classEntity.classId = :classId
         and a.courseId = :courseId
         and a.userId = :userId
-      order by a.createdAt desc
+      order by a.createdAt desc, a.courseAnalyticsId desc
     """)
-    List<CourseEngagementAnalytics> findSessions(Long classId, Long courseId, String userId);
+    List<CourseEngagementAnalytics> findSessions(Long classId, Long courseId, String userId, Limit limit);
 
     default Optional<CourseEngagementAnalytics> findLatest(Long classId, Long courseId, String userId) {
-        List<CourseEngagementAnalytics> list = findSessions(classId, courseId, userId);
-        return list.isEmpty() ? Optional.empty() : Optional.of(list.get(0));
+        // 전체 세션을 읽지 않도록 1건만
+        return findSessions(classId, courseId, userId, Limit.of(1)).stream().findFirst();
+    }
+
+    // 세션 이력 키셋 페이지 (최신순, cursor = 이전 페이지 마지막 sessionId). 구간은 로딩하지 않음
+    @Query("""
+      select a.courseAnalyticsId as sessionId, a.startedAt as startedAt, a.endedAt as endedAt,
+             a.totalDurationSec as totalDurationSec, size(a.attentionArr) as intervalCount, a.createdAt as createdAt
+      from CourseEngagementAnalytics a
+      where a.classEntity.classId = :classId
+        and a.courseId = :courseId
+        and a.userId = :userId
+        and a.courseAnalyticsId < :before
+      order by a.courseAnalyticsId desc
+    """)
+    List<SessionRow> findSessionRowsBefore(@Param("classId") Long classId, @Param("courseId") Long courseId,
+                                           @Param("userId") String userId, @Param("before") Long before, Limit limit);
+
+    // 여러 세션의 구간을 쿼리 한 번으로 (세션별 lazy 로딩 N번 대신)
+    @Query("""
+      select a.courseAnalyticsId as sessionId, i.startAt as startAt, i.endAt as endAt,
+             i.durationSec as durationSec, i.avgScore as avgScore
+      from CourseEngagementAnalytics a join a.attentionArr i
+      where a.courseAnalyticsId in :sessionIds
+      order by a.courseAnalyticsId, i.startAt
+    """)
+    List<IntervalRow> findIntervalRows(@Param("sessionIds") Collection<Long> sessionIds);
+
+    interface SessionRow {
+        Long getSessionId();
+        Instant getStartedAt();
+        Instant getEndedAt();
+        Integer getTotalDurationSec();
+        Integer getIntervalCount();
+        Instant getCreatedAt();
+    }
+
+    interface IntervalRow {
+        Long getSessionId();
+        Instant getStartAt();
+        Instant getEndAt();
+        Integer getDurationSec();
+        Double getAvgScore();
     }
 
     @Query("""
@@ -35,4 +80,30 @@ public interface CourseEngagementAnalyticsRepository
     boolean existsByClassIdAndCourseIdAndUserIdAndAttentionArrNotEmpty(
             Long classId, Long courseId, String userId
     );
+
+    // 대시보드: 사용자의 (클래스, 코스)별 최근 세션 요약 + 구간 통계 (구간 목록은 로딩하지 않음)
+    @Query("""
+      select a.courseAnalyticsId as sessionId, a.classEntity.classId as classId, a.courseId as courseId,
+             a.startedAt as startedAt, a.totalDurationSec as totalDurationSec,
+             count(i) as intervalCount, sum(i.durationSec) as unfocusedSec, avg(i.avgScore) as avgScore
+      from CourseEngagementAnalytics a left join a.attentionArr i
+      where a.userId = :userId
+        and a.createdAt = (select max(b.createdAt) from CourseEngagementAnalytics b
+                           where b.userId = a.userId
+                             and b.classEntity = a.classEntity
+                             and b.courseId = a.courseId)
+      group by a.courseAnalyticsId, a.classEntity.classId, a.courseId, a.startedAt, a.totalDurationSec
+    """)
+    List<LatestSessionSummary> findLatestSummaries(@Param("userId") String userId);
+
+    interface LatestSessionSummary {
+        Long getSessionId();
+        Long getClassId();
+        Long getCourseId();
+        Instant getStartedAt();
+        Integer getTotalDurationSec();
+        Long getIntervalCount();
+        Long getUnfocusedSec();
+        Double getAvgScore();
+    }
 }
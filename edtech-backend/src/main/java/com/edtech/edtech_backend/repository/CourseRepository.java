@@ -3,13 +3,43 @@ package com.edtech.edtech_backend.repository;
 import com.edtech.edtech_backend.entity.Course;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CourseRepository extends JpaRepository<Course, Long> {
-    List<Course> findByClassEntity_ClassId(Long classId);
-    Optional<Course> findByCourseIdAndClassEntity_ClassId(Long courseId, Long classId);
+    // 삭제(soft delete)된 코스는 제외
+    List<Course> findByClassEntity_ClassIdAndDeletedAtIsNull(Long classId);
+    Optional<Course> findByCourseIdAndClassEntity_ClassIdAndDeletedAtIsNull(Long courseId, Long classId);
+    Optional<Course> findByCourseIdAndDeletedAtIsNull(Long courseId);
+
+    // 클래스 삭제 시 소속 코스도 함께 삭제 표시
+    @Modifying
+    @Query("update Course c set c.deletedAt = :at where c.classEntity.classId = :classId and c.deletedAt is null")
+    int markDeletedByClassId(@Param("classId") Long classId, @Param("at") Instant at);
+
+    // 대시보드: 여러 클래스의 코스 + 연결 강의(자막 유무) 한 번에
+    @Query("""
+        select c.classEntity.classId as classId, c.courseId as courseId, c.title as title,
+               l.lectureId as lectureId, l.vttPath as vttPath
+        from Course c left join c.lecture l
+        where c.classEntity.classId in :classIds and c.deletedAt is null
+        order by c.courseId
+    """)
+    List<DashboardCourseRow> findDashboardRows(@Param("classIds") Collection<Long> classIds);
+
+    interface DashboardCourseRow {
+        Long getClassId();
+        Long getCourseId();
+        String getTitle();
+        Long getLectureId();
+        String getVttPath();
+    }
 }
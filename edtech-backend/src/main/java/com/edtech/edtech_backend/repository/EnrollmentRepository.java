@@ -1,9 +1,12 @@
 package com.edtech.edtech_backend.repository;
 
+import com.edtech.edtech_backend.dto.EnrollmentStudentRow;
 import com.edtech.edtech_backend.entity.Enrollment;
 import com.edtech.edtech_backend.entity.User;
 import com.edtech.edtech_backend.entity.ClassEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import java.util.*;
@@ -12,11 +15,81 @@ public interface EnrollmentRepository extends JpaRepository<Enrollment, Long> {
   Optional<Enrollment> findByUserAndClazz(User user, ClassEntity clazz);
   List<Enrollment> findByClazz_ClassIdAndStatus(Long classId, Enrollment.Status status);
   List<Enrollment> findByUser(User user);
+
+  // 수강생 목록 키셋 페이지 (enrollment.id 기준)
+  @Query("""
+        select new com.edtech.edtech_backend.dto.EnrollmentStudentRow(
+            e.id, u.userId, u.name, u.email, u.phone, e.createdAt)
+        from Enrollment e
+        join e.user u
+        where e.clazz.classId = :classId and e.id > :after
+        order by e.id
+    """)
+  List<EnrollmentStudentRow> findStudentRowsAfter(Long classId, Long after, Limit limit);
+
+  // 클래스의 기존 수강 (userId, status) 한 번에 조회
+  @Query("select e.user.userId as userId, e.status as status from Enrollment e where e.clazz.classId = :classId")
+  List<UserEnrollmentStatus> findStatusesByClassId(Long classId);
+
+  // 대기열 앞쪽 (신청 순)
   @Query("""
-        select e from Enrollment e
-        join fetch e.user u
-        join e.clazz c
-        where c.classId = :classId
+        select e.id from Enrollment e
+        where e.clazz.classId = :classId and e.status = com.edtech.edtech_backend.entity.Enrollment.Status.WAITLISTED
+        order by e.createdAt, e.id
     """)
-    List<Enrollment> findWithUserByClassId(Long classId);
+  List<Long> findWaitlistedIds(Long classId, Limit limit);
+
+  // 대기 → 승인 (이미 다른 요청이 승격시켰으면 0)
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query("""
+        update Enrollment e set e.status = com.edtech.edtech_backend.entity.Enrollment.Status.APPROVED
+        where e.id = :id and e.status = com.edtech.edtech_backend.entity.Enrollment.Status.WAITLISTED
+    """)
+  int promoteIfWaitlisted(Long id);
+
+  @Query("select distinct e.clazz.classId from Enrollment e where e.status = com.edtech.edtech_backend.entity.Enrollment.Status.WAITLISTED")
+  List<Long> findClassIdsWithWaitlist();
+
+  // 승인된 수강 classId 만 (엔티티/clazz 로딩 없음)
+  @Query("""
+        select e.clazz.classId from Enrollment e
+        where e.user.email = :email and e.status = com.edtech.edtech_backend.entity.Enrollment.Status.APPROVED
+          and e.clazz.deletedAt is null
+    """)
+  List<Long> findApprovedClassIdsByEmail(String email);
+
+  @Query("select e.user.email from Enrollment e where e.id = :id")
+  Optional<String> findUserEmailById(Long id);
+
+  // 대시보드: 사용자의 수강(승인/대기) 클래스 한 번에
+  @Query("""
+        select c.classId as classId, c.title as title, c.tag as tag, e.status as status
+        from Enrollment e join e.clazz c
+        where e.user.userId = :userId and c.deletedAt is null
+          and e.status in (com.edtech.edtech_backend.entity.Enrollment.Status.APPROVED,
+                           com.edtech.edtech_backend.entity.Enrollment.Status.WAITLISTED)
+        order by e.createdAt, e.id
+    """)
+  List<DashboardClassRow> findDashboardClasses(Long userId);
+
+  // 클래스 수강(승인/대기) 사용자 email (코스 변경 시 대시보드 갱신 대상)
+  @Query("""
+        select e.user.email from Enrollment e
+        where e.clazz.classId = :classId
+          and e.status in (com.edtech.edtech_backend.entity.Enrollment.Status.APPROVED,
+                           com.edtech.edtech_backend.entity.Enrollment.Status.WAITLISTED)
+    """)
+  List<String> findMemberEmailsByClassId(Long classId);
+
+  interface DashboardClassRow {
+    Long getClassId();
+    String getTitle();
+    String getTag();
+    Enrollment.Status getStatus();
+  }
+
+  interface UserEnrollmentStatus {
+    Long getUserId();
+    Enrollment.Status getStatus();
+  }
 }
@@ -0,0 +1,7 @@
+package com.edtech.edtech_backend.repository;
+
+import com.edtech.edtech_backend.entity.FocusJournalCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface FocusJournalCheckpointRepository extends JpaRepository<FocusJournalCheckpoint, String> {
+}
@@ -0,0 +1,80 @@
+package com.edtech.edtech_backend.repository;
+
+import com.edtech.edtech_backend.entity.PurgeJob;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PurgeJobRepository extends JpaRepository<PurgeJob, Long> {
+
+    // 처리할 작업: 대기 중이거나, 처리 중인데 점유가 만료된 것 (오래된 순)
+    @Query("""
+        select j.jobId from PurgeJob j
+        where j.status in (com.edtech.edtech_backend.entity.PurgeJob.Status.PENDING,
+                           com.edtech.edtech_backend.entity.PurgeJob.Status.RUNNING)
+          and (j.leaseUntil is null or j.leaseUntil < :now)
+        order by j.jobId
+    """)
+    List<Long> findRunnableIds(@Param("now") Instant now, Limit limit);
+
+    // 점유 (다른 인스턴스가 먼저 잡았으면 0)
+    @Modifying
+    @Transactional
+    @Query("""
+        update PurgeJob j
+        set j.status = com.edtech.edtech_backend.entity.PurgeJob.Status.RUNNING, j.leaseUntil = :until, j.updatedAt = :now
+        where j.jobId = :id
+          and j.status in (com.edtech.edtech_backend.entity.PurgeJob.Status.PENDING,
+                           com.edtech.edtech_backend.entity.PurgeJob.Status.RUNNING)
+          and (j.leaseUntil is null or j.leaseUntil < :now)
+    """)
+    int claim(@Param("id") Long id, @Param("now") Instant now, @Param("until") Instant until);
+
+    // 배치 하나 처리 후 진행 상황 (배치 삭제와 같은 트랜잭션) + 점유 연장
+    @Modifying
+    @Query("""
+        update PurgeJob j
+        set j.step = :step, j.deletedRows = j.deletedRows + :deleted, j.leaseUntil = :until, j.updatedAt = :now
+        where j.jobId = :id
+    """)
+    int recordProgress(@Param("id") Long id, @Param("step") int step, @Param("deleted") long deleted,
+                       @Param("now") Instant now, @Param("until") Instant until);
+
+    @Modifying
+    @Transactional
+    @Query("""
+        update PurgeJob j
+        set j.status = com.edtech.edtech_backend.entity.PurgeJob.Status.DONE, j.leaseUntil = null,
+            j.updatedAt = :now, j.finishedAt = :now, j.lastError = null
+        where j.jobId = :id
+    """)
+    int markDone(@Param("id") Long id, @Param("now") Instant now);
+
+    // 실패: 횟수를 넘기면 FAILED, 아니면 retryAt 이후 다시 시도 (진행 단계는 그대로)
+    @Modifying
+    @Transactional
+    @Query("""
+        update PurgeJob j
+        set j.attempts = j.attempts + 1, j.lastError = :error, j.updatedAt = :now, j.leaseUntil = :retryAt,
+            j.status = case when j.attempts + 1 >= :maxAttempts
+                            then com.edtech.edtech_backend.entity.PurgeJob.Status.FAILED
+                            else com.edtech.edtech_backend.entity.PurgeJob.Status.RUNNING end
+        where j.jobId = :id
+    """)
+    int markFailed(@Param("id") Long id, @Param("error") String error, @Param("maxAttempts") int maxAttempts,
+                   @Param("now") Instant now, @Param("retryAt") Instant retryAt);
+
+    // 시간 예산을 다 써서 멈출 때 점유 해제 → 다음 주기에 이어서
+    @Modifying
+    @Transactional
+    @Query("update PurgeJob j set j.leaseUntil = null, j.updatedAt = :now where j.jobId = :id")
+    int release(@Param("id") Long id, @Param("now") Instant now);
+
+    List<PurgeJob> findTop50ByOrderByJobIdDesc();
+}
@@ -0,0 +1,10 @@
+package com.edtech.edtech_backend.repository;
+
+import com.edtech.edtech_backend.entity.StudentDashboard;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface StudentDashboardRepository extends JpaRepository<StudentDashboard, Long> {
+    Optional<StudentDashboard> findByEmail(String email);
+}
@@ -2,11 +2,32 @@ package com.edtech.edtech_backend.repository;
 
 import com.edtech.edtech_backend.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
+    // 일괄 처리용: 이메일 IN 조회 (id/email 만)
+    @Query("select u.userId as userId, u.email as email from User u where u.email in :emails")
+    List<UserIdEmail> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+
+    // 로그인 시 재해싱 결과 반영 (엔티티 로딩 없이)
+    @Modifying
+    @Transactional
+    @Query("update User u set u.passwordHash = :hash where u.userId = :id")
+    int updatePasswordHash(@Param("id") Long id, @Param("hash") String hash);
+
+    interface UserIdEmail {
+        Long getUserId();
+        String getEmail();
+    }
 }
@@ -1,71 +1,45 @@
 package com.edtech.edtech_backend.security;
 
-import com.edtech.edtech_backend.repository.UserRepository;
-import io.jsonwebtoken.Claims;
+import com.edtech.edtech_backend.security.VerifiedTokenCache.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
+/**
+ * Bearer 토큰 인증. 사용자 정보(email, role)는 토큰 클레임에서 바로 만들고 DB 는 타지 않는다.
+ * - 서명 검증 결과는 VerifiedTokenCache 에 만료 시각까지 캐시
+ * - jwt.revocation-check.enabled=true 면 UserRevocationCache 로 폐기 여부 확인
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwt;
-    private final UserRepository userRepository;               // ✅ 필드 존재
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserRevocationCache userRevocationCache;
 
     @Override
-protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
-        throws ServletException, IOException {
-
-    System.out.println("🟡 [JwtFilter] 들어온 요청 URI: " + req.getRequestURI());
-    System.out.println("🟡 [JwtFilter] Authorization 헤더: " + req.getHeader("Authorization"));
-
-    String header = req.getHeader("Authorization");
-
-    if (header != null && header.startsWith("Bearer ")) {
-        String token = header.substring(7);
-        try {
-            Claims claims = jwt.parse(token).getBody();
-            Long userId = Long.valueOf(claims.getSubject());
-            String role = String.valueOf(claims.get("role"));
-
-            System.out.println("✅ JWT userId: " + userId);
-            System.out.println("✅ JWT role: " + role);
-
-            userRepository.findById(userId).ifPresent(user -> {
-                var authority = new SimpleGrantedAuthority("ROLE_" + role.toUpperCase());
-
-                System.out.println("✅ Created authority: " + authority);
-
-                var auth = new UsernamePasswordAuthenticationToken(
-                        user.getEmail(),
-                        null,
-                        List.of(authority)
-                );
-
+    protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
+            throws ServletException, IOException {
+
+        String header = req.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header != null && header.startsWith("Bearer ")) {
+            VerifiedToken token = verifiedTokenCache.verify(header.substring(7));
+            if (token != null && token.email() != null && !userRevocationCache.isRevoked(token)) {
+                // principal 은 기존처럼 email 문자열
+                var auth = new UsernamePasswordAuthenticationToken(token.email(), null, token.authorities());
                 SecurityContextHolder.getContext().setAuthentication(auth);
-
-                System.out.println("✅ Authentication set: " + auth.getName());
-                System.out.println("✅ Authorities set: " + auth.getAuthorities());
-            });
-        } catch (Exception e) {
-            System.out.println("❌ JWT parsing failed: " + e.getMessage());
+            }
         }
-    } else {
-        System.out.println("⚠️ Authorization 헤더가 없거나 Bearer 로 시작하지 않음");
-    }
-
-    chain.doFilter(req, res);
-}
 
+        chain.doFilter(req, res);
+    }
 }
@@ -0,0 +1,25 @@
+package com.edtech.edtech_backend.security;
+
+import com.edtech.edtech_backend.entity.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/** User 엔티티 변경 시 폐기 확인 캐시를 비운다 (Hibernate 가 스프링 빈으로 생성) */
+@Component
+public class UserChangeListener {
+
+    // EntityManagerFactory 생성 중에 만들어지므로 순환 의존을 피하려고 지연 조회
+    private final ObjectProvider<UserRevocationCache> revocationCache;
+
+    public UserChangeListener(ObjectProvider<UserRevocationCache> revocationCache) {
+        this.revocationCache = revocationCache;
+    }
+
+    @PostUpdate
+    @PostRemove
+    void onChange(User user) {
+        revocationCache.ifAvailable(c -> c.invalidate(user.getUserId()));
+    }
+}
@@ -0,0 +1,52 @@
+package com.edtech.edtech_backend.security;
+
+import com.edtech.edtech_backend.repository.UserRepository;
+import com.edtech.edtech_backend.security.VerifiedTokenCache.VerifiedToken;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * (선택) 토큰 폐기 확인: 토큰의 사용자가 아직 존재하고 역할/이메일이 그대로인지 본다.
+ * jwt.revocation-check.enabled=true 일 때만 동작하고, 사용자별 결과는 TTL 동안 캐시.
+ * User 엔티티가 수정/삭제되면 UserChangeListener 가 해당 사용자를 무효화한다.
+ */
+@Component
+public class UserRevocationCache {
+
+    private static final UserStatus MISSING = new UserStatus(null, null);
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final Cache<Long, UserStatus> cache;
+
+    public UserRevocationCache(UserRepository userRepository,
+                               @Value("${jwt.revocation-check.enabled:false}") boolean enabled,
+                               @Value("${jwt.revocation-check.ttl:PT5M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(50_000)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public boolean isRevoked(VerifiedToken token) {
+        if (!enabled) return false;
+        UserStatus status = cache.get(token.userId(), id -> userRepository.findById(id)
+                .map(u -> new UserStatus(u.getEmail(), u.getRole().name()))
+                .orElse(MISSING));
+        return status == MISSING
+                || !status.role().equals(token.role())
+                || !status.email().equals(token.email());
+    }
+
+    public void invalidate(Long userId) {
+        if (userId != null) cache.invalidate(userId);
+    }
+
+    private record UserStatus(String email, String role) {}
+}
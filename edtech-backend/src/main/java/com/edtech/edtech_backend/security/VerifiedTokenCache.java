@@ -0,0 +1,142 @@
+package com.edtech.edtech_backend.security;
+
+import com.edtech.edtech_backend.observability.FlightEvents;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 검증한 JWT 를 서명(signature) 기준으로 잠깐 기억해 두는 캐시.
+ * 같은 토큰이 다시 오면 HMAC 검증/클레임 파싱 없이 바로 사용자 정보를 돌려준다.
+ * 엔트리는 토큰 만료 시각에 같이 사라진다.
+ * 검증 시간은 auth.jwt.verify{result=cached|verified|rejected} 로 기록.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwt;
+    private final Cache<String, VerifiedToken> cache;
+    private final Timer cachedTimer;
+    private final Timer verifiedTimer;
+    private final Timer rejectedTimer;
+
+    public VerifiedTokenCache(JwtTokenProvider jwt,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.verified-cache-size:10000}") long maxSize) {
+        this.jwt = jwt;
+        this.cachedTimer = verifyTimer(meterRegistry, "cached");
+        this.verifiedTimer = verifyTimer(meterRegistry, "verified");
+        this.rejectedTimer = verifyTimer(meterRegistry, "rejected");
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken v, long currentTime) {
+                        long remainingMs = v.expiresAtMs() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMs));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken v, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, v, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken v, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    /** 유효한 토큰이면 검증된 정보, 서명 불일치/만료/형식 오류면 null */
+    public VerifiedToken verify(String token) {
+        long started = System.nanoTime();
+        int dot = token.lastIndexOf('.');
+        if (dot < 0) return rejected(started);
+        String signature = token.substring(dot + 1);
+
+        VerifiedToken cached = cache.getIfPresent(signature);
+        if (cached != null
+                && cached.expiresAtMs() > System.currentTimeMillis()
+                && sameToken(cached.token(), token)) {
+            cachedTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            return cached;
+        }
+
+        // JFR 이벤트는 실제 서명 검증(캐시 미스)만
+        var event = new FlightEvents.Auth();
+        event.begin();
+        VerifiedToken fresh;
+        try {
+            fresh = toVerified(token, jwt.parse(token).getBody());
+        } catch (JwtException | IllegalArgumentException e) {
+            fresh = null;
+        }
+        commit(event, fresh != null);
+        if (fresh == null) return rejected(started);
+        cache.put(signature, fresh);
+        verifiedTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return fresh;
+    }
+
+    private VerifiedToken rejected(long started) {
+        rejectedTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        return null;
+    }
+
+    private static void commit(FlightEvents.Auth event, boolean verified) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.operation = "jwt.verify";
+            event.outcome = verified ? "success" : "rejected";
+            event.commit();
+        }
+    }
+
+    // 캐시 히트는 수 µs, HMAC 검증은 수십 µs 라서 버킷 범위를 좁게 잡는다
+    private static Timer verifyTimer(MeterRegistry registry, String result) {
+        return Timer.builder("auth.jwt.verify")
+                .tag("result", result)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(500))
+                .maximumExpectedValue(Duration.ofMillis(50))
+                .register(registry);
+    }
+
+    private static VerifiedToken toVerified(String token, Claims claims) {
+        if (claims.getExpiration() == null || claims.getSubject() == null) return null;
+        String role = String.valueOf(claims.get("role")).toUpperCase();
+        return new VerifiedToken(
+                token,
+                Long.valueOf(claims.getSubject()),
+                claims.get("email", String.class),
+                role,
+                claims.getExpiration().getTime(),
+                List.of(new SimpleGrantedAuthority("ROLE_" + role))
+        );
+    }
+
+    // 같은 서명이라도 페이로드가 다르면 다른 토큰으로 본다
+    private static boolean sameToken(String a, String b) {
+        return a.length() == b.length()
+                && MessageDigest.isEqual(a.getBytes(StandardCharsets.US_ASCII), b.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public record VerifiedToken(String token, Long userId, String email, String role,
+                                long expiresAtMs, List<GrantedAuthority> authorities) {}
+}
@@ -0,0 +1,178 @@
+// src/main/java/com/edtech/edtech_backend/service/BulkPurger.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.entity.PurgeJob;
+import com.edtech.edtech_backend.repository.PurgeJobRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 삭제된 코스/클래스의 하위 데이터를 백그라운드에서 나눠 지우는 작업자.
+ * - 단계마다 "batch-size 행 삭제 + 진행 기록" 이 한 트랜잭션 → 잠금은 배치 하나 동안만
+ * - 배치 사이 pause 만큼 쉬고, 한 번 실행에 max-run-time 까지만 (수업 시간대 DB 부하 제한)
+ * - 진행 단계가 purge_job 에 남아 있어서 재기동/다른 인스턴스가 이어서 처리 (lease 만료 후)
+ * - 모든 단계는 "남은 행 삭제" 라서 같은 배치를 다시 실행해도 안전
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "purge.enabled", havingValue = "true", matchIfMissing = true)
+public class BulkPurger {
+
+    private final PurgeJobRepository jobRepository;
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate tx;
+    private final Counter deletedRows;
+    private final int batchSize;
+    private final long pauseMs;
+    private final Duration maxRunTime;
+    private final int maxAttempts;
+    private final Map<PurgeJob.Target, List<Step>> steps;
+
+    public BulkPurger(PurgeJobRepository jobRepository,
+                      JdbcTemplate jdbcTemplate,
+                      PlatformTransactionManager transactionManager,
+                      MeterRegistry meterRegistry,
+                      @Value("${purge.batch-size:500}") int batchSize,
+                      @Value("${purge.pause-ms:200}") long pauseMs,
+                      @Value("${purge.max-run-time:PT1M}") Duration maxRunTime,
+                      @Value("${purge.max-attempts:5}") int maxAttempts) {
+        this.jobRepository = jobRepository;
+        this.jdbc = jdbcTemplate;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.deletedRows = Counter.builder("purge.rows.deleted").register(meterRegistry);
+        this.batchSize = batchSize;
+        this.pauseMs = pauseMs;
+        this.maxRunTime = maxRunTime;
+        this.maxAttempts = maxAttempts;
+
+        // 순서 중요: 자식 테이블 → 부모 테이블
+        this.steps = Map.of(
+                PurgeJob.Target.COURSE, List.of(
+                        new Step("intervals", (id, n) -> deleteIntervals("course_id", id, n)),
+                        new Step("sessions", (id, n) -> deleteEmptySessions("course_id", id, n)),
+                        new Step("schedules", (id, n) -> jdbc.update(
+                                "delete from schedule where course_id = ? limit ?", id, n)),
+                        new Step("summaries", (id, n) -> jdbc.update(
+                                "delete from summary where lecture_id in (select lecture_id from course where course_id = ?) limit ?", id, n)),
+                        new Step("course", (id, n) -> jdbc.update(
+                                "delete from course where course_id = ? and deleted_at is not null", id))),
+                PurgeJob.Target.CLASS, List.of(
+                        new Step("intervals", (id, n) -> deleteIntervals("class_id", id, n)),
+                        new Step("sessions", (id, n) -> deleteEmptySessions("class_id", id, n)),
+                        new Step("schedules", (id, n) -> jdbc.update(
+                                "delete from schedule where course_id in (select course_id from course where class_id = ?) limit ?", id, n)),
+                        new Step("summaries", (id, n) -> jdbc.update(
+                                "delete from summary where lecture_id in (select lecture_id from course where class_id = ?) limit ?", id, n)),
+                        new Step("courses", (id, n) -> jdbc.update(
+                                "delete from course where class_id = ? limit ?", id, n)),
+                        new Step("enrollments", (id, n) -> jdbc.update(
+                                "delete from enrollment where class_id = ? limit ?", id, n)),
+                        new Step("class", (id, n) -> jdbc.update(
+                                "delete from class_entity where class_id = ? and deleted_at is not null", id))));
+    }
+
+    @Scheduled(fixedDelayString = "${purge.poll-interval:PT15S}", initialDelayString = "${purge.initial-delay:PT20S}")
+    public void runPending() {
+        Instant deadline = Instant.now().plus(maxRunTime);
+        for (Long jobId : jobRepository.findRunnableIds(Instant.now(), Limit.of(10))) {
+            if (Instant.now().isAfter(deadline)) return;
+            Instant now = Instant.now();
+            if (jobRepository.claim(jobId, now, now.plus(lease())) == 0) continue; // 다른 인스턴스가 처리 중
+            run(jobId, deadline);
+        }
+    }
+
+    /** 작업 하나를 끝까지 또는 deadline 까지 진행. 끝났으면 true */
+    boolean run(Long jobId, Instant deadline) {
+        PurgeJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null) return false;
+        List<Step> jobSteps = steps.get(job.getTarget());
+        int step = job.getStep();
+        long total = 0;
+        try {
+            while (step < jobSteps.size()) {
+                if (Instant.now().isAfter(deadline)) {
+                    jobRepository.release(jobId, Instant.now());
+                    log.info("purge job {} paused at step {} ({} rows this run)", jobId, jobSteps.get(step).name(), total);
+                    return false;
+                }
+                Step current = jobSteps.get(step);
+                int currentStep = step;
+                int deleted = tx.execute(status -> {
+                    int n = current.action().delete(job.getTargetId(), batchSize);
+                    Instant now = Instant.now();
+                    // 더 지울 게 없으면 다음 단계로
+                    jobRepository.recordProgress(jobId, n == 0 ? currentStep + 1 : currentStep, n, now, now.plus(lease()));
+                    return n;
+                });
+                if (deleted == 0) {
+                    step++;
+                } else {
+                    total += deleted;
+                    deletedRows.increment(deleted);
+                    pause();
+                }
+            }
+            jobRepository.markDone(jobId, Instant.now());
+            log.info("purge job {} ({} {}) done: {} rows this run", jobId, job.getTarget(), job.getTargetId(), total);
+            return true;
+        } catch (RuntimeException e) {
+            Instant now = Instant.now();
+            // 실패할수록 늦게 재시도 (진행 단계는 유지되므로 다음엔 그 단계부터)
+            Instant retryAt = now.plus(maxRunTime.multipliedBy(1L << Math.min(job.getAttempts(), 6)));
+            String error = String.valueOf(e.getMessage());
+            jobRepository.markFailed(jobId, error.length() > 1000 ? error.substring(0, 1000) : error, maxAttempts, now, retryAt);
+            log.warn("purge job {} failed at step {}", jobId, step < jobSteps.size() ? jobSteps.get(step).name() : "-", e);
+            return false;
+        }
+    }
+
+    // 구간 수는 세션마다 달라서 세션 단위로 묶지 않고 구간 자체를 batch-size 씩 지운다
+    private int deleteIntervals(String column, long targetId, int limit) {
+        return jdbc.update("delete from focus_intervals where exists (select 1 from course_engagement_analytics a "
+                + "where a.course_analytics_id = focus_intervals.course_analytics_id and a." + column + " = ?) limit ?",
+                targetId, limit);
+    }
+
+    // 구간이 다 지워진 세션만 (구간이 남은 세션은 건너뛰어서 FK 위반 없이)
+    private int deleteEmptySessions(String column, long targetId, int limit) {
+        return jdbc.update("delete from course_engagement_analytics where " + column + " = ? and not exists ("
+                + "select 1 from focus_intervals i where i.course_analytics_id = course_engagement_analytics.course_analytics_id) limit ?",
+                targetId, limit);
+    }
+
+    private Duration lease() {
+        return maxRunTime.plusMinutes(1);
+    }
+
+    private void pause() {
+        if (pauseMs <= 0) return;
+        try {
+            Thread.sleep(pauseMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("purge interrupted", e);
+        }
+    }
+
+    @FunctionalInterface
+    interface BatchDelete {
+        int delete(long targetId, int limit);
+    }
+
+    record Step(String name, BatchDelete action) {}
+}
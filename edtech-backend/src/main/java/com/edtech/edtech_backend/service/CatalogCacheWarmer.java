@@ -0,0 +1,40 @@
+// src/main/java/com/edtech/edtech_backend/service/CatalogCacheWarmer.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.dto.ClassSummaryDto;
+import com.edtech.edtech_backend.dto.CourseSummaryDto;
+import com.edtech.edtech_backend.dto.CursorPage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/** catalog.cache.warm-up=true 이면 기동 직후 카탈로그 캐시를 미리 채운다 */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "catalog.cache.warm-up", havingValue = "true")
+public class CatalogCacheWarmer {
+
+    private final CatalogService catalogService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        int courses = 0;
+        Long cursor = null;
+        do {
+            CursorPage<ClassSummaryDto> page = catalogService.listClasses(cursor, CursorPage.DEFAULT_SIZE);
+            for (ClassSummaryDto clazz : page.items()) {
+                for (CourseSummaryDto course : catalogService.listCourses(clazz.classId())) {
+                    var cl = catalogService.getCourseLecture(course.getCourseId());
+                    if (cl.lectureId() != null) catalogService.getLecture(cl.lectureId());
+                    courses++;
+                }
+            }
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        log.info("catalog cache warmed up: {} courses", courses);
+    }
+}
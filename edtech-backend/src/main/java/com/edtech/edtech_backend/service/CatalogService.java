@@ -0,0 +1,102 @@
+// src/main/java/com/edtech/edtech_backend/service/CatalogService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.dto.ClassSummaryDto;
+import com.edtech.edtech_backend.dto.CourseSummaryDto;
+import com.edtech.edtech_backend.dto.CursorPage;
+import com.edtech.edtech_backend.dto.LectureResponseDto;
+import com.edtech.edtech_backend.entity.Lecture;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.CourseRepository;
+import com.edtech.edtech_backend.repository.LectureRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * 학기 중에는 거의 바뀌지 않는 카탈로그(클래스/코스/강의) 읽기용 캐시 계층.
+ * 엔티티 대신 불변 DTO 를 캐시하고, 관리자 생성/삭제 시 evict 한다.
+ * 크기/TTL 은 spring.cache.caffeine.spec 으로 설정.
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogService {
+
+    public static final String CLASSES = "classes";
+    public static final String CLASS_COURSES = "classCourses";
+    public static final String COURSE_LECTURES = "courseLectures";
+    public static final String LECTURES = "lectures";
+
+    private final ClassRepository classRepository;
+    private final CourseRepository courseRepository;
+    private final LectureRepository lectureRepository;
+
+    /** 클래스 목록 한 페이지 (cursor = 이전 페이지 마지막 classId, 없으면 처음부터) */
+    @Cacheable(CLASSES)
+    @Transactional(readOnly = true)
+    public CursorPage<ClassSummaryDto> listClasses(Long cursor, int size) {
+        var rows = classRepository.findSummariesAfter(cursor == null ? 0L : cursor, Limit.of(size + 1));
+        return CursorPage.of(rows, size, ClassSummaryDto::classId);
+    }
+
+    @Cacheable(CLASS_COURSES)
+    @Transactional(readOnly = true)
+    public List<CourseSummaryDto> listCourses(Long classId) {
+        return courseRepository.findByClassEntity_ClassIdAndDeletedAtIsNull(classId).stream()
+                .map(c -> new CourseSummaryDto(c.getCourseId(), c.getTitle()))
+                .toList();
+    }
+
+    @Cacheable(LECTURES)
+    @Transactional(readOnly = true)
+    public LectureResponseDto getLecture(Long lectureId) {
+        return lectureRepository.findById(lectureId)
+                .map(LectureResponseDto::new)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "Lecture not found"));
+    }
+
+    /** 코스에 연결된 강의 정보 (퀴즈 생성용) */
+    @Cacheable(COURSE_LECTURES)
+    @Transactional(readOnly = true)
+    public CourseLecture getCourseLecture(Long courseId) {
+        var course = courseRepository.findByCourseIdAndDeletedAtIsNull(courseId)
+                .orElseThrow(() -> new ResponseStatusException(BAD_REQUEST, "코스를 찾을 수 없습니다."));
+        Lecture lecture = course.getLecture();
+        if (lecture == null) {
+            return new CourseLecture(courseId, null, null, null);
+        }
+        return new CourseLecture(courseId, lecture.getLectureId(), lecture.getMpdPath(), lecture.getVttPath());
+    }
+
+    @CacheEvict(cacheNames = CLASSES, allEntries = true)
+    public void evictClasses() {
+    }
+
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CLASS_COURSES, key = "#classId"),
+            @CacheEvict(cacheNames = COURSE_LECTURES, key = "#courseId", condition = "#courseId != null")
+    })
+    public void evictCourse(Long classId, Long courseId) {
+    }
+
+    // 클래스 삭제: 그 클래스의 코스들도 함께 삭제 표시되므로 코스→강의 캐시는 통째로 비운다 (드문 관리자 작업)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CLASSES, allEntries = true),
+            @CacheEvict(cacheNames = CLASS_COURSES, key = "#classId"),
+            @CacheEvict(cacheNames = COURSE_LECTURES, allEntries = true)
+    })
+    public void evictClass(Long classId) {
+    }
+
+    public record CourseLecture(Long courseId, Long lectureId, String mpdPath, String vttPath) {}
+}
@@ -0,0 +1,71 @@
+// src/main/java/com/edtech/edtech_backend/service/ClassIdSet.java
+package com.edtech.edtech_backend.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 수강 중인 classId 집합 (불변, long[] 오픈 어드레싱).
+ * Set&lt;Long&gt; 대비 박싱/노드 객체가 없어서 사용자별로 캐시해 두기 가볍고, contains 는 O(1).
+ * classId 는 IDENTITY 로 1부터 시작하므로 0 을 빈 칸으로 쓴다.
+ */
+public final class ClassIdSet {
+
+    public static final ClassIdSet EMPTY = new ClassIdSet(new long[1], 0);
+
+    private final long[] table;
+    private final int mask;
+    private final int size;
+
+    private ClassIdSet(long[] table, int size) {
+        this.table = table;
+        this.mask = table.length - 1;
+        this.size = size;
+    }
+
+    public static ClassIdSet of(Collection<Long> ids) {
+        if (ids.isEmpty()) return EMPTY;
+        // 적재율 50% 이하가 되도록 2의 거듭제곱 크기
+        int capacity = Integer.highestOneBit(Math.max(2, ids.size() * 2 - 1)) << 1;
+        long[] table = new long[capacity];
+        int mask = capacity - 1;
+        int size = 0;
+        for (Long id : ids) {
+            if (id == null || id <= 0) continue;
+            int i = slot(id, mask);
+            while (table[i] != 0 && table[i] != id) i = (i + 1) & mask;
+            if (table[i] == 0) {
+                table[i] = id;
+                size++;
+            }
+        }
+        return new ClassIdSet(table, size);
+    }
+
+    public boolean contains(long id) {
+        if (id <= 0) return false;
+        int i = slot(id, mask);
+        long v;
+        while ((v = table[i]) != 0) {
+            if (v == id) return true;
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Set<Long> toSet() {
+        Set<Long> out = new LinkedHashSet<>(size * 2);
+        for (long v : table) if (v != 0) out.add(v);
+        return out;
+    }
+
+    private static int slot(long id, int mask) {
+        long h = id * 0x9E3779B97F4A7C15L; // 연속된 id 도 고르게 퍼지도록
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -1,16 +1,60 @@
 package com.edtech.edtech_backend.service;
 
 import com.edtech.edtech_backend.entity.CourseEngagementAnalytics;
+import com.edtech.edtech_backend.observability.FlightEvents;
 import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
+/**
+ * 집중도 세션 저장. 저장 시간(focus.session.save)과 세션당 구간 수(focus.session.intervals)를
+ * 히스토그램으로 남긴다 — 구간이 많은 세션이 저장 지연의 원인인지 같이 보려고.
+ */
 @Service
-@RequiredArgsConstructor
 public class CourseEngagementAnalyticsService {
     private final CourseEngagementAnalyticsRepository repo;
+    private final Timer saveTimer;
+    private final DistributionSummary intervalCount;
+
+    public CourseEngagementAnalyticsService(CourseEngagementAnalyticsRepository repo, MeterRegistry meterRegistry) {
+        this.repo = repo;
+        this.saveTimer = Timer.builder("focus.session.save")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+        this.intervalCount = DistributionSummary.builder("focus.session.intervals")
+                .baseUnit("intervals")
+                .publishPercentileHistogram()
+                .maximumExpectedValue(20_000.0)
+                .register(meterRegistry);
+    }
 
     public CourseEngagementAnalytics save(CourseEngagementAnalytics data) {
-        return repo.save(data);
+        int intervals = data.getAttentionArr() == null ? 0 : data.getAttentionArr().size();
+        intervalCount.record(intervals);
+
+        var event = new FlightEvents.FocusIngest();
+        event.begin();
+        String outcome = "error";
+        try {
+            CourseEngagementAnalytics saved = saveTimer.record(() -> repo.save(data));
+            outcome = "success";
+            return saved;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = "focus.save";
+                event.outcome = outcome;
+                event.classId = data.getClassEntity() == null ? 0 : data.getClassEntity().getClassId();
+                event.courseId = data.getCourseId() == null ? 0 : data.getCourseId();
+                event.intervals = intervals;
+                event.commit();
+            }
+        }
     }
 }
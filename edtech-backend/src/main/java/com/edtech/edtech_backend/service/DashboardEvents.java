@@ -0,0 +1,23 @@
+// src/main/java/com/edtech/edtech_backend/service/DashboardEvents.java
+package com.edtech.edtech_backend.service;
+
+import java.util.Collection;
+
+/**
+ * 학생 대시보드 읽기 모델을 다시 만들어야 하는 변경들.
+ * 트랜잭션 안에서 발행하면 커밋 후에 StudentDashboardUpdater 가 비동기로 처리한다.
+ */
+public final class DashboardEvents {
+
+    private DashboardEvents() {
+    }
+
+    /** 수강 상태가 바뀐 사용자들 (신청/취소/대기열 승격/일괄 등록) */
+    public record EnrollmentChanged(Collection<String> emails) {}
+
+    /** 클래스의 코스 구성 변경 (생성/삭제) → 해당 클래스 수강생 전원 */
+    public record CoursesChanged(Long classId) {}
+
+    /** 집중 세션 저장 → 해당 사용자의 최근 세션 요약/퀴즈 가능 여부 */
+    public record FocusSessionSaved(String email, Long classId, Long courseId) {}
+}
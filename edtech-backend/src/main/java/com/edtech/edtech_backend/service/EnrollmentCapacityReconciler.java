@@ -0,0 +1,34 @@
+// src/main/java/com/edtech/edtech_backend/service/EnrollmentCapacityReconciler.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기동 직후 클래스별 승인 인원(enrolledCount)을 실제 수강 데이터로 다시 맞추고,
+ * 빈 좌석이 있으면 대기열을 승격한다. (기존 데이터/수동 수정/중간 장애 대비)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "enrollment.capacity.reconcile-on-startup", havingValue = "true", matchIfMissing = true)
+public class EnrollmentCapacityReconciler {
+
+    private final EnrollmentService enrollmentService;
+    private final EnrollmentRepository enrollmentRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcile() {
+        int classes = enrollmentService.recountEnrolled();
+        int promoted = 0;
+        for (Long classId : enrollmentRepository.findClassIdsWithWaitlist()) {
+            promoted += enrollmentService.fillFromWaitlist(classId);
+        }
+        log.info("enrollment counts reconciled: {} classes, {} promoted from waitlist", classes, promoted);
+    }
+}
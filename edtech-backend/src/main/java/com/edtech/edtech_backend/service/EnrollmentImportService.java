@@ -0,0 +1,272 @@
+// src/main/java/com/edtech/edtech_backend/service/EnrollmentImportService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.dto.BulkEnrollResultDto;
+import com.edtech.edtech_backend.dto.BulkEnrollResultDto.Outcome;
+import com.edtech.edtech_backend.dto.BulkEnrollResultDto.Row;
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.Enrollment;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import com.edtech.edtech_backend.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * 관리자 일괄 수강 등록 (CSV / JSON 이메일 목록).
+ * 학생 한 명당 조회 3번 + save 하던 것을 집합 단위로 처리한다.
+ * - 사용자: 이메일 IN 조회를 enrollment.bulk.lookup-chunk 단위로
+ * - 기존 수강: 클래스 기준 한 번에 조회
+ * - 신규 등록: JDBC batch insert (enrollment.bulk.batch-size 단위)
+ * - 정원: 클래스 행을 잠그고 남은 좌석만큼 입력 순서대로 승인, 나머지는 대기열
+ */
+@Service
+public class EnrollmentImportService {
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+\\.[^@\\s]+$");
+    private static final String INSERT_SQL =
+            "insert into enrollment (user_id, class_id, status, created_at) values (?, ?, ?, ?)";
+    private static final String UPDATE_STATUS_SQL =
+            "update enrollment set status = ? where class_id = ? and user_id = ?";
+
+    private final UserRepository userRepository;
+    private final ClassRepository classRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentMembershipService membershipService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final int lookupChunk;
+    private final int batchSize;
+    private final int maxRows;
+
+    public EnrollmentImportService(UserRepository userRepository,
+                                   ClassRepository classRepository,
+                                   EnrollmentRepository enrollmentRepository,
+                                   EnrollmentMembershipService membershipService,
+                                   ApplicationEventPublisher eventPublisher,
+                                   JdbcTemplate jdbcTemplate,
+                                   ObjectMapper objectMapper,
+                                   @Value("${enrollment.bulk.lookup-chunk:1000}") int lookupChunk,
+                                   @Value("${enrollment.bulk.batch-size:500}") int batchSize,
+                                   @Value("${enrollment.bulk.max-rows:20000}") int maxRows) {
+        this.userRepository = userRepository;
+        this.classRepository = classRepository;
+        this.enrollmentRepository = enrollmentRepository;
+        this.membershipService = membershipService;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.lookupChunk = lookupChunk;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+    }
+
+    /** CSV: 한 줄에 하나, 첫 컬럼이 이메일. 첫 줄이 "email" 이면 헤더로 보고 건너뜀 */
+    public List<String> readCsv(Reader reader) throws IOException {
+        List<String> emails = new ArrayList<>();
+        BufferedReader in = reader instanceof BufferedReader b ? b : new BufferedReader(reader);
+        String line;
+        boolean first = true;
+        while ((line = in.readLine()) != null) {
+            if (first && line.startsWith("\uFEFF")) line = line.substring(1); // 엑셀 BOM
+            if (line.isBlank()) continue;
+            String cell = line.split(",", 2)[0].trim();
+            if (cell.length() >= 2 && cell.startsWith("\"") && cell.endsWith("\"")) {
+                cell = cell.substring(1, cell.length() - 1).trim();
+            }
+            if (first) {
+                first = false;
+                if (cell.equalsIgnoreCase("email")) continue;
+            }
+            addRow(emails, cell);
+        }
+        return emails;
+    }
+
+    /** JSON: ["a@x.com", ...] 또는 [{"email": "a@x.com"}, ...] 를 스트리밍으로 읽음 */
+    public List<String> readJson(InputStream body) throws IOException {
+        List<String> emails = new ArrayList<>();
+        try (JsonParser p = objectMapper.createParser(body)) {
+            if (p.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(BAD_REQUEST, "JSON 배열이어야 합니다");
+            }
+            JsonToken t;
+            while ((t = p.nextToken()) != JsonToken.END_ARRAY && t != null) {
+                if (t == JsonToken.VALUE_STRING) {
+                    addRow(emails, p.getText());
+                } else if (t == JsonToken.START_OBJECT) {
+                    JsonNode node = p.readValueAsTree();
+                    addRow(emails, node.hasNonNull("email") ? node.get("email").asText() : null);
+                } else {
+                    p.skipChildren();
+                    addRow(emails, null);
+                }
+            }
+        }
+        return emails;
+    }
+
+    private void addRow(List<String> emails, String email) {
+        if (emails.size() >= maxRows) {
+            throw new ResponseStatusException(BAD_REQUEST, "한 번에 최대 " + maxRows + "명까지 등록할 수 있습니다");
+        }
+        emails.add(email == null ? null : email.trim());
+    }
+
+    @Transactional
+    public BulkEnrollResultDto enroll(Long classId, List<String> emails) {
+        // 좌석을 한 번에 계산하므로 이 클래스 행만 잠근다 (개별 신청은 커밋까지 잠깐 대기)
+        ClassEntity clazz = classRepository.findForUpdate(classId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "class not found"));
+        int seatsLeft = clazz.getHeadcount() <= 0
+                ? Integer.MAX_VALUE
+                : Math.max(0, clazz.getHeadcount() - clazz.getEnrolledCount());
+
+        // 1) 형식 검사 + 요청 내 중복 제거 (대소문자 무시)
+        Outcome[] outcomes = new Outcome[emails.size()];
+        Map<String, Integer> firstRowByKey = new LinkedHashMap<>();
+        for (int i = 0; i < emails.size(); i++) {
+            String email = emails.get(i);
+            if (email == null || !EMAIL.matcher(email).matches()) {
+                outcomes[i] = Outcome.INVALID;
+            } else if (firstRowByKey.putIfAbsent(key(email), i) != null) {
+                outcomes[i] = Outcome.DUPLICATE;
+            }
+        }
+
+        // 2) 사용자 조회 (IN, 청크 단위)
+        Map<String, Long> userIdByKey = new HashMap<>(firstRowByKey.size() * 2);
+        List<String> distinct = new ArrayList<>(firstRowByKey.size());
+        for (int row : firstRowByKey.values()) distinct.add(emails.get(row));
+        for (int from = 0; from < distinct.size(); from += lookupChunk) {
+            List<String> chunk = distinct.subList(from, Math.min(distinct.size(), from + lookupChunk));
+            for (var u : userRepository.findIdsByEmailIn(chunk)) {
+                userIdByKey.put(key(u.getEmail()), u.getUserId());
+            }
+        }
+
+        // 3) 이 클래스의 기존 수강 한 번에 조회
+        Map<Long, Enrollment.Status> existing = new HashMap<>();
+        for (var e : enrollmentRepository.findStatusesByClassId(classId)) {
+            existing.put(e.getUserId(), e.getStatus());
+        }
+
+        // 4) 결과 분류 (입력 순서대로 좌석 배정, 남은 인원은 대기열)
+        Long[] userIds = new Long[emails.size()];
+        List<Long> toInsert = new ArrayList<>();
+        List<Enrollment.Status> insertStatus = new ArrayList<>();
+        List<Long> toUpdate = new ArrayList<>();
+        List<Enrollment.Status> updateStatus = new ArrayList<>();
+        int seatsTaken = 0;
+        Set<Long> seenUsers = new HashSet<>();
+        for (int row : firstRowByKey.values()) {
+            Long userId = userIdByKey.get(key(emails.get(row)));
+            userIds[row] = userId;
+            if (userId == null) {
+                outcomes[row] = Outcome.USER_NOT_FOUND;
+                continue;
+            }
+            if (!seenUsers.add(userId)) {
+                outcomes[row] = Outcome.DUPLICATE;
+                continue;
+            }
+            Enrollment.Status current = existing.get(userId);
+            if (current == Enrollment.Status.APPROVED) {
+                outcomes[row] = Outcome.ALREADY_ENROLLED;
+                continue;
+            }
+            Enrollment.Status next = seatsTaken < seatsLeft ? Enrollment.Status.APPROVED : Enrollment.Status.WAITLISTED;
+            if (next == Enrollment.Status.APPROVED) seatsTaken++;
+            outcomes[row] = next == Enrollment.Status.APPROVED ? Outcome.ENROLLED : Outcome.WAITLISTED;
+            if (current == null) {
+                toInsert.add(userId);
+                insertStatus.add(next);
+            } else if (current != next) {
+                // 승인 대기/거절/대기열 → 승인 또는 대기열
+                toUpdate.add(userId);
+                updateStatus.add(next);
+            }
+        }
+
+        // 5) 쓰기: batch insert / 상태 변경 / 좌석 수 반영
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, indexes(toInsert.size()), batchSize, (ps, i) -> {
+                ps.setLong(1, toInsert.get(i));
+                ps.setLong(2, classId);
+                ps.setString(3, insertStatus.get(i).name());
+                ps.setTimestamp(4, now);
+            });
+        } catch (DuplicateKeyException e) {
+            // 조회 이후 개별 신청이 끼어든 경우 → 전체 롤백, 다시 시도하면 ALREADY_ENROLLED 로 분류됨
+            throw new ResponseStatusException(CONFLICT, "동시에 수강 신청이 들어와 충돌했습니다. 다시 시도해 주세요");
+        }
+        jdbcTemplate.batchUpdate(UPDATE_STATUS_SQL, indexes(toUpdate.size()), batchSize, (ps, i) -> {
+            ps.setString(1, updateStatus.get(i).name());
+            ps.setLong(2, classId);
+            ps.setLong(3, toUpdate.get(i));
+        });
+        if (seatsTaken > 0) classRepository.addSeats(classId, seatsTaken);
+
+        // 새로 승인된 사용자들의 수강 캐시 무효화, 승인/대기 모두 대시보드 갱신 (커밋 후)
+        List<String> newlyEnrolled = new ArrayList<>();
+        List<String> changed = new ArrayList<>();
+        for (int i = 0; i < emails.size(); i++) {
+            if (outcomes[i] == Outcome.ENROLLED) newlyEnrolled.add(emails.get(i));
+            if (outcomes[i] == Outcome.ENROLLED || outcomes[i] == Outcome.WAITLISTED) changed.add(emails.get(i));
+        }
+        membershipService.invalidateAll(newlyEnrolled);
+        if (!changed.isEmpty()) eventPublisher.publishEvent(new DashboardEvents.EnrollmentChanged(changed));
+
+        // 6) 리포트
+        List<Row> rows = new ArrayList<>(emails.size());
+        Map<Outcome, Integer> counts = new EnumMap<>(Outcome.class);
+        for (Outcome o : Outcome.values()) counts.put(o, 0);
+        for (int i = 0; i < emails.size(); i++) {
+            rows.add(new Row(i + 1, emails.get(i), outcomes[i], userIds[i]));
+            counts.merge(outcomes[i], 1, Integer::sum);
+        }
+        return new BulkEnrollResultDto(classId, emails.size(), counts, rows);
+    }
+
+    private static List<Integer> indexes(int n) {
+        List<Integer> idx = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) idx.add(i);
+        return idx;
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,91 @@
+// src/main/java/com/edtech/edtech_backend/service/EnrollmentMembershipService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+/**
+ * "사용자 X 가 클래스 Y 수강생인가" 확인용 캐시.
+ * 사용자(email)별 승인된 classId 집합을 projection 쿼리 한 번으로 읽어 ClassIdSet 으로 캐시하고,
+ * 수강 신청/취소/일괄 등록/대기열 승격 때 커밋 이후 무효화한다.
+ * TTL 은 혹시 놓친 무효화에 대한 안전장치.
+ */
+@Service
+public class EnrollmentMembershipService {
+
+    private final EnrollmentRepository enrollmentRepository;
+    private final Cache<String, ClassIdSet> cache;
+
+    public EnrollmentMembershipService(EnrollmentRepository enrollmentRepository,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${enrollment.membership.cache-size:50000}") long cacheSize,
+                                       @Value("${enrollment.membership.ttl:PT10M}") Duration ttl) {
+        this.enrollmentRepository = enrollmentRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "enrollment.membership");
+    }
+
+    public ClassIdSet classIds(String email) {
+        return cache.get(key(email), k -> ClassIdSet.of(enrollmentRepository.findApprovedClassIdsByEmail(email)));
+    }
+
+    public boolean isMember(String email, long classId) {
+        return classIds(email).contains(classId);
+    }
+
+    /** 관리자이거나 해당 클래스 수강생이 아니면 403 */
+    public void requireMember(Authentication auth, Long classId) {
+        if (auth == null || !auth.isAuthenticated()) {
+            throw new ResponseStatusException(UNAUTHORIZED, "로그인 필요");
+        }
+        boolean admin = auth.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()));
+        if (admin) return;
+        if (classId == null || !isMember(auth.getName(), classId)) {
+            throw new ResponseStatusException(FORBIDDEN, "수강 중인 클래스가 아닙니다");
+        }
+    }
+
+    /** 지금 한 번, 트랜잭션 안이면 커밋 후에 한 번 더 (커밋 전 재적재된 옛 값 제거) */
+    public void invalidate(String email) {
+        if (email != null) invalidateAll(List.of(email));
+    }
+
+    public void invalidateAll(Collection<String> emails) {
+        List<String> keys = emails.stream().filter(e -> e != null).map(EnrollmentMembershipService::key).toList();
+        if (keys.isEmpty()) return;
+        cache.invalidateAll(keys);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidateAll(keys);
+                }
+            });
+        }
+    }
+
+    private static String key(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,141 @@
+// src/main/java/com/edtech/edtech_backend/service/EnrollmentService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.Enrollment;
+import com.edtech.edtech_backend.entity.User;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import com.edtech.edtech_backend.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+/**
+ * 정원(headcount) 을 지키는 수강 신청/취소.
+ * - 좌석은 ClassEntity.enrolledCount 에 대한 조건부 UPDATE 로만 확보 → 동시에 몰려도 초과 없음
+ *   (해당 클래스 행만 짧게 잠기고, 다른 클래스 신청은 막지 않음. 새 신청은 INSERT 보다 좌석 UPDATE 를 먼저 → 잠금 순서 고정)
+ * - 정원이 차면 WAITLISTED 로 저장, 승인된 사람이 취소하면 대기열 첫 사람에게 좌석을 넘긴다
+ */
+@Service
+@RequiredArgsConstructor
+public class EnrollmentService {
+
+    public enum Result { ENROLLED, ALREADY_ENROLLED, WAITLISTED }
+
+    // 취소 시 대기열에서 한 번에 살펴볼 후보 수 (다른 요청이 먼저 승격시킨 경우 대비)
+    private static final int PROMOTE_SCAN = 10;
+
+    private final UserRepository userRepository;
+    private final ClassRepository classRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final EnrollmentMembershipService membershipService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Result enroll(String email, Long classId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResponseStatusException(UNAUTHORIZED));
+        ClassEntity clazz = classRepository.findByClassIdAndDeletedAtIsNull(classId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND));
+
+        var existing = enrollmentRepository.findByUserAndClazz(user, clazz);
+        if (existing.isPresent()) {
+            Enrollment e = existing.get();
+            if (e.getStatus() == Enrollment.Status.APPROVED) return Result.ALREADY_ENROLLED;
+            if (e.getStatus() == Enrollment.Status.WAITLISTED) return Result.WAITLISTED;
+            // PENDING/REJECTED → 다시 신청 (대기열에서는 맨 뒤)
+            if (classRepository.tryReserveSeat(classId) == 1) {
+                e.setStatus(Enrollment.Status.APPROVED);
+                changed(email, true);
+                return Result.ENROLLED;
+            }
+            e.setStatus(Enrollment.Status.WAITLISTED);
+            e.setCreatedAt(LocalDateTime.now());
+            changed(email, false);
+            return Result.WAITLISTED;
+        }
+
+        // 좌석 확보(클래스 행 X 잠금)를 INSERT 보다 먼저 한다.
+        // InnoDB 는 enrollment INSERT 의 FK 검사 때 부모 class_entity 행에 S 잠금을 잡는다. INSERT 뒤에 좌석 UPDATE 를 하면
+        // 같은 클래스에 동시에 신청한 두 트랜잭션이 서로의 S 잠금 때문에 X 잠금을 못 얻어 교착(한쪽 DeadlockLoser → 500).
+        // X 잠금을 먼저 잡으면 뒤 요청은 줄만 선다. 중복 신청이면 INSERT 의 unique 위반으로 트랜잭션째 롤백 → 좌석도 돌아간다
+        boolean seat = classRepository.tryReserveSeat(classId) == 1;
+        Enrollment e = new Enrollment();
+        e.setUser(user);
+        e.setClazz(clazz);
+        e.setStatus(seat ? Enrollment.Status.APPROVED : Enrollment.Status.WAITLISTED);
+        enrollmentRepository.saveAndFlush(e);
+
+        changed(email, seat);
+        return seat ? Result.ENROLLED : Result.WAITLISTED;
+    }
+
+    @Transactional
+    public void cancel(String email, Long classId) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResponseStatusException(UNAUTHORIZED));
+        ClassEntity clazz = classRepository.findById(classId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND));
+
+        enrollmentRepository.findByUserAndClazz(user, clazz).ifPresent(e -> {
+            boolean heldSeat = e.getStatus() == Enrollment.Status.APPROVED;
+            enrollmentRepository.delete(e);
+            enrollmentRepository.flush();
+            changed(email, heldSeat);
+            if (heldSeat) handOverSeat(classId);
+        });
+    }
+
+    /** 빈 좌석 하나를 대기열 첫 사람에게 넘기고, 대기자가 없으면 반납 */
+    private void handOverSeat(Long classId) {
+        for (Long id : enrollmentRepository.findWaitlistedIds(classId, Limit.of(PROMOTE_SCAN))) {
+            if (enrollmentRepository.promoteIfWaitlisted(id) == 1) { // 좌석 수는 그대로
+                invalidatePromoted(id);
+                return;
+            }
+        }
+        classRepository.releaseSeat(classId);
+    }
+
+    /** 남은 좌석만큼 대기열을 승격 (기동 시 재계산 후 호출) */
+    @Transactional
+    public int fillFromWaitlist(Long classId) {
+        int promoted = 0;
+        for (Long id : enrollmentRepository.findWaitlistedIds(classId, Limit.of(1000))) {
+            if (classRepository.tryReserveSeat(classId) == 0) break;
+            if (enrollmentRepository.promoteIfWaitlisted(id) == 1) {
+                invalidatePromoted(id);
+                promoted++;
+            } else {
+                classRepository.releaseSeat(classId);
+            }
+        }
+        return promoted;
+    }
+
+    private void invalidatePromoted(Long enrollmentId) {
+        enrollmentRepository.findUserEmailById(enrollmentId).ifPresent(email -> changed(email, true));
+    }
+
+    /** 수강 캐시 무효화(승인 여부가 바뀐 경우) + 대시보드 갱신 이벤트 (둘 다 커밋 후 반영) */
+    private void changed(String email, boolean membershipChanged) {
+        if (membershipChanged) membershipService.invalidate(email);
+        eventPublisher.publishEvent(new DashboardEvents.EnrollmentChanged(List.of(email)));
+    }
+
+    /** enrolledCount 를 실제 APPROVED 수로 다시 맞춘다 */
+    @Transactional
+    public int recountEnrolled() {
+        return classRepository.recountEnrolled();
+    }
+}
@@ -0,0 +1,111 @@
+// src/main/java/com/edtech/edtech_backend/service/FocusHistoryService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.dto.ColumnarIntervals;
+import com.edtech.edtech_backend.dto.CursorPage;
+import com.edtech.edtech_backend.dto.FocusDto;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository.IntervalRow;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository.SessionRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 집중 세션 이력 (최신순 키셋 페이지).
+ * 세션 목록 1쿼리 + (intervals 요청 시) 페이지 전체 구간 1쿼리 → 페이지 크기와 상관없이 최대 2쿼리.
+ */
+@Service
+@RequiredArgsConstructor
+public class FocusHistoryService {
+
+    /** 구간 포함 방식: 없음 / 객체 목록(intervals) / 컬럼형(timeline) */
+    public enum IntervalFormat { NONE, LIST, COLUMNAR }
+
+    private final CourseEngagementAnalyticsRepository analyticsRepository;
+
+    @Transactional(readOnly = true)
+    public CursorPage<FocusDto.SessionView> history(Long classId, Long courseId, String userId,
+                                                   Long cursor, int size, IntervalFormat format, Integer maxPoints) {
+        List<SessionRow> rows = analyticsRepository.findSessionRowsBefore(
+                classId, courseId, userId, cursor == null ? Long.MAX_VALUE : cursor, Limit.of(size + 1));
+        CursorPage<FocusDto.SessionView> page = CursorPage.of(rows, size, SessionRow::getSessionId, FocusHistoryService::toView);
+        if (page.items().isEmpty()) return page;
+
+        if (format == IntervalFormat.LIST) {
+            attachIntervals(page.items());
+            if (maxPoints != null) {
+                for (FocusDto.SessionView s : page.items()) {
+                    s.setIntervals(downsample(s.getIntervals(), maxPoints));
+                }
+            }
+        } else if (format == IntervalFormat.COLUMNAR) {
+            attachTimelines(page.items());
+            if (maxPoints != null) {
+                for (FocusDto.SessionView s : page.items()) {
+                    if (s.getTimeline() != null) s.setTimeline(s.getTimeline().downsample(maxPoints));
+                }
+            }
+        }
+        return page;
+    }
+
+    /** 차트용 구간 축소: x = 구간 중앙 시각, y = 평균 점수 (없으면 0 으로 계산) */
+    public static List<FocusDto.IntervalView> downsample(List<FocusDto.IntervalView> intervals, int maxPoints) {
+        return TimelineDownsampler.downsample(intervals,
+                iv -> iv.getStart() + (iv.getEnd() - iv.getStart()) / 2,
+                iv -> iv.getAvgScore() != null ? iv.getAvgScore() : Double.NaN,
+                maxPoints);
+    }
+
+    private void attachIntervals(List<FocusDto.SessionView> sessions) {
+        Map<Long, FocusDto.SessionView> byId = new HashMap<>(sessions.size() * 2);
+        for (FocusDto.SessionView s : sessions) {
+            s.setIntervals(new ArrayList<>(s.getIntervalCount()));
+            byId.put(s.getSessionId(), s);
+        }
+        for (IntervalRow r : analyticsRepository.findIntervalRows(byId.keySet())) {
+            var iv = new FocusDto.IntervalView();
+            iv.setStart(r.getStartAt() != null ? r.getStartAt().toEpochMilli() : 0L);
+            iv.setEnd(r.getEndAt() != null ? r.getEndAt().toEpochMilli() : iv.getStart());
+            iv.setDurationSec(r.getDurationSec());
+            iv.setAvgScore(r.getAvgScore());
+            byId.get(r.getSessionId()).getIntervals().add(iv);
+        }
+    }
+
+    /** 구간 행을 IntervalView 없이 세션별 평행 배열에 바로 채운다 */
+    private void attachTimelines(List<FocusDto.SessionView> sessions) {
+        Map<Long, FocusDto.SessionView> byId = new HashMap<>(sessions.size() * 2);
+        for (FocusDto.SessionView s : sessions) byId.put(s.getSessionId(), s);
+        for (IntervalRow r : analyticsRepository.findIntervalRows(byId.keySet())) {
+            FocusDto.SessionView s = byId.get(r.getSessionId());
+            ColumnarIntervals timeline = s.getTimeline();
+            if (timeline == null) {
+                // 행은 세션별 startAt 순이므로 첫 행이 가장 이른 구간
+                Instant base = s.getStartedAt() != null ? s.getStartedAt() : r.getStartAt();
+                timeline = new ColumnarIntervals(base != null ? base.toEpochMilli() : 0L, s.getIntervalCount());
+                s.setTimeline(timeline);
+            }
+            timeline.add(r.getStartAt(), r.getEndAt(), r.getDurationSec(), r.getAvgScore());
+        }
+    }
+
+    private static FocusDto.SessionView toView(SessionRow r) {
+        var v = new FocusDto.SessionView();
+        v.setSessionId(r.getSessionId());
+        v.setStartedAt(r.getStartedAt());
+        v.setEndedAt(r.getEndedAt());
+        v.setTotalDurationSec(r.getTotalDurationSec());
+        v.setIntervalCount(r.getIntervalCount() == null ? 0 : r.getIntervalCount());
+        v.setCreatedAt(r.getCreatedAt());
+        return v;
+    }
+}
@@ -0,0 +1,94 @@
+// src/main/java/com/edtech/edtech_backend/service/FocusIntervalMapper.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.dto.FocusDto;
+import com.edtech.edtech_backend.dto.LlmQuizDto;
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.CourseEngagementAnalytics;
+import com.edtech.edtech_backend.entity.FocusInterval;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 집중 구간 변환 모음 (저장 payload → 엔티티, 엔티티 → 응답/LLM 요청).
+ * 세션 변환(toSession)은 컨트롤러와 저널 드레이너(FocusJournalService)가 같이 쓴다.
+ * 컨트롤러/게이트웨이에 흩어져 있던 매핑을 모아서 JMH 로 따로 잴 수 있게 함.
+ */
+public final class FocusIntervalMapper {
+
+    private FocusIntervalMapper() {
+    }
+
+    /** 저장 요청 구간 → 엔티티 (epoch ms → Instant) */
+    public static List<FocusInterval> toEntities(List<FocusDto.IntervalPayload> payload) {
+        List<FocusInterval> out = new ArrayList<>(payload.size());
+        for (FocusDto.IntervalPayload ip : payload) {
+            FocusInterval fi = new FocusInterval();
+            fi.setStartAt(Instant.ofEpochMilli(ip.getStart()));
+            fi.setEndAt(Instant.ofEpochMilli(ip.getEnd()));
+            fi.setDurationSec(ip.getDurationSec());
+            fi.setAvgScore(ip.getAvgScore());
+            out.add(fi);
+        }
+        return out;
+    }
+
+    /** 저장 요청 → 세션 엔티티 (userId 는 요청 값이 아니라 인증된 사용자) */
+    public static CourseEngagementAnalytics toSession(ClassEntity clazz, String userId, FocusDto.SessionPayload payload) {
+        CourseEngagementAnalytics entity = new CourseEngagementAnalytics();
+        entity.setClassEntity(clazz);
+        entity.setCourseId(payload.getCourseId());
+        entity.setUserId(userId);
+        if (payload.getStartedAt() != null) {
+            entity.setStartedAt(Instant.ofEpochMilli(payload.getStartedAt()));
+        }
+        if (payload.getEndedAt() != null) {
+            entity.setEndedAt(Instant.ofEpochMilli(payload.getEndedAt()));
+        }
+        entity.setTotalDurationSec(payload.getTotalDurationSec());
+        if (payload.getIntervals() != null && !payload.getIntervals().isEmpty()) {
+            entity.setAttentionArr(toEntities(payload.getIntervals()));
+        }
+        return entity;
+    }
+
+    /** 엔티티 → 응답 구간 (end 가 없으면 start 로) */
+    public static List<FocusDto.IntervalView> toViews(List<FocusInterval> intervals) {
+        List<FocusDto.IntervalView> out = new ArrayList<>(intervals.size());
+        for (FocusInterval fi : intervals) {
+            var iv = new FocusDto.IntervalView();
+            iv.setStart(fi.getStartAt() != null ? fi.getStartAt().toEpochMilli() : 0L);
+            iv.setEnd(fi.getEndAt() != null ? fi.getEndAt().toEpochMilli() : iv.getStart());
+            iv.setDurationSec(fi.getDurationSec());
+            iv.setAvgScore(fi.getAvgScore());
+            out.add(iv);
+        }
+        return out;
+    }
+
+    /** 엔티티 → LLM 요청 구간 (시작 시각 순, 세션 시작 기준 상대 ms, 최소 1초) */
+    public static List<LlmQuizDto.IntervalDto> toLlmIntervals(Instant startedAt, List<FocusInterval> intervals) {
+        final long baseMs = startedAt != null ? startedAt.toEpochMilli() : 0L;
+
+        return intervals.stream()
+                .sorted(Comparator.comparing(FocusInterval::getStartAt, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(fi -> {
+                    long sAbs = fi.getStartAt() != null ? fi.getStartAt().toEpochMilli() : baseMs;
+                    long eAbs = fi.getEndAt()   != null ? fi.getEndAt().toEpochMilli()   : (sAbs + Math.max(1000L, fi.getDurationSec() * 1000L));
+
+                    long s = Math.max(0L, sAbs - baseMs);              // ▶ 세션 시작 기준 상대 ms
+                    long e = Math.max(s + 1000L, eAbs - baseMs);
+
+                    LlmQuizDto.IntervalDto d = new LlmQuizDto.IntervalDto();
+                    d.setStart(s);
+                    d.setEnd(e);
+                    d.setDurationSec((int) Math.max(1, (e - s) / 1000));
+                    d.setAvgScore(fi.getAvgScore());
+                    return d;
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,351 @@
+package com.edtech.edtech_backend.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 집중 세션 저장 요청용 append-only 로컬 저널 (메모리 매핑 세그먼트 파일).
+ * <p>
+ * 레코드 = [length int][crc32c int][seq long][payload], crc 는 seq+payload 에 대해.
+ * length 를 맨 마지막에 써서 "length > 0 이고 crc 가 맞으면 완전히 쓰인 레코드".
+ * 세그먼트는 미리 segmentSize 만큼 잡아 두고(0 으로 채워짐) 차면 다음 파일 (focus-{첫 seq}.journal).
+ * <p>
+ * - 쓰기: 레코드 기록만 직렬화. fsync=true 면 그룹 커밋 — 잠금 밖에서 한 스레드(리더)가 그때까지 쓰인 구간을
+ *   한 번에 force 하고 기다리던 요청들을 같이 풀어 준다 (요청마다 fsync 하지 않음). force 된 뒤에 seq 를 돌려줌
+ * - 읽기: Cursor 하나(드레이너 스레드)가 발행된 seq 까지 읽음 — 쓰기와 잠금을 공유하지 않는다.
+ *   fsync=true 면 force 된 seq 까지만 발행 (디스크에 없는 레코드를 DB 에 반영하면 정전 후 seq 가 재사용되어 건너뛴다)
+ * - 복구: 열 때 모든 세그먼트를 훑어 마지막 온전한 레코드 뒤를 지운다 (쓰다가 죽은 꼬리)
+ * - 정리: release(적용된 seq) 로 다 적용된 세그먼트 파일 삭제 (마지막 세그먼트는 남겨서 seq 를 이어감)
+ * - fsync=true 면 새 세그먼트를 만든 뒤 파일(크기)과 디렉터리도 fsync — 안 하면 정전 후 레코드는 force 됐는데
+ *   디렉터리 엔트리가 없어 세그먼트가 통째로 사라질 수 있다
+ */
+public final class FocusJournal implements Closeable {
+
+    static final int HEADER = 16;
+    private static final Pattern SEGMENT_NAME = Pattern.compile("focus-(\\d{20})\\.journal");
+
+    public record Entry(long seq, byte[] payload) {
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final long maxBytes;
+    private final boolean fsync;
+    private final FileChannel lockChannel;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+    private Segment active;                 // append 쪽만 (synchronized)
+    private long writtenSeq;                // 버퍼에 쓴 마지막 seq (synchronized)
+    private volatile long lastSeq;          // 읽어도 되는 마지막 seq (fsync 면 force 된 것까지)
+
+    // 그룹 커밋: force 는 한 번에 한 스레드(리더)만, 나머지는 durableSeq 가 자기 seq 를 넘길 때까지 대기
+    private final Object syncMonitor = new Object();
+    private boolean syncing;                // syncMonitor
+    private long durableSeq;                // syncMonitor
+
+    private FocusJournal(Path directory, int segmentSize, long maxBytes, boolean fsync, FileChannel lockChannel) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxBytes = maxBytes;
+        this.fsync = fsync;
+        this.lockChannel = lockChannel;
+    }
+
+    public static FocusJournal open(Path directory, int segmentSize, long maxBytes, boolean fsync) throws IOException {
+        if (segmentSize <= HEADER) throw new IllegalArgumentException("segment size too small: " + segmentSize);
+        Files.createDirectories(directory);
+        // 같은 디렉터리를 두 프로세스가 쓰면 seq 가 꼬인다
+        FileChannel lock = FileChannel.open(directory.resolve("journal.lock"),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+        if (lock.tryLock() == null) {
+            lock.close();
+            throw new IOException("journal directory is in use: " + directory);
+        }
+        FocusJournal journal = new FocusJournal(directory, segmentSize, maxBytes, fsync, lock);
+        journal.recover();
+        return journal;
+    }
+
+    private void recover() throws IOException {
+        List<Long> firstSeqs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(directory)) {
+            files.forEach(p -> {
+                Matcher m = SEGMENT_NAME.matcher(p.getFileName().toString());
+                if (m.matches()) firstSeqs.add(Long.parseLong(m.group(1)));
+            });
+        }
+        firstSeqs.sort(null);
+        long last = 0;
+        for (long first : firstSeqs) {
+            Segment s = Segment.map(segmentPath(first), first, segmentSize, false);
+            s.scan();
+            segments.add(s);
+            last = s.lastSeq;
+        }
+        if (segments.isEmpty()) {
+            active = Segment.map(segmentPath(1), 1, segmentSize, fsync);
+            segments.add(active);
+            if (fsync) syncDirectory(directory);
+            last = 0;
+        } else {
+            active = segments.get(segments.size() - 1);
+        }
+        writtenSeq = last;
+        lastSeq = last;
+        durableSeq = last;
+    }
+
+    /** 저장하고 seq 반환. 너무 크면 IllegalArgumentException, 저널이 꽉 찼으면 IllegalStateException */
+    public long append(byte[] payload) throws IOException {
+        long seq = write(payload);
+        if (fsync) awaitDurable(seq);
+        return seq;
+    }
+
+    private synchronized long write(byte[] payload) throws IOException {
+        int size = HEADER + payload.length;
+        if (size > segmentSize) throw new IllegalArgumentException("record larger than segment: " + payload.length);
+        if (active.end + size > active.buf.capacity()) rotate();
+
+        long seq = writtenSeq + 1;
+        MappedByteBuffer buf = active.buf;
+        int pos = active.end;
+        buf.putLong(pos + 8, seq);
+        buf.put(pos + HEADER, payload);
+        buf.putInt(pos + 4, crc(buf, pos, payload.length));
+        buf.putInt(pos, payload.length);
+        active.end = pos + size;
+        active.lastSeq = seq;
+        writtenSeq = seq;
+        if (!fsync) lastSeq = seq;
+        return seq;
+    }
+
+    /** seq 가 디스크에 내려갈 때까지. 진행 중인 force 가 없으면 내가 리더가 되어 그때까지 쓰인 것을 한 번에 내린다 */
+    private void awaitDurable(long seq) throws IOException {
+        synchronized (syncMonitor) {
+            while (durableSeq < seq && syncing) {
+                try {
+                    syncMonitor.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("interrupted while waiting for journal fsync");
+                }
+            }
+            if (durableSeq >= seq) return;
+            syncing = true;
+        }
+        long synced = -1;
+        try {
+            synced = forceWritten();
+        } finally {
+            synchronized (syncMonitor) {
+                syncing = false;
+                if (synced > durableSeq) {
+                    durableSeq = synced;
+                    lastSeq = synced;
+                }
+                syncMonitor.notifyAll();   // 실패했으면 기다리던 쪽 중 하나가 다시 리더가 된다
+            }
+        }
+    }
+
+    /**
+     * 활성 세그먼트에서 아직 안 내린 구간만 force 하고 거기까지의 seq 를 반환.
+     * 이전 세그먼트는 rotate 가 통째로 force 했으므로 활성 세그먼트만 보면 된다
+     */
+    private long forceWritten() throws IOException {
+        Segment segment;
+        int from;
+        int to;
+        long seq;
+        synchronized (this) {
+            segment = active;
+            from = segment.syncedEnd;
+            to = segment.end;
+            seq = writtenSeq;
+        }
+        if (to > from) segment.buf.force(from, to - from);
+        segment.syncedEnd = to;         // 리더만 고친다
+        return seq;
+    }
+
+    private void rotate() throws IOException {
+        if (bytes() + segmentSize > maxBytes) throw new IllegalStateException("journal full: " + bytes() + " bytes");
+        active.buf.force();
+        Segment next = Segment.map(segmentPath(writtenSeq + 1), writtenSeq + 1, segmentSize, fsync);
+        if (fsync) syncDirectory(directory);
+        segments.add(next);
+        active = next;
+    }
+
+    /** appliedSeq 까지 다 적용된 세그먼트 파일 삭제 (다음 세그먼트가 appliedSeq 이하에서 시작하면 통째로 적용된 것) */
+    public synchronized void release(long appliedSeq) throws IOException {
+        while (segments.size() > 1 && segments.get(1).firstSeq <= appliedSeq + 1) {
+            Segment done = segments.remove(0);
+            Files.deleteIfExists(done.path);
+        }
+    }
+
+    public Cursor cursor(long afterSeq) {
+        return new Cursor(afterSeq);
+    }
+
+    public long lastSeq() {
+        return lastSeq;
+    }
+
+    /** 디스크에 잡힌 크기 (세그먼트는 미리 할당) */
+    public long bytes() {
+        return segments.stream().mapToLong(s -> s.buf.capacity()).sum();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        for (Segment s : segments) s.buf.force();
+        lockChannel.close();
+    }
+
+    /**
+     * 디렉터리 엔트리(새로 만든/옮긴 파일 이름)를 디스크에 내린다. 디렉터리를 열 수 없는 플랫폼(Windows)은 건너뜀.
+     * FocusJournalService 가 journal.id 를 만든 뒤에도 쓴다
+     */
+    static void syncDirectory(Path directory) throws IOException {
+        FileChannel ch;
+        try {
+            ch = FileChannel.open(directory, StandardOpenOption.READ);
+        } catch (IOException e) {
+            return;
+        }
+        try (ch) {
+            ch.force(true);
+        }
+    }
+
+    private Path segmentPath(long firstSeq) {
+        return directory.resolve(String.format("focus-%020d.journal", firstSeq));
+    }
+
+    private static int crc(ByteBuffer buf, int pos, int length) {
+        CRC32C crc = new CRC32C();
+        crc.update(buf.slice(pos + 8, 8 + length));
+        return (int) crc.getValue();
+    }
+
+    /** 드레이너 전용 (스레드 하나). afterSeq 다음 레코드부터 */
+    public final class Cursor {
+        private long nextSeq;
+        private Segment segment;
+        private int pos;
+
+        private Cursor(long afterSeq) {
+            this.nextSeq = afterSeq + 1;
+        }
+
+        public List<Entry> poll(int max) {
+            long limit = lastSeq;
+            List<Entry> out = new ArrayList<>(Math.min(max, 256));
+            while (out.size() < max && nextSeq <= limit) {
+                if (segment == null || !readable(segment, pos)) {
+                    if (!advanceSegment()) break;
+                    continue;
+                }
+                ByteBuffer buf = segment.buf;
+                int length = buf.getInt(pos);
+                long seq = buf.getLong(pos + 8);
+                if (seq >= nextSeq) {
+                    byte[] payload = new byte[length];
+                    buf.get(pos + HEADER, payload);
+                    out.add(new Entry(seq, payload));
+                    nextSeq = seq + 1;
+                }
+                pos += HEADER + length;
+            }
+            return out;
+        }
+
+        private boolean readable(Segment s, int at) {
+            return at + HEADER <= s.buf.capacity() && s.buf.getInt(at) > 0;
+        }
+
+        /** 다음 세그먼트로: 지나온 것 이후 중 nextSeq 를 담은 것 (정리됐거나 복구 중 잘려 seq 가 건너뛰면 그다음 것) */
+        private boolean advanceSegment() {
+            Segment first = null;
+            Segment target = null;
+            for (Segment s : segments) {
+                if (segment != null && s.firstSeq <= segment.firstSeq) continue;
+                if (first == null) first = s;
+                if (s.firstSeq <= nextSeq) target = s;
+            }
+            if (target == null) target = first;
+            if (target == null) return false;
+            segment = target;
+            pos = 0;
+            nextSeq = Math.max(nextSeq, target.firstSeq);
+            return true;
+        }
+    }
+
+    private static final class Segment {
+        final Path path;
+        final long firstSeq;
+        final MappedByteBuffer buf;
+        int end;
+        volatile int syncedEnd;     // 여기까지 force 됨 (그룹 커밋 리더만 씀)
+        long lastSeq;
+
+        private Segment(Path path, long firstSeq, MappedByteBuffer buf) {
+            this.path = path;
+            this.firstSeq = firstSeq;
+            this.buf = buf;
+            this.lastSeq = firstSeq - 1;
+        }
+
+        /** sync 면 새로 만든 파일의 크기(메타데이터)까지 fsync. 디렉터리 엔트리는 호출하는 쪽에서 */
+        static Segment map(Path path, long firstSeq, int segmentSize, boolean sync) throws IOException {
+            try (FileChannel ch = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                boolean created = ch.size() == 0;
+                long size = created ? segmentSize : ch.size();   // 설정이 바뀌어도 기존 파일은 원래 크기로
+                MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                if (created && sync) ch.force(true);
+                return new Segment(path, firstSeq, buf);
+            }
+        }
+
+        /** 온전한 레코드 끝을 찾고, 그 뒤에 남은 쓰다 만 레코드는 0 으로 지운다 */
+        void scan() {
+            int pos = 0;
+            long expected = firstSeq;
+            int cap = buf.capacity();
+            while (pos + HEADER <= cap) {
+                int length = buf.getInt(pos);
+                if (length <= 0 || pos + HEADER + length > cap) break;
+                if (buf.getLong(pos + 8) != expected || buf.getInt(pos + 4) != crc(buf, pos, length)) break;
+                pos += HEADER + length;
+                lastSeq = expected++;
+            }
+            end = pos;
+            syncedEnd = pos;
+            boolean dirty = false;
+            for (int at = pos; at < cap && !dirty; at++) dirty = buf.get(at) != 0;
+            if (dirty) {
+                byte[] zeros = new byte[8192];
+                for (int at = pos; at < cap; at += zeros.length) buf.put(at, zeros, 0, Math.min(zeros.length, cap - at));
+                buf.force();
+            }
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.dto.FocusDto;
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.FocusJournalCheckpoint;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.FocusJournalCheckpointRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 집중 세션 저장을 DB 대신 로컬 저널(FocusJournal)에 먼저 받는 경로 (focus.journal.mode).
+ * - off: 사용 안 함 (기존처럼 DB 저장 후 200)
+ * - fallback: DB 저장이 연결/시간 초과로 실패할 때만 저널에 적고 202
+ * - always: 항상 저널에 적고 202 — 요청 지연이 DB 지연과 분리되고 몰릴 때도 저널이 받아낸다
+ * <p>
+ * 드레이너가 drain-interval 마다 batch-size 개씩 DB 에 넣는다. 세션 저장과 체크포인트
+ * (focus_journal_checkpoint) 갱신이 한 트랜잭션이라 재기동/장애 후 다시 돌려도 중복이 없다.
+ * DB 가 죽어 있으면(또는 예상 못 한 예외면) 그 주기는 포기하고 다음 주기에 체크포인트부터 다시.
+ * 클래스가 삭제됐거나 제약 조건에 걸리거나 변환 중 예외가 나는 레코드는 건너뛴다 (focus.journal.dropped, 로그에 seq).
+ * DB 장애로 수강 여부를 확인하지 못하고 받은 레코드는 드레이너가 저장 전에 다시 확인한다 (수강생이 아니면 not_member 로 건너뜀).
+ */
+@Slf4j
+@Service
+public class FocusJournalService {
+
+    public enum Mode { OFF, FALLBACK, ALWAYS }
+
+    /** 저널에 들어가는 한 건 (userId 는 인증된 사용자, membershipUnverified 면 드레이너가 수강 여부를 확인) */
+    record Journaled(String userId, long receivedAt, FocusDto.SessionPayload payload, boolean membershipUnverified) {
+    }
+
+    private final Mode mode;
+    private final Path directory;
+    private final DataSize segmentSize;
+    private final DataSize maxSize;
+    private final boolean fsync;
+    private final int batchSize;
+    private final Duration maxRunTime;
+    private final CourseEngagementAnalyticsService analyticsService;
+    private final ClassRepository classRepository;
+    private final EnrollmentMembershipService membershipService;
+    private final FocusJournalCheckpointRepository checkpointRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate tx;
+    private final MeterRegistry meterRegistry;
+    private final Counter appended;
+    private final Counter drained;
+    private final Map<String, Counter> dropped = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejected = new ConcurrentHashMap<>();
+
+    private FocusJournal journal;
+    private String journalId;
+    private volatile long appliedSeq = -1;     // -1 = 아직 DB 체크포인트를 못 읽음
+    private FocusJournal.Cursor cursor;        // 드레이너 스레드 전용
+
+    public FocusJournalService(@Value("${focus.journal.mode:off}") Mode mode,
+                               @Value("${focus.journal.directory:data/focus-journal}") Path directory,
+                               @Value("${focus.journal.segment-size:64MB}") DataSize segmentSize,
+                               @Value("${focus.journal.max-size:1GB}") DataSize maxSize,
+                               @Value("${focus.journal.fsync:true}") boolean fsync,
+                               @Value("${focus.journal.batch-size:200}") int batchSize,
+                               @Value("${focus.journal.max-run-time:PT10S}") Duration maxRunTime,
+                               CourseEngagementAnalyticsService analyticsService,
+                               ClassRepository classRepository,
+                               EnrollmentMembershipService membershipService,
+                               FocusJournalCheckpointRepository checkpointRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.mode = mode;
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSize = maxSize;
+        this.fsync = fsync;
+        this.batchSize = batchSize;
+        this.maxRunTime = maxRunTime;
+        this.analyticsService = analyticsService;
+        this.classRepository = classRepository;
+        this.membershipService = membershipService;
+        this.checkpointRepository = checkpointRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.appended = Counter.builder("focus.journal.appended").register(meterRegistry);
+        this.drained = Counter.builder("focus.journal.drained").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void open() throws IOException {
+        if (mode == Mode.OFF) return;
+        journal = FocusJournal.open(directory, Math.toIntExact(segmentSize.toBytes()), maxSize.toBytes(), fsync);
+        journalId = readOrCreateId();
+        Gauge.builder("focus.journal.pending", this, s -> s.appliedSeq < 0 ? Double.NaN : s.journal.lastSeq() - s.appliedSeq)
+                .register(meterRegistry);
+        Gauge.builder("focus.journal.size", journal, FocusJournal::bytes).baseUnit("bytes").register(meterRegistry);
+        log.atInfo().addKeyValue("mode", mode).addKeyValue("directory", directory.toAbsolutePath())
+                .addKeyValue("lastSeq", journal.lastSeq()).log("focus journal opened");
+    }
+
+    @PreDestroy
+    void close() throws IOException {
+        if (journal != null) journal.close();
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    /**
+     * DB 실패 중 저널로 돌려도 되는 것 (연결/시간 초과). 데이터 문제는 그대로 실패시킨다.
+     * always 모드에서도 저장 전 수강 확인이 DB 장애로 실패하면 저널로 받는다
+     */
+    public boolean shouldFallback(RuntimeException e) {
+        return mode != Mode.OFF && (e instanceof TransientDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException);
+    }
+
+    /** 저널에 적고 seq 반환 (fsync 설정이면 디스크에 내려간 뒤) */
+    public long append(String userId, FocusDto.SessionPayload payload) {
+        return append(new Journaled(userId, System.currentTimeMillis(), payload, false));
+    }
+
+    /** 수강 여부를 DB 장애로 확인하지 못한 요청. 드레이너가 저장 전에 확인하고 수강생이 아니면 버린다 */
+    public long appendUnverified(String userId, FocusDto.SessionPayload payload) {
+        return append(new Journaled(userId, System.currentTimeMillis(), payload, true));
+    }
+
+    private long append(Journaled record) {
+        if (journal == null) throw new IllegalStateException("focus journal is off");
+        byte[] bytes;
+        try {
+            bytes = objectMapper.writeValueAsBytes(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        try {
+            long seq = journal.append(bytes);
+            appended.increment();
+            return seq;
+        } catch (IllegalArgumentException e) {
+            count(rejected, "focus.journal.rejected", "too_large");
+            throw new ResponseStatusException(HttpStatus.PAYLOAD_TOO_LARGE, "세션 데이터가 너무 큽니다");
+        } catch (IllegalStateException | IOException e) {
+            count(rejected, "focus.journal.rejected", e instanceof IOException ? "io" : "full");
+            log.atError().setCause(e).log("focus journal append failed");
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "잠시 후 다시 시도해 주세요");
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${focus.journal.drain-interval:PT1S}")
+    public void drain() {
+        if (journal == null || journal.lastSeq() <= appliedSeq) return;
+        long deadline = System.nanoTime() + maxRunTime.toNanos();
+        try {
+            if (appliedSeq < 0) {
+                appliedSeq = checkpointRepository.findById(journalId).map(FocusJournalCheckpoint::getAppliedSeq).orElse(0L);
+                cursor = journal.cursor(appliedSeq);
+            }
+            while (System.nanoTime() < deadline) {
+                List<FocusJournal.Entry> batch = cursor.poll(batchSize);
+                if (batch.isEmpty()) break;
+                try {
+                    apply(batch);
+                } catch (RuntimeException e) {
+                    if (isOutage(e)) throw e;
+                    // 배치 안의 어떤 레코드인지 모르니 한 건씩 다시
+                    for (FocusJournal.Entry entry : batch) applyOrSkip(entry);
+                }
+                journal.release(appliedSeq);
+            }
+        } catch (RuntimeException e) {
+            // poll 이 커서를 커밋 전에 옮겨 두었으므로 어떤 예외든 체크포인트로 되돌린다 (안 그러면 다음 주기가 건너뜀)
+            log.atWarn().addKeyValue("appliedSeq", appliedSeq).addKeyValue("error", e.toString()).log("focus journal drain paused");
+            if (appliedSeq >= 0) cursor = journal.cursor(appliedSeq);
+        } catch (IOException e) {
+            log.atError().setCause(e).log("focus journal segment cleanup failed");
+        }
+    }
+
+    /** 한 건만 적용. 레코드 자체의 문제(제약 위반, 변환 실패)면 건너뛰고 체크포인트를 넘긴다 */
+    private void applyOrSkip(FocusJournal.Entry entry) {
+        try {
+            apply(List.of(entry));
+        } catch (RuntimeException e) {
+            if (isOutage(e)) throw e;
+            boolean rejected = e instanceof DataIntegrityViolationException;
+            log.atError().addKeyValue("seq", entry.seq()).addKeyValue("error", NestedExceptionUtils.getMostSpecificCause(e).toString())
+                    .log(rejected ? "focus journal record rejected by database, skipped" : "focus journal record failed to apply, skipped");
+            count(dropped, "focus.journal.dropped", rejected ? "rejected" : "poison");
+            tx.executeWithoutResult(s -> checkpointRepository.save(new FocusJournalCheckpoint(journalId, entry.seq())));
+            appliedSeq = entry.seq();
+        }
+    }
+
+    /** 다시 하면 될 수 있는 실패 (DB 연결/트랜잭션). 데이터 문제인 제약 위반은 아님 */
+    private static boolean isOutage(RuntimeException e) {
+        return (e instanceof DataAccessException && !(e instanceof DataIntegrityViolationException))
+                || e instanceof TransactionException;
+    }
+
+    /** 세션들 + 체크포인트를 한 트랜잭션으로 */
+    private void apply(List<FocusJournal.Entry> batch) {
+        long last = batch.get(batch.size() - 1).seq();
+        // 건너뛴 건수는 커밋된 뒤에 센다 (배치가 롤백되고 한 건씩 다시 할 때 두 번 세지 않게)
+        List<String> skipped = new ArrayList<>();
+        int saved = tx.execute(s -> {
+            skipped.clear();
+            int n = 0;
+            for (FocusJournal.Entry entry : batch) {
+                Journaled j = decode(entry);
+                if (j == null) {
+                    skipped.add("corrupt");
+                    continue;
+                }
+                Optional<ClassEntity> clazz = Optional.ofNullable(j.payload().getClassId())
+                        .flatMap(classRepository::findByClassIdAndDeletedAtIsNull);
+                if (clazz.isEmpty()) {
+                    log.atWarn().addKeyValue("seq", entry.seq()).addKeyValue("classId", j.payload().getClassId())
+                            .log("focus journal record for missing class, skipped");
+                    skipped.add("class_missing");
+                    continue;
+                }
+                if (j.membershipUnverified() && !membershipService.isMember(j.userId(), clazz.get().getClassId())) {
+                    log.atWarn().addKeyValue("seq", entry.seq()).addKeyValue("classId", j.payload().getClassId())
+                            .log("focus journal record from non-member, skipped");
+                    skipped.add("not_member");
+                    continue;
+                }
+                analyticsService.save(FocusIntervalMapper.toSession(clazz.get(), j.userId(), j.payload()));
+                eventPublisher.publishEvent(new DashboardEvents.FocusSessionSaved(
+                        j.userId(), j.payload().getClassId(), j.payload().getCourseId()));
+                n++;
+            }
+            checkpointRepository.save(new FocusJournalCheckpoint(journalId, last));
+            return n;
+        });
+        appliedSeq = last;
+        drained.increment(saved);
+        for (String reason : skipped) count(dropped, "focus.journal.dropped", reason);
+    }
+
+    private Journaled decode(FocusJournal.Entry entry) {
+        try {
+            return objectMapper.readValue(entry.payload(), Journaled.class);
+        } catch (IOException e) {
+            log.atError().addKeyValue("seq", entry.seq()).setCause(e).log("focus journal record unreadable, skipped");
+            return null;
+        }
+    }
+
+    private String readOrCreateId() throws IOException {
+        Path idFile = directory.resolve("journal.id");
+        if (Files.exists(idFile)) return Files.readString(idFile, StandardCharsets.UTF_8).trim();
+        String id = UUID.randomUUID().toString();
+        Path tmp = directory.resolve("journal.id.tmp");
+        try (FileChannel ch = FileChannel.open(tmp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            ch.write(ByteBuffer.wrap(id.getBytes(StandardCharsets.UTF_8)));
+            if (fsync) ch.force(true);
+        }
+        Files.move(tmp, idFile, StandardCopyOption.ATOMIC_MOVE);
+        // 이름이 디스크에 없으면 재기동 때 새 ID → 체크포인트를 못 찾아 저널 처음부터 다시 적용(중복)
+        if (fsync) FocusJournal.syncDirectory(directory);
+        return id;
+    }
+
+    private void count(Map<String, Counter> counters, String name, String reason) {
+        counters.computeIfAbsent(reason, r -> Counter.builder(name).tag("reason", r).register(meterRegistry)).increment();
+    }
+}
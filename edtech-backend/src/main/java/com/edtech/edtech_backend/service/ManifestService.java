@@ -0,0 +1,141 @@
+// src/main/java/com/edtech/edtech_backend/service/ManifestService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.service.MediaFileService.MediaFile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * 강의별 MPD 매니페스트를 세그먼트 URL 이 치환된 형태로 캐시해서 내려준다.
+ * - MPD 는 한 번만 파싱해서 템플릿(고정 조각 + URL 슬롯)으로 만들고 바로 렌더링
+ * - 요청마다 하는 일은 강의 캐시 조회 + 파일 stat 한 번 + 렌더링된 byte[] 복사
+ * - 캐시 키는 MPD 경로 (강의 → 경로는 CatalogService 캐시에서 매번 확인) → 강의의 mpdPath 가 바뀌면 새 경로로
+ * - 파일 크기/수정시각이 바뀌면 다시 파싱
+ */
+@Service
+public class ManifestService {
+
+    // SegmentTemplate/SegmentURL 의 URL 속성
+    private static final Pattern URL_ATTR = Pattern.compile("\\b(initialization|media)=\"([^\"]*)\"");
+
+    private final CatalogService catalogService;
+    private final MediaFileService mediaFileService;
+    private final String segmentBaseUrl;
+
+    private final ConcurrentHashMap<String, CachedManifest> cache = new ConcurrentHashMap<>();
+
+    public ManifestService(CatalogService catalogService,
+                           MediaFileService mediaFileService,
+                           @Value("${media.segment-base-url:/api/media}") String segmentBaseUrl) {
+        this.catalogService = catalogService;
+        this.mediaFileService = mediaFileService;
+        this.segmentBaseUrl = segmentBaseUrl.endsWith("/")
+                ? segmentBaseUrl.substring(0, segmentBaseUrl.length() - 1)
+                : segmentBaseUrl;
+    }
+
+    public RenderedManifest getManifest(Long lectureId) {
+        String mpdPath = findMpdPath(lectureId);
+        CachedManifest cached = cache.get(mpdPath);
+
+        MediaFile file = mediaFileService.resolve(mpdPath)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "MPD 파일 없음"));
+
+        if (cached != null && cached.length() == file.length() && cached.lastModified() == file.lastModified()) {
+            return cached.rendered();
+        }
+
+        RenderedManifest rendered = ManifestTemplate.parse(read(file)).render(prefixFor(mpdPath));
+        cache.put(mpdPath, new CachedManifest(file.length(), file.lastModified(), rendered));
+        return rendered;
+    }
+
+    private String findMpdPath(Long lectureId) {
+        String mpdPath = catalogService.getLecture(lectureId).getMpdUrl(); // 캐시된 강의 정보 (없으면 404)
+        if (mpdPath == null || mpdPath.isBlank()) {
+            throw new ResponseStatusException(NOT_FOUND, "MPD 경로 없음");
+        }
+        return mpdPath;
+    }
+
+    // '/mpd/output.mpd' → '{base}/mpd/'
+    private String prefixFor(String mpdPath) {
+        String p = mpdPath.startsWith("/") ? mpdPath : "/" + mpdPath;
+        return segmentBaseUrl + p.substring(0, p.lastIndexOf('/') + 1);
+    }
+
+    private static byte[] read(MediaFile file) {
+        try {
+            return Files.readAllBytes(file.path());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record CachedManifest(long length, long lastModified, RenderedManifest rendered) {}
+
+    public record RenderedManifest(byte[] body, String etag) {}
+
+    /** 파싱된 MPD: literals[i] 다음에 slots[i] 가 온다 (literals 가 하나 더 많음) */
+    static final class ManifestTemplate {
+        private final List<byte[]> literals;
+        private final List<String> slots;
+
+        private ManifestTemplate(List<byte[]> literals, List<String> slots) {
+            this.literals = literals;
+            this.slots = slots;
+        }
+
+        static ManifestTemplate parse(byte[] mpd) {
+            String xml = new String(mpd, StandardCharsets.UTF_8);
+            List<byte[]> literals = new ArrayList<>();
+            List<String> slots = new ArrayList<>();
+            Matcher m = URL_ATTR.matcher(xml);
+            int last = 0;
+            while (m.find()) {
+                literals.add(xml.substring(last, m.start(2)).getBytes(StandardCharsets.UTF_8));
+                slots.add(m.group(2));
+                last = m.end(2);
+            }
+            literals.add(xml.substring(last).getBytes(StandardCharsets.UTF_8));
+            return new ManifestTemplate(literals, slots);
+        }
+
+        RenderedManifest render(String prefix) {
+            byte[] prefixBytes = prefix.getBytes(StandardCharsets.UTF_8);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(estimateSize(prefixBytes.length));
+            for (int i = 0; i < slots.size(); i++) {
+                out.writeBytes(literals.get(i));
+                String slot = slots.get(i);
+                // 이미 절대 경로/URL 이면 그대로 둔다
+                if (!slot.startsWith("/") && !slot.contains("://")) out.writeBytes(prefixBytes);
+                out.writeBytes(slot.getBytes(StandardCharsets.UTF_8));
+            }
+            out.writeBytes(literals.get(literals.size() - 1));
+            byte[] body = out.toByteArray();
+            return new RenderedManifest(body, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+        }
+
+        private int estimateSize(int prefixLength) {
+            int size = 0;
+            for (byte[] l : literals) size += l.length;
+            for (String s : slots) size += s.length() + prefixLength;
+            return size;
+        }
+    }
+}
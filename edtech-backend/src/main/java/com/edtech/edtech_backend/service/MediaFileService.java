@@ -0,0 +1,130 @@
+// src/main/java/com/edtech/edtech_backend/service/MediaFileService.java
+package com.edtech.edtech_backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 파일시스템 미디어 루트(media.root)에서 DASH 세그먼트/매니페스트를 찾아주는 서비스.
+ * 클래스패스(jar) 대신 실제 파일을 쓰므로 경로를 Tomcat sendfile 에 그대로 넘길 수 있다.
+ */
+@Service
+public class MediaFileService {
+
+    private static final MediaType DASH_XML = new MediaType("application", "dash+xml");
+    private static final MediaType MP4_SEGMENT = new MediaType("video", "iso.segment");
+
+    private static final Map<String, MediaType> TYPES = Map.of(
+            "m4s", MP4_SEGMENT,
+            "mp4", new MediaType("video", "mp4"),
+            "mpd", DASH_XML,
+            "m3u8", new MediaType("application", "vnd.apple.mpegurl"),
+            "vtt", new MediaType("text", "vtt")
+    );
+
+    private final Path root;
+
+    // 경로별 메타데이터 (크기/수정시각이 같으면 재사용)
+    private final ConcurrentHashMap<Path, MediaFile> metadata = new ConcurrentHashMap<>();
+
+    public MediaFileService(@Value("${media.root:src/main/resources/static}") String root) {
+        this.root = Path.of(root).toAbsolutePath().normalize();
+    }
+
+    public Path getRoot() {
+        return root;
+    }
+
+    /** 미디어 루트 기준 상대경로를 파일로 해석. 루트 밖으로 나가거나 없는 파일이면 empty */
+    public Optional<MediaFile> resolve(String relativePath) {
+        if (relativePath == null || relativePath.isBlank()) return Optional.empty();
+        String rel = relativePath.startsWith("/") ? relativePath.substring(1) : relativePath;
+
+        Path path;
+        try {
+            path = root.resolve(rel).normalize();
+        } catch (InvalidPathException e) {
+            return Optional.empty();
+        }
+        if (!path.startsWith(root)) return Optional.empty(); // ../ 로 루트 탈출 방지
+
+        BasicFileAttributes attrs;
+        try {
+            attrs = Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            metadata.remove(path);
+            return Optional.empty();
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        if (!attrs.isRegularFile()) return Optional.empty();
+
+        long length = attrs.size();
+        long lastModified = attrs.lastModifiedTime().toMillis();
+        MediaFile cached = metadata.get(path);
+        if (cached != null && cached.length() == length && cached.lastModified() == lastModified) {
+            return Optional.of(cached);
+        }
+
+        MediaFile fresh = new MediaFile(path, length, lastModified,
+                strongEtag(length, lastModified), contentTypeOf(path), isImmutable(path));
+        metadata.put(path, fresh);
+        return Optional.of(fresh);
+    }
+
+    /**
+     * [position, position+count) 구간을 채널로 전송.
+     * 대상이 소켓 채널일 때만 커널 sendfile 이고, 서블릿 OutputStream 을 감싼 채널이면 8KB 버퍼 복사다.
+     */
+    public void transfer(MediaFile file, long position, long count, WritableByteChannel target) throws IOException {
+        try (FileChannel ch = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            long pos = position;
+            long remaining = count;
+            while (remaining > 0) {
+                long n = ch.transferTo(pos, remaining, target);
+                if (n <= 0) break; // EOF (파일이 도중에 줄어든 경우)
+                pos += n;
+                remaining -= n;
+            }
+        }
+    }
+
+    // 크기+수정시각 기반 강한 ETag (세그먼트는 생성 후 바뀌지 않음)
+    private static String strongEtag(long length, long lastModified) {
+        return "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+    }
+
+    private static MediaType contentTypeOf(Path path) {
+        String ext = extensionOf(path);
+        return TYPES.getOrDefault(ext, MediaType.APPLICATION_OCTET_STREAM);
+    }
+
+    // 매니페스트(mpd/m3u8)는 다시 쓰일 수 있으니 immutable 아님, 나머지 세그먼트는 immutable
+    private static boolean isImmutable(Path path) {
+        String ext = extensionOf(path);
+        return !ext.equals("mpd") && !ext.equals("m3u8") && !ext.equals("vtt");
+    }
+
+    private static String extensionOf(Path path) {
+        String name = path.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return dot < 0 ? "" : name.substring(dot + 1).toLowerCase();
+    }
+
+    public record MediaFile(Path path, long length, long lastModified, String etag,
+                            MediaType contentType, boolean immutable) {}
+}
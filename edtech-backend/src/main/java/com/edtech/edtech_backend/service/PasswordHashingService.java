@@ -0,0 +1,134 @@
+// src/main/java/com/edtech/edtech_backend/service/PasswordHashingService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.observability.FlightEvents;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * BCrypt 해싱 전용 스레드 풀.
+ * 로그인 폭주 때 해싱이 Tomcat 워커를 다 잡아먹지 않도록 CPU 코어 수만큼의 스레드에서만 돌린다.
+ * - 대기열(auth.hashing.queue-capacity)이 차면 바로 503 + Retry-After
+ * - 로그인 성공 시 저장된 해시의 cost 가 현재 설정보다 낮으면 새 해시를 같이 만들어 준다
+ */
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final boolean rehashOnLogin;
+    private final long retryAfterSeconds;
+    private final ThreadPoolExecutor executor;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${auth.hashing.threads:0}") int threads,
+                                  @Value("${auth.hashing.queue-capacity:64}") int queueCapacity,
+                                  @Value("${auth.hashing.retry-after-seconds:2}") long retryAfterSeconds,
+                                  @Value("${auth.bcrypt.rehash-on-login:true}") boolean rehashOnLogin) {
+        this.passwordEncoder = passwordEncoder;
+        this.rehashOnLogin = rehashOnLogin;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        // 0 이하면 코어 수
+        int size = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "password-hash-" + seq.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.AbortPolicy());
+
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "auth.hashing");
+        this.rejected = Counter.builder("auth.hashing.rejected")
+                .description("Password hashing tasks rejected because the queue was full")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit("bcrypt.encode", () -> passwordEncoder.encode(rawPassword));
+    }
+
+    /** 비밀번호 확인. 맞고 재해싱이 필요하면 upgradedHash 에 새 해시가 들어 있다 */
+    public CompletableFuture<Verification> verify(String rawPassword, String storedHash) {
+        return submit("bcrypt.verify", () -> {
+            if (!passwordEncoder.matches(rawPassword, storedHash)) {
+                return new Verification(false, null);
+            }
+            String upgraded = rehashOnLogin && passwordEncoder.upgradeEncoding(storedHash)
+                    ? passwordEncoder.encode(rawPassword)
+                    : null;
+            return new Verification(true, upgraded);
+        });
+    }
+
+    private <T> CompletableFuture<T> submit(String operation, Supplier<T> task) {
+        long submitted = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                // JFR: 해싱 스레드에서 실제 해싱 시간 + 대기열에서 기다린 시간
+                long queueWait = System.nanoTime() - submitted;
+                var event = new FlightEvents.Auth();
+                event.begin();
+                String outcome = "error";
+                try {
+                    T result = task.get();
+                    outcome = result instanceof Verification v && !v.matched() ? "mismatch" : "success";
+                    return result;
+                } finally {
+                    event.end();
+                    if (event.shouldCommit()) {
+                        event.operation = operation;
+                        event.outcome = outcome;
+                        event.queueWait = queueWait;
+                        event.commit();
+                    }
+                }
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new HashingBusyException(retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    public record Verification(boolean matched, String upgradedHash) {}
+
+    /** 해싱 대기열이 가득 참 → 503, 클라이언트는 Retry-After 뒤에 재시도 */
+    static class HashingBusyException extends ResponseStatusException {
+        private final long retryAfterSeconds;
+
+        HashingBusyException(long retryAfterSeconds) {
+            super(HttpStatus.SERVICE_UNAVAILABLE, "too many login attempts, retry later");
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+// src/main/java/com/edtech/edtech_backend/service/PurgeService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.Course;
+import com.edtech.edtech_backend.entity.PurgeJob;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.CourseRepository;
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import com.edtech.edtech_backend.repository.PurgeJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * 코스/클래스 삭제 요청.
+ * 요청 트랜잭션에서는 삭제 표시(deletedAt) + PurgeJob 등록만 하고 바로 끝낸다.
+ * 세션/집중 구간/일정/요약/수강 같은 하위 데이터는 BulkPurger 가 작은 배치로 나눠 지운다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PurgeService {
+
+    private final ClassRepository classRepository;
+    private final CourseRepository courseRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final PurgeJobRepository purgeJobRepository;
+    private final EnrollmentMembershipService membershipService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public PurgeJob deleteCourse(Long classId, Long courseId) {
+        Course course = courseRepository.findByCourseIdAndClassEntity_ClassIdAndDeletedAtIsNull(courseId, classId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "course not found"));
+        course.setDeletedAt(Instant.now());
+
+        eventPublisher.publishEvent(new DashboardEvents.CoursesChanged(classId)); // 커밋 후 수강생 대시보드 갱신
+        return enqueue(PurgeJob.Target.COURSE, courseId);
+    }
+
+    @Transactional
+    public PurgeJob deleteClass(Long classId) {
+        ClassEntity clazz = classRepository.findByClassIdAndDeletedAtIsNull(classId)
+                .orElseThrow(() -> new ResponseStatusException(NOT_FOUND, "class not found"));
+        Instant now = Instant.now();
+        clazz.setDeletedAt(now);
+        courseRepository.markDeletedByClassId(classId, now);
+
+        // 수강 행은 나중에 지워지지만, 권한 캐시/대시보드에서는 지금 빠져야 함
+        List<String> members = enrollmentRepository.findMemberEmailsByClassId(classId);
+        membershipService.invalidateAll(members);
+        if (!members.isEmpty()) eventPublisher.publishEvent(new DashboardEvents.EnrollmentChanged(members));
+        return enqueue(PurgeJob.Target.CLASS, classId);
+    }
+
+    private PurgeJob enqueue(PurgeJob.Target target, Long targetId) {
+        PurgeJob job = new PurgeJob();
+        job.setTarget(target);
+        job.setTargetId(targetId);
+        return purgeJobRepository.save(job);
+    }
+}
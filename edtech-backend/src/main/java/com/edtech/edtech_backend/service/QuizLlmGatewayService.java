@@ -1,26 +1,33 @@
 package com.edtech.edtech_backend.service;
 
+import com.edtech.edtech_backend.config.RequestIdFilter;
 import com.edtech.edtech_backend.dto.LlmQuizDto;
-import com.edtech.edtech_backend.entity.Course;
 import com.edtech.edtech_backend.entity.CourseEngagementAnalytics;
-import com.edtech.edtech_backend.entity.FocusInterval;
-import com.edtech.edtech_backend.entity.Lecture;
+import com.edtech.edtech_backend.observability.FlightEvents;
 import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
-import com.edtech.edtech_backend.repository.CourseRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Value;
 import jakarta.annotation.PostConstruct;
 
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.time.Duration;
 import java.time.Instant;
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.springframework.http.HttpStatus.BAD_REQUEST;
 
@@ -28,35 +35,54 @@ import static org.springframework.http.HttpStatus.BAD_REQUEST;
 @RequiredArgsConstructor
 public class QuizLlmGatewayService {
 
-    private final CourseRepository courseRepo;
+    private final CatalogService catalogService;
     private final CourseEngagementAnalyticsRepository ceaRepo;
     private final WebClient.Builder webClientBuilder;   // ✅ Builder 주입
     private final SubtitleService subtitleService;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
 
     @Value("${llm.base-url:http://127.0.0.1:8082}")
     private String llmBaseUrl;
 
     private WebClient llmWebClient;                     // ✅ 실제 사용 클라이언트
+    private TransactionTemplate readOnlyTx;             // 세션 구간 읽기만 트랜잭션 안에서 (LLM 호출 동안 커넥션을 잡지 않게)
+
+    // LLM 호출 시간 llm.call{outcome=...} : 직접 만든 WebClient.Builder 라서 http.client.requests 는 안 잡힌다
+    private final Map<String, Timer> callTimers = new HashMap<>();
 
     @PostConstruct
     void initClient() {
         this.llmWebClient = webClientBuilder.baseUrl(llmBaseUrl).build();
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        for (String outcome : List.of("success", "client_error", "server_error", "unavailable", "error")) {
+            callTimers.put(outcome, Timer.builder("llm.call")
+                    .tag("operation", "quiz")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(Duration.ofMillis(10))
+                    .maximumExpectedValue(Duration.ofMinutes(2))
+                    .register(meterRegistry));
+        }
     }
 
     public List<LlmQuizDto.QuizItemDto> generateFromIntervals(Long classId, Long courseId, String userId) {
-        Course course = courseRepo.findById(courseId)
-                .orElseThrow(() -> new ResponseStatusException(BAD_REQUEST, "코스를 찾을 수 없습니다."));
-        Lecture lecture = course.getLecture();
-        if (lecture == null) throw new ResponseStatusException(BAD_REQUEST, "이 코스에 연결된 강의(lecture)가 없습니다.");
-
-        CourseEngagementAnalytics cea = ceaRepo
-                .findLatest(classId, courseId, userId)
-                .orElseThrow(() -> new ResponseStatusException(BAD_REQUEST, "집중 안함 구간 세션이 없습니다."));
-        if (cea.getAttentionArr() == null || cea.getAttentionArr().isEmpty()) {
-            throw new ResponseStatusException(BAD_REQUEST, "집중 안함 구간이 없습니다.");
-        }
-
-        String vttPath = lecture.getVttPath();
+        CatalogService.CourseLecture lecture = catalogService.getCourseLecture(courseId);
+        if (lecture.lectureId() == null) throw new ResponseStatusException(BAD_REQUEST, "이 코스에 연결된 강의(lecture)가 없습니다.");
+
+        // open-in-view 가 꺼져 있어서 구간(지연 로딩) 변환까지 트랜잭션 안에서 끝낸다
+        List<LlmQuizDto.IntervalDto> intervals = readOnlyTx.execute(s -> {
+            CourseEngagementAnalytics cea = ceaRepo
+                    .findLatest(classId, courseId, userId)
+                    .orElseThrow(() -> new ResponseStatusException(BAD_REQUEST, "집중 안함 구간 세션이 없습니다."));
+            if (cea.getAttentionArr() == null || cea.getAttentionArr().isEmpty()) {
+                throw new ResponseStatusException(BAD_REQUEST, "집중 안함 구간이 없습니다.");
+            }
+            return toIntervalDtos(cea);
+        });
+
+        String vttPath = lecture.vttPath();
         String vttText = subtitleService.loadVttTextByPath(vttPath);
         if (vttText == null || vttText.isBlank()) {
             throw new ResponseStatusException(BAD_REQUEST, "VTT 자막 파일이 없습니다.");
@@ -65,45 +91,55 @@ public class QuizLlmGatewayService {
         LlmQuizDto.LlmQuizRequest req = new LlmQuizDto.LlmQuizRequest();
         req.setClassId(classId);
         req.setCourseId(courseId);
-        req.setLectureId(lecture.getLectureId());
+        req.setLectureId(lecture.lectureId());
         req.setUserId(userId);
         req.setVttText(vttText);
-        req.setIntervals(toIntervalDtos(cea));
-
-        return llmWebClient.post()
-                .uri("/llm/quiz-from-intervals")
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .bodyValue(req)
-                .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<List<LlmQuizDto.QuizItemDto>>() {})
-                .block();
+        req.setIntervals(intervals);
+
+        var event = new FlightEvents.LlmCall();
+        event.begin();
+        long started = System.nanoTime();
+        String outcome = "error";
+        int status = 0;
+        try {
+            List<LlmQuizDto.QuizItemDto> items = llmWebClient.post()
+                    .uri("/llm/quiz-from-intervals")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .headers(h -> {
+                        String requestId = MDC.get(RequestIdFilter.MDC_KEY); // LLM 서버 로그와 연결
+                        if (requestId != null) h.set(RequestIdFilter.HEADER, requestId);
+                    })
+                    .bodyValue(req)
+                    .retrieve()
+                    .bodyToMono(new ParameterizedTypeReference<List<LlmQuizDto.QuizItemDto>>() {})
+                    .block();
+            outcome = "success";
+            status = 200;
+            return items;
+        } catch (WebClientResponseException e) {
+            outcome = e.getStatusCode().is4xxClientError() ? "client_error" : "server_error";
+            status = e.getStatusCode().value();
+            throw e;
+        } catch (WebClientRequestException e) {
+            outcome = "unavailable";    // 연결 실패/타임아웃
+            throw e;
+        } finally {
+            callTimers.get(outcome).record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = "llm.quiz";
+                event.outcome = outcome;
+                event.status = status;
+                event.intervals = req.getIntervals().size();
+                event.vttChars = vttText.length();
+                event.commit();
+            }
+        }
     }
 
-   private List<LlmQuizDto.IntervalDto> toIntervalDtos(CourseEngagementAnalytics cea) {
-    long base = 0L;
-    if (cea.getStartedAt() != null) {
-        base = cea.getStartedAt().toEpochMilli();
-    }
-    final long baseMs = base;
-
-    return cea.getAttentionArr().stream()
-        .sorted(Comparator.comparing(FocusInterval::getStartAt, Comparator.nullsLast(Comparator.naturalOrder())))
-        .map(fi -> {
-            long sAbs = fi.getStartAt() != null ? fi.getStartAt().toEpochMilli() : baseMs;
-            long eAbs = fi.getEndAt()   != null ? fi.getEndAt().toEpochMilli()   : (sAbs + Math.max(1000L, fi.getDurationSec() * 1000L));
-
-            long s = Math.max(0L, sAbs - baseMs);              // ▶ 세션 시작 기준 상대 ms
-            long e = Math.max(s + 1000L, eAbs - baseMs);
-
-            LlmQuizDto.IntervalDto d = new LlmQuizDto.IntervalDto();
-            d.setStart(s);
-            d.setEnd(e);
-            d.setDurationSec((int)Math.max(1, (e - s) / 1000));
-            d.setAvgScore(fi.getAvgScore());
-            return d;
-        })
-        .collect(Collectors.toList());
+    private List<LlmQuizDto.IntervalDto> toIntervalDtos(CourseEngagementAnalytics cea) {
+        return FocusIntervalMapper.toLlmIntervals(cea.getStartedAt(), cea.getAttentionArr());
     }
 
 }
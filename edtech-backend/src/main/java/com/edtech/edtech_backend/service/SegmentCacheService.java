@@ -0,0 +1,172 @@
+// src/main/java/com/edtech/edtech_backend/service/SegmentCacheService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.service.MediaFileService.MediaFile;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 자주 요청되는 세그먼트를 off-heap(direct) 버퍼로 들고 있는 캐시.
+ * 수업 시작 직후 같은 앞부분 세그먼트를 수백 명이 동시에 받는 상황을 위한 것.
+ * - 처음 요청된 세그먼트는 파일에서 보내고 기억만 해 둔다 (doorkeeper). media.cache.admission-window 안에
+ *   다시 요청되면 그때 백그라운드로 적재 → 한 번만 보는 세그먼트가 direct 메모리를 휘젓지 않게
+ * - Caffeine(W-TinyLFU) : 적재된 것 중 빈도 기반 교체 + media.cache.max-bytes 바이트 예산
+ * - 캐시에 있는(핫) chunk_{rep}_{N}.m4s 요청 시 N+1, N+2 를 백그라운드로 미리 적재
+ * - 적재 전 요청은 캐시 미스라서 media.bytes.served 에는 file/sendfile 로 잡힌다
+ */
+@Service
+public class SegmentCacheService {
+
+    private static final Pattern CHUNK = Pattern.compile("chunk_(\\d+)_(\\d+)\\.m4s");
+
+    private final MediaFileService mediaFileService;
+    private final boolean enabled;
+    private final long maxSegmentBytes;
+    private final int prefetchCount;
+    private final Cache<Path, CachedSegment> cache;
+    private final Cache<Path, Boolean> seenOnce;
+    private final ThreadPoolExecutor prefetchExecutor;
+    private final Counter servedFromCache;
+    private final Counter servedFromFile;
+    private final Counter servedBySendfile;
+
+    public SegmentCacheService(MediaFileService mediaFileService,
+                               MeterRegistry meterRegistry,
+                               @Value("${media.cache.enabled:true}") boolean enabled,
+                               @Value("${media.cache.max-bytes:268435456}") long maxBytes,
+                               @Value("${media.cache.max-segment-bytes:16777216}") long maxSegmentBytes,
+                               @Value("${media.cache.prefetch-count:2}") int prefetchCount,
+                               @Value("${media.cache.admission-window:PT10M}") Duration admissionWindow) {
+        this.mediaFileService = mediaFileService;
+        this.enabled = enabled;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.prefetchCount = prefetchCount;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Path p, CachedSegment s) -> (int) Math.min(Integer.MAX_VALUE, s.length()))
+                .recordStats()
+                .build();
+        this.seenOnce = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(admissionWindow)
+                .build();
+
+        // 프리페치는 최선 노력: 큐가 차면 그냥 버림
+        this.prefetchExecutor = new ThreadPoolExecutor(2, 2, 30, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(64), r -> {
+                    Thread t = new Thread(r, "segment-prefetch");
+                    t.setDaemon(true);
+                    return t;
+                }, new ThreadPoolExecutor.DiscardPolicy());
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "media.segments");
+        Gauge.builder("media.segments.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Hit ratio of the hot-segment cache")
+                .register(meterRegistry);
+        this.servedFromCache = Counter.builder("media.bytes.served").tag("source", "cache")
+                .baseUnit("bytes").register(meterRegistry);
+        this.servedFromFile = Counter.builder("media.bytes.served").tag("source", "file")
+                .baseUnit("bytes").register(meterRegistry);
+        this.servedBySendfile = Counter.builder("media.bytes.served").tag("source", "sendfile")
+                .baseUnit("bytes").register(meterRegistry);
+    }
+
+    /** 캐시에 있으면 버퍼 (다음 세그먼트 프리페치도 같이 건다). 없으면 빈 값 — 두 번째 요청부터 적재를 건다 */
+    public Optional<ByteBuffer> get(MediaFile file) {
+        if (!isCacheable(file)) return Optional.empty();
+        CachedSegment cached = cache.getIfPresent(file.path());
+        if (cached != null && cached.length() == file.length() && cached.lastModified() == file.lastModified()) {
+            prefetchFollowing(file.path());
+            return Optional.of(cached.buffer().duplicate());
+        }
+        if (cached != null) {
+            // 파일이 교체됨 → 이미 핫한 세그먼트라 바로 다시 적재
+            cache.invalidate(file.path());
+            admit(file);
+        } else if (seenOnce.asMap().remove(file.path()) != null) {
+            admit(file);
+            prefetchFollowing(file.path());
+        } else {
+            seenOnce.put(file.path(), Boolean.TRUE);
+        }
+        return Optional.empty();
+    }
+
+    public void recordServed(Source source, long bytes) {
+        switch (source) {
+            case CACHE -> servedFromCache.increment(bytes);
+            case FILE -> servedFromFile.increment(bytes);
+            case SENDFILE -> servedBySendfile.increment(bytes);
+        }
+    }
+
+    /** media.bytes.served 의 source 태그: 메모리 버퍼 / FileChannel 복사 / Tomcat sendfile */
+    public enum Source { CACHE, FILE, SENDFILE }
+
+    private boolean isCacheable(MediaFile file) {
+        return enabled && file.immutable() && file.length() <= maxSegmentBytes;
+    }
+
+    private void admit(MediaFile file) {
+        prefetchExecutor.execute(() -> load(file));
+    }
+
+    private void load(MediaFile file) {
+        if (cache.getIfPresent(file.path()) == null) cache.put(file.path(), read(file));
+    }
+
+    private void prefetchFollowing(Path path) {
+        if (prefetchCount <= 0) return;
+        Matcher m = CHUNK.matcher(path.getFileName().toString());
+        if (!m.matches()) return;
+        String rep = m.group(1);
+        long number = Long.parseLong(m.group(2));
+        Path dir = mediaFileService.getRoot().relativize(path.getParent());
+
+        for (int i = 1; i <= prefetchCount; i++) {
+            String next = dir.resolve("chunk_" + rep + "_" + (number + i) + ".m4s").toString();
+            prefetchExecutor.execute(() -> mediaFileService.resolve(next)
+                    .filter(this::isCacheable)
+                    .ifPresent(this::load));
+        }
+    }
+
+    private static CachedSegment read(MediaFile file) {
+        try (FileChannel ch = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocateDirect((int) file.length());
+            while (buf.hasRemaining() && ch.read(buf) >= 0) { /* 끝까지 읽기 */ }
+            buf.flip();
+            return new CachedSegment(buf.asReadOnlyBuffer(), file.length(), file.lastModified());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+
+    private record CachedSegment(ByteBuffer buffer, long length, long lastModified) {}
+}
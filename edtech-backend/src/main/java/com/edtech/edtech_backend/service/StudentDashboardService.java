@@ -0,0 +1,141 @@
+// src/main/java/com/edtech/edtech_backend/service/StudentDashboardService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.dto.StudentDashboardDto;
+import com.edtech.edtech_backend.dto.StudentDashboardDto.ClassItem;
+import com.edtech.edtech_backend.dto.StudentDashboardDto.CourseItem;
+import com.edtech.edtech_backend.dto.StudentDashboardDto.FocusSummary;
+import com.edtech.edtech_backend.entity.Enrollment;
+import com.edtech.edtech_backend.entity.StudentDashboard;
+import com.edtech.edtech_backend.entity.User;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository.LatestSessionSummary;
+import com.edtech.edtech_backend.repository.CourseRepository;
+import com.edtech.edtech_backend.repository.CourseRepository.DashboardCourseRow;
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import com.edtech.edtech_backend.repository.EnrollmentRepository.DashboardClassRow;
+import com.edtech.edtech_backend.repository.StudentDashboardRepository;
+import com.edtech.edtech_backend.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.springframework.http.HttpStatus.UNAUTHORIZED;
+
+/**
+ * 학생 대시보드 읽기 모델 (student_dashboard, 사용자당 JSON 한 행).
+ * - 읽기: email 유니크 인덱스로 한 행 → 저장된 JSON 그대로 응답
+ * - 쓰기: 수강/코스/집중 세션 이벤트 때 StudentDashboardUpdater 가 rebuildIfPresent 호출
+ * - 행이 없으면(처음 보는 사용자) 첫 조회 때 만든다. 한 번도 안 본 사용자 행은 미리 만들지 않음
+ */
+@Service
+@RequiredArgsConstructor
+public class StudentDashboardService {
+
+    // payload 모양(StudentDashboardDto)을 바꾸면 올린다 → 옛 행은 다음 조회 때 다시 생성
+    static final int SCHEMA_VERSION = 1;
+
+    private final UserRepository userRepository;
+    private final EnrollmentRepository enrollmentRepository;
+    private final CourseRepository courseRepository;
+    private final CourseEngagementAnalyticsRepository analyticsRepository;
+    private final StudentDashboardRepository dashboardRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional
+    public StudentDashboard get(String email) {
+        return dashboardRepository.findByEmail(email)
+                .filter(d -> d.getSchemaVersion() == SCHEMA_VERSION)
+                .orElseGet(() -> {
+                    User user = userRepository.findByEmail(email)
+                            .orElseThrow(() -> new ResponseStatusException(UNAUTHORIZED));
+                    return rebuild(user);
+                });
+    }
+
+    /** 이미 대시보드 행이 있는 사용자만 다시 만든다 (이벤트 처리용) */
+    @Transactional
+    public boolean rebuildIfPresent(String email) {
+        if (dashboardRepository.findByEmail(email).isEmpty()) return false;
+        userRepository.findByEmail(email).ifPresentOrElse(this::rebuild,
+                () -> dashboardRepository.findByEmail(email).ifPresent(dashboardRepository::delete));
+        return true;
+    }
+
+    private StudentDashboard rebuild(User user) {
+        StudentDashboardDto dto = build(user);
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        StudentDashboard d = dashboardRepository.findById(user.getUserId()).orElseGet(() -> {
+            StudentDashboard created = new StudentDashboard();
+            created.setUserId(user.getUserId());
+            return created;
+        });
+        d.setEmail(user.getEmail());
+        d.setPayload(json);
+        d.setSchemaVersion(SCHEMA_VERSION);
+        d.setUpdatedAt(dto.updatedAt());
+        return dashboardRepository.saveAndFlush(d);
+    }
+
+    /** 쿼리 3번: 수강 클래스 → 그 클래스들의 코스(+강의) → 코스별 최근 세션 요약 */
+    StudentDashboardDto build(User user) {
+        List<DashboardClassRow> classRows = enrollmentRepository.findDashboardClasses(user.getUserId());
+        List<Long> approved = classRows.stream()
+                .filter(r -> r.getStatus() == Enrollment.Status.APPROVED)
+                .map(DashboardClassRow::getClassId)
+                .toList();
+
+        Map<Long, List<DashboardCourseRow>> coursesByClass = Map.of();
+        Map<String, LatestSessionSummary> latest = new HashMap<>();
+        if (!approved.isEmpty()) {
+            coursesByClass = courseRepository.findDashboardRows(approved).stream()
+                    .collect(Collectors.groupingBy(DashboardCourseRow::getClassId));
+            for (LatestSessionSummary s : analyticsRepository.findLatestSummaries(user.getEmail())) {
+                // createdAt 이 같은 세션이 둘이면 id 가 큰 쪽
+                latest.merge(key(s.getClassId(), s.getCourseId()), s,
+                        (a, b) -> a.getSessionId() >= b.getSessionId() ? a : b);
+            }
+        }
+
+        List<ClassItem> classes = new ArrayList<>(classRows.size());
+        for (DashboardClassRow r : classRows) {
+            List<CourseItem> courses = new ArrayList<>();
+            for (DashboardCourseRow c : coursesByClass.getOrDefault(r.getClassId(), List.of())) {
+                LatestSessionSummary s = latest.get(key(r.getClassId(), c.getCourseId()));
+                FocusSummary focus = s == null ? null : new FocusSummary(
+                        s.getSessionId(), s.getStartedAt(), s.getTotalDurationSec(),
+                        s.getIntervalCount() == null ? 0 : s.getIntervalCount().intValue(),
+                        s.getUnfocusedSec() == null ? null : s.getUnfocusedSec().intValue(),
+                        s.getAvgScore());
+                boolean quizAvailable = c.getVttPath() != null && !c.getVttPath().isBlank()
+                        && focus != null && focus.intervalCount() > 0;
+                courses.add(new CourseItem(c.getCourseId(), c.getTitle(), c.getLectureId(), focus, quizAvailable));
+            }
+            classes.add(new ClassItem(r.getClassId(), r.getTitle(), r.getTag(), r.getStatus().name(), courses));
+        }
+
+        return new StudentDashboardDto(user.getUserId(), user.getName(), user.getEmail(),
+                user.getRole().name(), classes, Instant.now());
+    }
+
+    private static String key(Long classId, Long courseId) {
+        return classId + ":" + courseId;
+    }
+}
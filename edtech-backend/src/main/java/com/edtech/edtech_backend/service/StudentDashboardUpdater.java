@@ -0,0 +1,65 @@
+// src/main/java/com/edtech/edtech_backend/service/StudentDashboardUpdater.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.config.AsyncConfig;
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+
+/**
+ * DashboardEvents → 대시보드 읽기 모델 갱신.
+ * 커밋 이후(트랜잭션 밖에서 발행되면 즉시) dashboardExecutor 에서 처리하므로 요청 응답 시간에는 영향 없음.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StudentDashboardUpdater {
+
+    private final StudentDashboardService dashboardService;
+    private final EnrollmentRepository enrollmentRepository;
+
+    @Async(AsyncConfig.DASHBOARD_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnrollmentChanged(DashboardEvents.EnrollmentChanged event) {
+        refresh(event.emails());
+    }
+
+    @Async(AsyncConfig.DASHBOARD_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCoursesChanged(DashboardEvents.CoursesChanged event) {
+        refresh(enrollmentRepository.findMemberEmailsByClassId(event.classId()));
+    }
+
+    @Async(AsyncConfig.DASHBOARD_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFocusSessionSaved(DashboardEvents.FocusSessionSaved event) {
+        refresh(event.email());
+    }
+
+    private void refresh(Collection<String> emails) {
+        int rebuilt = 0;
+        for (String email : emails) {
+            if (refresh(email)) rebuilt++;
+        }
+        log.debug("dashboard refreshed: {} of {} users", rebuilt, emails.size());
+    }
+
+    private boolean refresh(String email) {
+        if (email == null) return false;
+        try {
+            return dashboardService.rebuildIfPresent(email);
+        } catch (ConcurrencyFailureException race) {
+            // 첫 조회 쪽에서 동시에 만들거나 고친 경우 → 최신 상태로 한 번 더
+            return dashboardService.rebuildIfPresent(email);
+        } catch (RuntimeException e) {
+            log.warn("dashboard rebuild failed for {}", email, e);
+            return false;
+        }
+    }
+}
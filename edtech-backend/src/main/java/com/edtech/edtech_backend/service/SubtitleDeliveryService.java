@@ -0,0 +1,145 @@
+// src/main/java/com/edtech/edtech_backend/service/SubtitleDeliveryService.java
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.observability.FlightEvents;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+/**
+ * 강의 자막(VTT) 전달용 캐시.
+ * lectureId → (경로, ETag, Last-Modified, 원본/gzip 바이트) 를 들고 있어서
+ * 캐시 히트면 DB 를 타지 않고 304 또는 미리 압축된 본문을 바로 돌려줄 수 있다.
+ * subtitle.recheck-ms 간격으로 강의 → 경로(CatalogService 캐시)와 파일 lastModified 를 다시 확인해서
+ * 강의의 vttPath 가 바뀌거나 파일이 바뀌면 새로 읽는다.
+ */
+@Service
+public class SubtitleDeliveryService {
+
+    private final CatalogService catalogService;
+    private final SubtitleService subtitleService;
+    private final long recheckMs;
+    private final Cache<Long, SubtitleAsset> cache;
+    private final Timer loadTimer;
+
+    public SubtitleDeliveryService(CatalogService catalogService,
+                                   SubtitleService subtitleService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${subtitle.recheck-ms:5000}") long recheckMs,
+                                   @Value("${subtitle.cache-size:1000}") long cacheSize) {
+        this.catalogService = catalogService;
+        this.subtitleService = subtitleService;
+        this.recheckMs = recheckMs;
+        this.cache = Caffeine.newBuilder().maximumSize(cacheSize).build();
+        this.loadTimer = SubtitleService.loadTimer(meterRegistry, "asset");
+    }
+
+    public SubtitleAsset get(Long lectureId) {
+        SubtitleAsset asset = cache.getIfPresent(lectureId);
+        if (asset == null) {
+            asset = load(lectureId, findVttPath(lectureId));
+            cache.put(lectureId, asset);
+            return asset;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - asset.checkedAt() < recheckMs) return asset;
+
+        // 경로는 강의 캐시에서 다시 확인 (DB 는 강의 캐시 미스일 때만). 강의가 지워졌거나 자막이 빠졌으면 404
+        String vttPath;
+        try {
+            vttPath = findVttPath(lectureId);
+        } catch (ResponseStatusException e) {
+            cache.invalidate(lectureId);
+            throw e;
+        }
+        SubtitleAsset refreshed = vttPath.equals(asset.vttPath())
+                && lastModifiedOf(asset.resource()) == asset.lastModified()
+                ? asset.checkedAt(now)
+                : load(lectureId, vttPath);
+        cache.put(lectureId, refreshed);
+        return refreshed;
+    }
+
+    private String findVttPath(Long lectureId) {
+        String vttPath = catalogService.getLecture(lectureId).getVttUrl(); // 캐시된 강의 정보 (없으면 404)
+        if (vttPath == null || vttPath.isBlank()) {
+            throw new ResponseStatusException(NOT_FOUND, "자막 파일 없음");
+        }
+        return vttPath;
+    }
+
+    private SubtitleAsset load(Long lectureId, String vttPath) {
+        Resource resource = subtitleService.resolveResource(vttPath);
+        if (!resource.exists()) {
+            cache.invalidate(lectureId);
+            throw new ResponseStatusException(NOT_FOUND, "자막 파일 없음");
+        }
+        var event = new FlightEvents.SubtitleLoad();
+        event.begin();
+        long started = System.nanoTime();
+        long bytes = -1;
+        try (InputStream in = resource.getInputStream()) {
+            byte[] identity = in.readAllBytes();
+            bytes = identity.length;
+            byte[] gzip = gzip(identity);
+            String hash = DigestUtils.md5DigestAsHex(identity);
+            return new SubtitleAsset(vttPath, resource, lastModifiedOf(resource),
+                    identity, "\"" + hash + "\"",
+                    gzip, "\"" + hash + "-gz\"",
+                    System.currentTimeMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            loadTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = "subtitle.asset";
+                event.outcome = bytes < 0 ? "error" : "success";
+                event.path = vttPath;
+                event.bytes = Math.max(0, bytes);
+                event.commit();
+            }
+        }
+    }
+
+    private static long lastModifiedOf(Resource resource) {
+        try {
+            return resource.lastModified();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    public record SubtitleAsset(String vttPath, Resource resource, long lastModified,
+                                byte[] identity, String etag,
+                                byte[] gzip, String gzipEtag,
+                                long checkedAt) {
+        SubtitleAsset checkedAt(long when) {
+            return new SubtitleAsset(vttPath, resource, lastModified, identity, etag, gzip, gzipEtag, when);
+        }
+    }
+}
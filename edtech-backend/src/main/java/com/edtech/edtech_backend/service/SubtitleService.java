@@ -1,7 +1,10 @@
 // src/main/java/com/edtech/edtech_backend/service/SubtitleService.java
 package com.edtech.edtech_backend.service;
 
-import lombok.RequiredArgsConstructor;
+import com.edtech.edtech_backend.observability.FlightEvents;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Service;
@@ -9,15 +12,49 @@ import org.springframework.stereotype.Service;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 
 @Service
-@RequiredArgsConstructor
 public class SubtitleService {
 
     private final ResourceLoader resourceLoader;
+    private final Timer loadTimer;
+
+    public SubtitleService(ResourceLoader resourceLoader, MeterRegistry meterRegistry) {
+        this.resourceLoader = resourceLoader;
+        this.loadTimer = loadTimer(meterRegistry, "text");
+    }
+
+    /** 자막 읽기 시간: subtitle.load{kind=text} (퀴즈 생성), {kind=asset} 은 SubtitleDeliveryService */
+    static Timer loadTimer(MeterRegistry registry, String kind) {
+        return Timer.builder("subtitle.load")
+                .tag("kind", kind)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofSeconds(2))
+                .register(registry);
+    }
 
     public String loadVttTextByPath(String path) {
         if (path == null || path.isBlank()) return null;
+        var event = new FlightEvents.SubtitleLoad();
+        event.begin();
+        String text = null;
+        try {
+            text = loadTimer.record(() -> readVttText(path));
+            return text;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = "subtitle.text";
+                event.outcome = text == null ? "error" : "success";
+                event.path = path;
+                event.bytes = text == null ? 0 : text.length();
+                event.commit();
+            }
+        }
+    }
+
+    private String readVttText(String path) {
 
         // 1) 절대 파일 경로면 파일로 시도 (C:\..., /var/..., 등)
         try {
@@ -28,11 +65,8 @@ public class SubtitleService {
         } catch (Exception ignore) {}
 
         // 2) 리소스 로더로 시도
-        // - DB에 'classpath:static/vtt/h265_1920.vtt' 저장해도 됨
-        // - '/vtt/h265_1920.vtt' 또는 'vtt/h265_1920.vtt'도 지원
-        String cp = toClasspath(path);
         try {
-            Resource r = resourceLoader.getResource(cp);
+            Resource r = resolveResource(path);
             if (r.exists()) {
                 try (var in = r.getInputStream()) {
                     return new String(in.readAllBytes(), StandardCharsets.UTF_8);
@@ -45,6 +79,19 @@ public class SubtitleService {
         throw new RuntimeException("Failed to load VTT: " + path);
     }
 
+    /**
+     * DB 에 저장된 자막 경로를 리소스로 변환.
+     * - DB에 'classpath:static/vtt/h265_1920.vtt' 저장해도 됨
+     * - '/vtt/h265_1920.vtt' 또는 'vtt/h265_1920.vtt'도 지원
+     */
+    public Resource resolveResource(String path) {
+        try {
+            Path p = Path.of(path);
+            if (p.isAbsolute() && Files.exists(p)) return new FileSystemResource(p);
+        } catch (Exception ignore) {}
+        return resourceLoader.getResource(toClasspath(path));
+    }
+
     public boolean exists(String path) {
         if (path == null || path.isBlank()) return false;
         try {
@@ -0,0 +1,97 @@
+// src/main/java/com/edtech/edtech_backend/service/TimelineDownsampler.java
+package com.edtech.edtech_backend.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * 차트용 시계열 다운샘플링 (LTTB: Largest-Triangle-Three-Buckets).
+ * 버킷마다 이전 선택점·다음 버킷 평균과 만드는 삼각형 넓이가 가장 큰 점 하나를 고른다
+ * → 첫/끝 점과 급격한 오르내림(집중도 급락 구간)이 남아서 모양이 유지된다.
+ * 좌표는 long[]/double[] 로만 계산하고, 원본 항목은 고른 인덱스로 그대로 돌려준다.
+ */
+public final class TimelineDownsampler {
+
+    // 3 미만이면 첫/끝 점만으로는 모양이 안 나와서 최소 3
+    public static final int MIN_POINTS = 3;
+
+    private TimelineDownsampler() {
+    }
+
+    /** items 가 maxPoints 보다 많으면 LTTB 로 고른 항목만 (순서 유지), 아니면 그대로 */
+    public static <T> List<T> downsample(List<T> items, ToLongFunction<T> x, ToDoubleFunction<T> y, int maxPoints) {
+        int n = items.size();
+        int threshold = Math.max(MIN_POINTS, maxPoints);
+        if (n <= threshold) return items;
+
+        long[] xs = new long[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            T item = items.get(i);
+            xs[i] = x.applyAsLong(item);
+            double v = y.applyAsDouble(item);
+            ys[i] = Double.isNaN(v) ? 0.0 : v;
+        }
+
+        int[] picked = lttb(xs, ys, threshold);
+        List<T> out = new ArrayList<>(picked.length);
+        for (int idx : picked) out.add(items.get(idx));
+        return out;
+    }
+
+    /** 고른 점의 인덱스 (오름차순, 첫/끝 포함, 길이 = min(n, threshold)) */
+    public static int[] lttb(long[] x, double[] y, int threshold) {
+        int n = x.length;
+        if (threshold >= n || threshold < MIN_POINTS) {
+            int[] all = new int[n];
+            for (int i = 0; i < n; i++) all[i] = i;
+            return all;
+        }
+
+        int[] picked = new int[threshold];
+        int count = 0;
+        picked[count++] = 0;
+
+        // epoch ms 그대로 곱하면 값이 커지므로 첫 점 기준 상대값으로
+        long origin = x[0];
+        double every = (double) (n - 2) / (threshold - 2);
+        int a = 0;
+
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            // 다음 버킷 평균점
+            int avgStart = (int) Math.floor((bucket + 1) * every) + 1;
+            int avgEnd = Math.min((int) Math.floor((bucket + 2) * every) + 1, n);
+            double avgX = 0;
+            double avgY = 0;
+            for (int i = avgStart; i < avgEnd; i++) {
+                avgX += x[i] - origin;
+                avgY += y[i];
+            }
+            int avgLen = avgEnd - avgStart;
+            avgX /= avgLen;
+            avgY /= avgLen;
+
+            // 현재 버킷에서 (a, 후보, 다음 평균) 삼각형이 가장 큰 점
+            int from = (int) Math.floor(bucket * every) + 1;
+            int to = (int) Math.floor((bucket + 1) * every) + 1;
+            double ax = x[a] - origin;
+            double ay = y[a];
+            double maxArea = -1;
+            int next = from;
+            for (int i = from; i < to; i++) {
+                double area = Math.abs((ax - avgX) * (y[i] - ay) - (ax - (x[i] - origin)) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next = i;
+                }
+            }
+            picked[count++] = next;
+            a = next;
+        }
+
+        picked[count] = n - 1;
+        return picked;
+    }
+}
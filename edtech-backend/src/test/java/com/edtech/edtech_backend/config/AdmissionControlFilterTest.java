@@ -0,0 +1,136 @@
+package com.edtech.edtech_backend.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 필터 단위: 그룹 한도 → 503, 클라이언트 한도 → 429 (둘 다 Retry-After + CORS 헤더),
+ * 비동기 요청은 끝날 때 자리 반납, preflight 는 세지 않음.
+ * 체인에서 startAsync 만 하고 끝내지 않으면 그 요청이 자리를 계속 차지한다.
+ */
+class AdmissionControlFilterTest {
+
+    private static final String ORIGIN = "http://localhost:3000";
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdmissionControlFilter filter = new AdmissionControlFilter(new MockEnvironment()
+            .withProperty("admission.groups.single.paths", "/api/single/**")
+            .withProperty("admission.groups.single.initial-limit", "1")
+            .withProperty("admission.groups.single.min-limit", "1")
+            .withProperty("admission.groups.single.max-limit", "1")
+            .withProperty("admission.groups.single.retry-after", "PT2.5S")
+            .withProperty("admission.groups.client.paths", "/api/client/**")
+            .withProperty("admission.groups.client.per-client-limit", "1")
+            .withProperty("admission.groups.client.retry-after", "PT5S"),
+            registry, cors());
+
+    @Test
+    void groupLimitSheds503WithRetryAfterAndReleasesOnAsyncCompletion() throws Exception {
+        MockHttpServletRequest held = request("GET", "/api/single/a");
+        assertEquals(200, run(held, asyncChain()).getStatus());
+        assertEquals(1.0, inflight("single"));
+
+        MockHttpServletResponse shed = run(request("GET", "/api/single/b"), new MockFilterChain());
+        assertEquals(503, shed.getStatus());
+        assertEquals("3", shed.getHeader(HttpHeaders.RETRY_AFTER));              // 2.5s → 올림
+        assertEquals(ORIGIN, shed.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertEquals(1.0, count("single", "shed"));
+
+        // 비동기 응답이 끝나야 자리가 빈다
+        held.getAsyncContext().complete();
+        assertEquals(0.0, inflight("single"));
+        assertEquals(200, run(request("GET", "/api/single/c"), new MockFilterChain()).getStatus());
+        assertEquals(0.0, inflight("single"));
+    }
+
+    @Test
+    void perClientLimitThrottles429() throws Exception {
+        MockHttpServletRequest held = request("POST", "/api/client/x");
+        held.addHeader(HttpHeaders.AUTHORIZATION, "Bearer a");
+        run(held, asyncChain());
+
+        MockHttpServletRequest again = request("POST", "/api/client/y");
+        again.addHeader(HttpHeaders.AUTHORIZATION, "Bearer a");
+        MockHttpServletResponse throttled = run(again, new MockFilterChain());
+        assertEquals(429, throttled.getStatus());
+        assertEquals("5", throttled.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(ORIGIN, throttled.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN));
+        assertEquals(List.of(HttpHeaders.RETRY_AFTER), throttled.getHeaders(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS));
+
+        // 다른 클라이언트는 그대로
+        MockHttpServletRequest other = request("POST", "/api/client/z");
+        other.addHeader(HttpHeaders.AUTHORIZATION, "Bearer b");
+        assertEquals(200, run(other, new MockFilterChain()).getStatus());
+
+        held.getAsyncContext().complete();
+        assertEquals(200, run(again, new MockFilterChain()).getStatus());
+    }
+
+    @Test
+    void preflightIsNotCountedOrRejected() throws Exception {
+        run(request("GET", "/api/single/a"), asyncChain());                       // 한도 1 을 채워 둠
+
+        MockHttpServletRequest preflight = request("OPTIONS", "/api/single/b");
+        preflight.addHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD, "GET");
+        assertEquals(200, run(preflight, new MockFilterChain()).getStatus());
+        assertEquals(1.0, inflight("single"));
+    }
+
+    @Test
+    void requestsOutsideGroupsPassThrough() throws Exception {
+        run(request("GET", "/api/single/a"), asyncChain());                       // 그룹이 꽉 차 있어도
+        assertEquals(200, run(request("GET", "/actuator/health"), new MockFilterChain()).getStatus());
+    }
+
+    private MockHttpServletResponse run(MockHttpServletRequest req, FilterChain chain) throws ServletException, IOException {
+        MockHttpServletResponse res = new MockHttpServletResponse();
+        filter.doFilter(req, res, chain);
+        return res;
+    }
+
+    /** 컨트롤러가 CompletableFuture 를 돌려준 것처럼 비동기만 시작하고 반환 */
+    private static FilterChain asyncChain() {
+        return (req, res) -> req.startAsync(req, res);
+    }
+
+    private static MockHttpServletRequest request(String method, String uri) {
+        MockHttpServletRequest req = new MockHttpServletRequest(method, uri);
+        req.addHeader(HttpHeaders.ORIGIN, ORIGIN);
+        req.setAsyncSupported(true);
+        return req;
+    }
+
+    private double inflight(String group) {
+        return registry.get("admission.inflight").tag("group", group).gauge().value();
+    }
+
+    private double count(String group, String outcome) {
+        return registry.get("admission.requests").tag("group", group).tag("outcome", outcome)
+                .counters().stream().mapToDouble(c -> c.count()).sum();
+    }
+
+    private static UrlBasedCorsConfigurationSource cors() {
+        CorsConfiguration conf = new CorsConfiguration();
+        conf.setAllowedOrigins(List.of(ORIGIN));
+        conf.setAllowedMethods(List.of("GET", "POST", "OPTIONS"));
+        conf.setExposedHeaders(List.of(HttpHeaders.RETRY_AFTER));
+        conf.setAllowCredentials(true);
+        UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
+        source.registerCorsConfiguration("/**", conf);
+        return source;
+    }
+}
@@ -0,0 +1,61 @@
+package com.edtech.edtech_backend.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 지연이 늘면 한도가 줄고, 평소 지연으로 꽉 차게 쓰면 늘어나는지 + 우선순위별 몫 */
+class GradientLimiterTest {
+
+    private static final long MS = 1_000_000;
+
+    @Test
+    void shrinksWhenLatencyRisesAndGrowsWhenSaturatedAtBaseline() {
+        GradientLimiter limiter = new GradientLimiter(20, 2, 100, 1.5);
+        runSaturated(limiter, 200, 10 * MS);
+        int atBaseline = limiter.limit();
+        assertTrue(atBaseline > 20, "limit should grow while latency stays at baseline: " + atBaseline);
+
+        runSaturated(limiter, 100, 60 * MS);
+        int congested = limiter.limit();
+        assertTrue(congested < atBaseline / 2, "limit should shrink under 6x latency: " + congested);
+
+        runSaturated(limiter, 300, 10 * MS);
+        assertTrue(limiter.limit() > congested, "limit should recover after latency drops: " + limiter.limit());
+    }
+
+    @Test
+    void doesNotGrowWhenUnderused() {
+        GradientLimiter limiter = new GradientLimiter(20, 2, 100, 1.5);
+        for (int i = 0; i < 500; i++) {
+            assertTrue(limiter.tryAcquire(GradientLimiter.Priority.NORMAL));
+            limiter.onComplete(5 * MS);
+        }
+        assertEquals(20, limiter.limit());
+    }
+
+    @Test
+    void bulkIsShedBeforeInteractive() {
+        GradientLimiter limiter = new GradientLimiter(10, 2, 100, 1.5);
+        for (int i = 0; i < 6; i++) assertTrue(limiter.tryAcquire(GradientLimiter.Priority.BULK));
+        assertFalse(limiter.tryAcquire(GradientLimiter.Priority.BULK));
+        for (int i = 0; i < 3; i++) assertTrue(limiter.tryAcquire(GradientLimiter.Priority.NORMAL));
+        assertFalse(limiter.tryAcquire(GradientLimiter.Priority.NORMAL));
+        assertTrue(limiter.tryAcquire(GradientLimiter.Priority.INTERACTIVE));
+        assertFalse(limiter.tryAcquire(GradientLimiter.Priority.INTERACTIVE));
+        assertEquals(10, limiter.inflight());
+    }
+
+    /** 한도만큼 채운 뒤 하나 끝날 때마다 하나 더 받는 식으로 rounds 번 */
+    private static void runSaturated(GradientLimiter limiter, int rounds, long rtt) {
+        for (int i = 0; i < rounds; i++) {
+            while (limiter.tryAcquire(GradientLimiter.Priority.INTERACTIVE)) {
+                // 한도까지 채움
+            }
+            limiter.onComplete(rtt);
+        }
+        while (limiter.inflight() > 0) limiter.onComplete(rtt);
+    }
+}
@@ -0,0 +1,150 @@
+package com.edtech.edtech_backend.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.FilterReply;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 규칙 매칭(가장 긴 접두사, 점 경계), WARN/ERROR 는 샘플링 안 함, 초당 창, 초가 바뀌는 순간 여러 스레드가 몰려도 상한 유지 */
+class LogSamplingFilterTest {
+
+    private final List<LogSamplingFilter.Rule> savedRules = new ArrayList<>();
+
+    // start() 가 static RULES 를 바꾸므로 같은 JVM 의 스프링 컨텍스트(LoggingMetrics)를 위해 되돌려 둔다
+    @BeforeEach
+    void saveRules() {
+        savedRules.addAll(LogSamplingFilter.RULES);
+    }
+
+    @AfterEach
+    void restoreRules() {
+        LogSamplingFilter.RULES.clear();
+        LogSamplingFilter.RULES.addAll(savedRules);
+    }
+
+    @Test
+    void longestPrefixWinsOnDotBoundary() {
+        LogSamplingFilter filter = filter("edtech sample=0", "edtech.access sample=1.0");
+
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("edtech.access", Level.INFO)));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("edtech.access.slow", Level.INFO)));
+        // edtech.accessor 는 edtech.access 의 하위가 아니다 → edtech 규칙
+        assertEquals(FilterReply.DENY, filter.decide(event("edtech.accessor", Level.INFO)));
+        assertEquals(FilterReply.DENY, filter.decide(event("edtech", Level.INFO)));
+        assertEquals(FilterReply.DENY, filter.decide(event("edtech.service.X", Level.DEBUG)));
+        // 규칙 없음
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("edtechx", Level.INFO)));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(event("org.hibernate.SQL", Level.DEBUG)));
+    }
+
+    @Test
+    void samplingNeverDropsWarnOrError() {
+        LogSamplingFilter filter = filter("noisy sample=0");
+        for (int i = 0; i < 100; i++) {
+            assertEquals(FilterReply.DENY, filter.decide(event("noisy", Level.INFO)));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(event("noisy", Level.WARN)));
+            assertEquals(FilterReply.NEUTRAL, filter.decide(event("noisy", Level.ERROR)));
+        }
+        assertEquals(100, LogSamplingFilter.RULES.get(0).sampledOut.get());
+    }
+
+    @Test
+    void errorIsNotRateLimited() {
+        LogSamplingFilter filter = filter("noisy rate=1");
+        // 실제 시계를 쓰므로 초가 넘어가도 결국 상한에 걸릴 때까지 WARN 을 보낸다
+        boolean limited = false;
+        for (int i = 0; i < 10_000 && !limited; i++) {
+            limited = filter.decide(event("noisy", Level.WARN)) == FilterReply.DENY;
+        }
+        assertTrue(limited);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(FilterReply.NEUTRAL, filter.decide(event("noisy", Level.ERROR)));
+        }
+    }
+
+    @Test
+    void ratePerSecondWindow() {
+        LogSamplingFilter.Rule rule = new LogSamplingFilter.Rule("r", 1.0, 3);
+        for (int i = 0; i < 3; i++) assertTrue(rule.allow(Level.INFO, 5_000 + i));
+        assertFalse(rule.allow(Level.INFO, 5_500));
+        assertFalse(rule.allow(Level.WARN, 5_999));
+        assertEquals(2, rule.rateLimited.get());
+
+        // 다음 초에 새 창
+        assertTrue(rule.allow(Level.INFO, 6_000));
+        // 늦게 도착한 이전 초 이벤트는 창을 되돌리지 않고 현재 창에 센다
+        assertTrue(rule.allow(Level.INFO, 5_999));
+        assertTrue(rule.allow(Level.INFO, 6_001));
+        assertFalse(rule.allow(Level.INFO, 6_002));
+        assertFalse(rule.allow(Level.INFO, 5_998));
+        assertEquals(4, rule.rateLimited.get());
+    }
+
+    /**
+     * 매 초 경계마다 스레드들이 동시에 들어온다 (절반은 새 초, 절반은 늦게 온 이전 초 시각).
+     * 창 리셋과 카운트가 따로 놀면 리셋이 다른 스레드의 카운트를 지워 상한보다 더 통과한다.
+     */
+    @Test
+    void windowResetKeepsTheCapUnderContention() throws Exception {
+        int rate = 5;
+        int threads = 4;
+        int perThread = 4;
+        int seconds = 500;
+        LogSamplingFilter.Rule rule = new LogSamplingFilter.Rule("r", 1.0, rate);
+        for (int i = 0; i < rate; i++) rule.allow(Level.INFO, 0);     // 0초 창은 이미 가득
+
+        AtomicInteger allowed = new AtomicInteger();
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            boolean late = t % 2 == 1;
+            Thread worker = new Thread(() -> {
+                try {
+                    for (int s = 1; s <= seconds; s++) {
+                        barrier.await(10, TimeUnit.SECONDS);
+                        long now = late ? s * 1000L - 1 : s * 1000L;
+                        for (int i = 0; i < perThread; i++) {
+                            if (rule.allow(Level.INFO, now)) allowed.incrementAndGet();
+                        }
+                    }
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        for (Thread worker : workers) worker.join(60_000);
+
+        assertEquals(rate * seconds, allowed.get());
+        assertEquals((long) threads * perThread * seconds - (long) rate * seconds, rule.rateLimited.get());
+    }
+
+    private static LogSamplingFilter filter(String... specs) {
+        LogSamplingFilter filter = new LogSamplingFilter();
+        filter.setContext(new LoggerContext());
+        for (String spec : specs) filter.addRule(spec);
+        filter.start();
+        return filter;
+    }
+
+    private static LoggingEvent event(String logger, Level level) {
+        LoggingEvent event = new LoggingEvent();
+        event.setLoggerName(logger);
+        event.setLevel(level);
+        return event;
+    }
+}
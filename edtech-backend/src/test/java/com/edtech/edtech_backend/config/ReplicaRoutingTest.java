@@ -0,0 +1,114 @@
+package com.edtech.edtech_backend.config;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** H2 인메모리 DB 두 개(primary/replica)로 라우팅 규칙 확인: readOnly → 복제본, 지연 → primary, 방금 쓴 사용자 → primary */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:edtech-replica;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.lag-query=select coalesce(max(lag_seconds), 0) from replica_lag",
+        "datasource.replica.lag-check-interval=PT1H",
+        "datasource.replica.max-lag=PT2S"
+})
+@ActiveProfiles("test")
+class ReplicaRoutingTest {
+
+    private static final String PRIMARY = "edtech-test";
+    private static final String REPLICA = "edtech-replica";
+
+    @Autowired JdbcTemplate jdbc;
+    @Autowired PlatformTransactionManager txManager;
+    @Autowired ReplicaLagMonitor lagMonitor;
+    @Autowired ApplicationContext context;
+    @PersistenceContext EntityManager em;
+
+    // 복제본 풀은 readOnly 라 지연 확인용 테이블은 별도 연결로 만든다 (모니터가 기동 중 바로 조회하므로 static)
+    private static final JdbcTemplate REPLICA_ADMIN = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:" + REPLICA + ";MODE=MariaDB;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    static {
+        REPLICA_ADMIN.execute("create table if not exists replica_lag (lag_seconds int)");
+    }
+
+    @AfterEach
+    void reset() {
+        SecurityContextHolder.clearContext();
+        setLag(null);
+    }
+
+    @Test
+    void readOnlyGoesToReplicaAndWritesToPrimary() {
+        assertEquals(REPLICA, database(true));
+        assertEquals(PRIMARY, database(false));
+        assertEquals(PRIMARY, jdbc.queryForObject("select database()", String.class));   // 트랜잭션 밖
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimary() {
+        setLag(30);
+        assertEquals(PRIMARY, database(true));
+        setLag(1);
+        assertEquals(REPLICA, database(true));
+    }
+
+    @Test
+    void writerReadsOwnWritesFromPrimary() {
+        login("writer@example.com");
+        new TransactionTemplate(txManager).executeWithoutResult(s -> jdbc.queryForObject("select 1", Integer.class));
+        assertEquals(PRIMARY, database(true));
+
+        login("other@example.com");
+        assertEquals(REPLICA, database(true));
+    }
+
+    /**
+     * open-in-view 가 켜지면 요청 내내 EntityManager 가 첫 연결을 쥐고 있어 readOnly 조회 뒤의 쓰기가 복제본 연결로 간다.
+     * 꺼져 있으면 트랜잭션마다 EntityManager 가 새로 열려 풀을 다시 고른다.
+     */
+    @Test
+    void writeAfterReadOnlyInOneRequestReachesPrimary() {
+        assertTrue(context.getBeansOfType(OpenEntityManagerInViewInterceptor.class).isEmpty());
+        login("osiv@example.com");
+        TransactionTemplate readOnly = new TransactionTemplate(txManager);
+        readOnly.setReadOnly(true);
+        assertEquals(REPLICA, readOnly.execute(s -> em.createNativeQuery("select database()").getSingleResult()));
+        assertEquals(PRIMARY, new TransactionTemplate(txManager)
+                .execute(s -> em.createNativeQuery("select database()").getSingleResult()));
+    }
+
+    private String database(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(s -> jdbc.queryForObject("select database()", String.class));
+    }
+
+    private void setLag(Integer seconds) {
+        REPLICA_ADMIN.update("delete from replica_lag");
+        if (seconds != null) REPLICA_ADMIN.update("insert into replica_lag values (?)", seconds);
+        lagMonitor.refresh();
+    }
+
+    private static void login(String email) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(email, null, List.of()));
+    }
+}
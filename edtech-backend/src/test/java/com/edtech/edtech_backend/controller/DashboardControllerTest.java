@@ -0,0 +1,83 @@
+package com.edtech.edtech_backend.controller;
+
+import com.edtech.edtech_backend.entity.StudentDashboard;
+import com.edtech.edtech_backend.service.StudentDashboardService;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/** 대시보드 응답: ETag = userId-schema-revision, If-None-Match 일치 시 304, 첫 생성 경합(유니크 위반)은 한 번 다시 읽음 */
+class DashboardControllerTest {
+
+    private static final String EMAIL = "dash@example.com";
+    private static final Authentication AUTH = new UsernamePasswordAuthenticationToken(EMAIL, null);
+
+    private final StudentDashboardService service = mock(StudentDashboardService.class);
+    private final DashboardController controller = new DashboardController(service);
+
+    @Test
+    void returnsPayloadWithEtagAndNotModifiedOnMatch() {
+        when(service.get(EMAIL)).thenReturn(dashboard(3L));
+
+        ResponseEntity<byte[]> ok = controller.me(AUTH, request(null));
+        assertEquals(200, ok.getStatusCode().value());
+        assertEquals("\"42-1-3\"", ok.getHeaders().getETag());
+        assertArrayEquals("{\"userId\":42}".getBytes(StandardCharsets.UTF_8), ok.getBody());
+
+        ServletWebRequest cached = request("\"42-1-3\"");
+        assertNull(controller.me(AUTH, cached));
+        assertEquals(304, cached.getResponse().getStatus());
+
+        // 다시 만들어져 revision 이 바뀌면 새 본문
+        when(service.get(EMAIL)).thenReturn(dashboard(4L));
+        ResponseEntity<byte[]> changed = controller.me(AUTH, request("\"42-1-3\""));
+        assertEquals(200, changed.getStatusCode().value());
+        assertEquals("\"42-1-4\"", changed.getHeaders().getETag());
+    }
+
+    @Test
+    void retriesOnceWhenFirstBuildRacesAnotherRequest() {
+        when(service.get(EMAIL))
+                .thenThrow(new DataIntegrityViolationException("uk_student_dashboard_email"))
+                .thenReturn(dashboard(0L));
+
+        ResponseEntity<byte[]> res = controller.me(AUTH, request(null));
+
+        assertEquals(200, res.getStatusCode().value());
+        assertEquals("\"42-1-0\"", res.getHeaders().getETag());
+        verify(service, times(2)).get(EMAIL);
+    }
+
+    private static StudentDashboard dashboard(long revision) {
+        StudentDashboard d = new StudentDashboard();
+        d.setUserId(42L);
+        d.setEmail(EMAIL);
+        d.setSchemaVersion(1);
+        d.setRevision(revision);
+        d.setPayload("{\"userId\":42}");
+        d.setUpdatedAt(Instant.now());
+        return d;
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/dashboard/me");
+        if (ifNoneMatch != null) req.addHeader("If-None-Match", ifNoneMatch);
+        return new ServletWebRequest(req, new MockHttpServletResponse());
+    }
+}
@@ -0,0 +1,92 @@
+package com.edtech.edtech_backend.controller;
+
+import com.edtech.edtech_backend.dto.LectureResponseDto;
+import com.edtech.edtech_backend.entity.Lecture;
+import com.edtech.edtech_backend.service.CatalogService;
+import com.edtech.edtech_backend.service.ManifestService;
+import com.edtech.edtech_backend.service.SubtitleDeliveryService;
+import com.edtech.edtech_backend.service.SubtitleService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/** 자막: 200/304 모두 Vary: Accept-Encoding (한 번만), 재확인 때 강의의 vttPath 가 바뀌면 새 경로, 강의가 없어지면 404 */
+class LectureSubtitleTest {
+
+    private static final long LECTURE_ID = 7L;
+
+    @TempDir Path dir;
+
+    private final CatalogService catalogService = mock(CatalogService.class);
+    // recheck-ms=0 → 매 요청 재확인
+    private final SubtitleDeliveryService delivery = new SubtitleDeliveryService(catalogService,
+            new SubtitleService(new DefaultResourceLoader(), new SimpleMeterRegistry()), new SimpleMeterRegistry(), 0, 10);
+    private final MockMvc mvc = MockMvcBuilders.standaloneSetup(
+            new LectureController(catalogService, mock(ManifestService.class), delivery)).build();
+
+    @Test
+    void notModifiedKeepsVaryHeader() throws Exception {
+        lectureAt(vtt("a.vtt", "WEBVTT\n\n00:00.000 --> 00:01.000\nfirst\n"));
+
+        MvcResult ok = subtitles(null);
+        assertEquals(200, ok.getResponse().getStatus());
+        assertEquals("gzip", ok.getResponse().getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), ok.getResponse().getHeaders(HttpHeaders.VARY));
+
+        MvcResult notModified = subtitles(ok.getResponse().getHeader(HttpHeaders.ETAG));
+        assertEquals(304, notModified.getResponse().getStatus());
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), notModified.getResponse().getHeaders(HttpHeaders.VARY));
+    }
+
+    @Test
+    void recheckFollowsChangedLecturePath() throws Exception {
+        lectureAt(vtt("a.vtt", "WEBVTT\n\nfirst\n"));
+        String first = subtitles(null).getResponse().getHeader(HttpHeaders.ETAG);
+
+        // 강의의 자막 경로만 바뀜 (옛 파일은 그대로) → 새 파일을 읽어야 한다
+        lectureAt(vtt("b.vtt", "WEBVTT\n\nsecond\n"));
+        MvcResult changed = subtitles(first);
+        assertEquals(200, changed.getResponse().getStatus());
+        assertEquals("WEBVTT\n\nsecond\n", identity().getResponse().getContentAsString());
+
+        when(catalogService.getLecture(LECTURE_ID)).thenThrow(new ResponseStatusException(NOT_FOUND));
+        assertEquals(404, subtitles(null).getResponse().getStatus());
+    }
+
+    private MvcResult subtitles(String ifNoneMatch) throws Exception {
+        var req = get("/api/lectures/{id}/subtitles", LECTURE_ID).header(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        if (ifNoneMatch != null) req.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return mvc.perform(req).andReturn();
+    }
+
+    private MvcResult identity() throws Exception {
+        return mvc.perform(get("/api/lectures/{id}/subtitles", LECTURE_ID)).andReturn();
+    }
+
+    private void lectureAt(Path vtt) {
+        Lecture lecture = new Lecture();
+        lecture.setLectureId(LECTURE_ID);
+        lecture.setVttPath(vtt.toAbsolutePath().toString());
+        when(catalogService.getLecture(LECTURE_ID)).thenReturn(new LectureResponseDto(lecture));
+    }
+
+    private Path vtt(String name, String body) throws Exception {
+        return Files.writeString(dir.resolve(name), body);
+    }
+}
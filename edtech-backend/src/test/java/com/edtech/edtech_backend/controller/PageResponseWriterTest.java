@@ -0,0 +1,47 @@
+package com.edtech.edtech_backend.controller;
+
+import com.edtech.edtech_backend.dto.ColumnarIntervals;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/** Accept 협상: 명시한 경우에만 컬럼형/CBOR, 와일드카드·기본 JSON·잘못된 헤더는 기존 형식 (null) */
+class PageResponseWriterTest {
+
+    @Test
+    void defaultsToExistingJson() {
+        assertNull(columnarType(null));
+        assertNull(columnarType(" "));
+        assertNull(columnarType("*/*"));
+        assertNull(columnarType("text/html,application/xhtml+xml,application/xml;q=0.9,*/*;q=0.8"));
+        assertNull(columnarType("application/json"));
+        assertNull(columnarType("application/*"));
+        assertNull(columnarType("not a media type;;"));
+    }
+
+    @Test
+    void picksExplicitColumnarOrCbor() {
+        assertEquals(ColumnarIntervals.COLUMNAR_JSON, columnarType(ColumnarIntervals.COLUMNAR_JSON_VALUE));
+        assertEquals(MediaType.APPLICATION_CBOR, columnarType("application/cbor"));
+        assertEquals(MediaType.APPLICATION_CBOR, columnarType("application/cbor, */*;q=0.1"));
+    }
+
+    @Test
+    void respectsQualityOrder() {
+        assertNull(columnarType("application/cbor;q=0.5, application/json"));
+        assertEquals(MediaType.APPLICATION_CBOR,
+                columnarType("application/json;q=0.5, application/cbor"));
+        assertEquals(ColumnarIntervals.COLUMNAR_JSON,
+                columnarType("application/cbor;q=0.8, " + ColumnarIntervals.COLUMNAR_JSON_VALUE));
+    }
+
+    private static MediaType columnarType(String accept) {
+        MockHttpServletRequest req = new MockHttpServletRequest("GET", "/api/focus/intervals/latest");
+        if (accept != null) req.addHeader("Accept", accept);
+        return PageResponseWriter.columnarType(new ServletWebRequest(req));
+    }
+}
@@ -0,0 +1,66 @@
+package com.edtech.edtech_backend.controller.auth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 커넥션 풀보다 많은 가입/로그인이 동시에 들어와도 모두 성공하는지 확인.
+ * (OSIV 로 요청이 커넥션을 쥔 채 해싱을 기다리고, 해싱 스레드가 저장용 커넥션을 기다리면 풀 고갈 → 타임아웃 500)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:edtech-auth;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000",
+        "auth.hashing.threads=2",
+        "auth.hashing.queue-capacity=64",
+        "admission.enabled=false"
+})
+@ActiveProfiles("test")
+class AuthControllerConcurrencyTest {
+
+    private static final int USERS = 12;
+
+    @LocalServerPort int port;
+
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    @Test
+    void concurrentRegisterAndLoginDoNotExhaustPool() {
+        assertAllOk(fire(i -> "/api/auth/register", i -> """
+                {"email":"rush%d@example.com","password":"pw-%d","name":"s%d","phone":"010","role":"STUDENT"}
+                """.formatted(i, i, i)));
+        assertAllOk(fire(i -> "/api/auth/login", i -> """
+                {"email":"rush%d@example.com","password":"pw-%d"}
+                """.formatted(i, i)));
+    }
+
+    private List<Integer> fire(java.util.function.IntFunction<String> path, java.util.function.IntFunction<String> body) {
+        List<CompletableFuture<Integer>> calls = new ArrayList<>();
+        for (int i = 0; i < USERS; i++) {
+            HttpRequest req = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path.apply(i)))
+                    .timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.apply(i)))
+                    .build();
+            calls.add(http.sendAsync(req, HttpResponse.BodyHandlers.discarding()).thenApply(HttpResponse::statusCode));
+        }
+        return calls.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static void assertAllOk(List<Integer> statuses) {
+        assertEquals(USERS, statuses.stream().filter(s -> s == 200).count(), statuses.toString());
+    }
+}
@@ -0,0 +1,85 @@
+package com.edtech.edtech_backend.dto;
+
+import com.edtech.edtech_backend.entity.FocusInterval;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 컬럼형 직렬화: base 기준 상대 ms, 끝 시각 없으면 시작으로 보정, 빈 값은 null, JSON/CBOR 같은 모양 */
+class ColumnarIntervalsTest {
+
+    private static final Instant BASE = Instant.parse("2025-03-01T09:00:00Z");
+
+    private final ObjectMapper json = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper cbor = Jackson2ObjectMapperBuilder.cbor().build();
+
+    @Test
+    void writesRelativeArraysWithNulls() throws Exception {
+        ColumnarIntervals c = ColumnarIntervals.of(BASE, List.of(
+                interval(0, 1500L, 1, 0.5),
+                interval(2000, null, null, null),       // 끝 시각 없음 → 시작과 같게
+                interval(4000, 5500L, 1, 0.61)));
+
+        JsonNode node = json.readTree(json.writeValueAsBytes(c));
+
+        assertEquals("""
+                {"base":1740819600000,"count":3,"starts":[0,2000,4000],"ends":[1500,2000,5500],\
+                "durationSec":[1,null,1],"avgScore":[0.5,null,0.61]}""", node.toString());
+    }
+
+    @Test
+    void baseFallsBackToFirstIntervalAndCborMatchesJson() throws Exception {
+        ColumnarIntervals c = ColumnarIntervals.of(null, List.of(
+                interval(1000, 2000L, 1, 0.25),
+                interval(3000, 3500L, 0, 0.75)));
+
+        JsonNode fromJson = json.readTree(json.writeValueAsBytes(c));
+        JsonNode fromCbor = cbor.readTree(cbor.writeValueAsBytes(c));
+
+        assertEquals(BASE.toEpochMilli() + 1000, fromJson.get("base").asLong());
+        assertEquals("[0,2000]", fromJson.get("starts").toString());
+        assertEquals("[1000,2500]", fromJson.get("ends").toString());
+        assertEquals(fromJson, fromCbor);
+    }
+
+    @Test
+    void growsPastInitialCapacityAndDownsamplesOnlyWhenLarge() throws Exception {
+        List<FocusInterval> list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) list.add(interval(i * 1000L, i * 1000L + 500, 0, (i % 10) / 10.0));
+        ColumnarIntervals c = ColumnarIntervals.of(BASE, list);
+        assertEquals(1000, c.size());
+
+        assertSame(c, c.downsample(2000));
+        ColumnarIntervals reduced = c.downsample(100);
+        assertEquals(100, reduced.size());
+
+        JsonNode node = json.readTree(json.writeValueAsBytes(reduced));
+        assertEquals(100, node.get("count").asInt());
+        assertEquals(100, node.get("starts").size());
+        assertEquals(0, node.get("starts").get(0).asLong());               // 첫/마지막 점은 유지
+        assertEquals(999_000, node.get("starts").get(99).asLong());
+        long prev = -1;
+        for (JsonNode s : node.get("starts")) {
+            assertTrue(s.asLong() > prev);
+            prev = s.asLong();
+        }
+    }
+
+    private static FocusInterval interval(long startOffsetMs, Long endOffsetMs, Integer durationSec, Double score) {
+        FocusInterval fi = new FocusInterval();
+        fi.setStartAt(BASE.plusMillis(startOffsetMs));
+        fi.setEndAt(endOffsetMs == null ? null : BASE.plusMillis(endOffsetMs));
+        fi.setDurationSec(durationSec);
+        fi.setAvgScore(score);
+        return fi;
+    }
+}
@@ -0,0 +1,81 @@
+package com.edtech.edtech_backend.observability;
+
+import jdk.jfr.Recording;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 작은 녹화 파일을 직접 만들어 작업별 묶음/건수/백분위/정렬 확인 + nearest-rank 백분위 계산 */
+class JfrSummarizerTest {
+
+    @Test
+    void percentileIsNearestRank() {
+        long[] ten = LongStream.rangeClosed(1, 10).toArray();
+        assertEquals(5, JfrSummarizer.percentile(ten, 0.50));
+        assertEquals(10, JfrSummarizer.percentile(ten, 0.95));
+        assertEquals(10, JfrSummarizer.percentile(ten, 0.99));
+
+        long[] hundred = LongStream.rangeClosed(1, 100).toArray();
+        assertEquals(50, JfrSummarizer.percentile(hundred, 0.50));
+        assertEquals(95, JfrSummarizer.percentile(hundred, 0.95));
+        assertEquals(99, JfrSummarizer.percentile(hundred, 0.99));
+
+        assertEquals(7, JfrSummarizer.percentile(new long[]{7}, 0.99));
+    }
+
+    @Test
+    void summarizesRecordedOperations(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("small.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("edtech.FocusIngest").withoutThreshold();
+            recording.enable("edtech.Auth").withoutThreshold();
+            recording.start();
+            for (int i = 1; i <= 5; i++) {
+                var event = new FlightEvents.FocusIngest();
+                event.begin();
+                Thread.sleep(4L * i);
+                event.operation = "focus.save";
+                event.outcome = i == 5 ? "error" : "ok";
+                event.commit();
+            }
+            for (int i = 0; i < 2; i++) {
+                var event = new FlightEvents.Auth();
+                event.begin();
+                event.operation = "jwt.verify";    // outcome 없음
+                event.commit();
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        JfrSummarizer.Summary summary = JfrSummarizer.summarize(file);
+        List<JfrSummarizer.Stats> ops = summary.operations();
+
+        assertEquals(3, ops.size());
+        JfrSummarizer.Stats ok = find(ops, "focus.save", "ok");
+        assertEquals(4, ok.count());
+        assertTrue(ok.p50Ms() >= 8 && ok.p50Ms() <= ok.p95Ms() && ok.p95Ms() <= ok.maxMs());
+        assertTrue(ok.totalMs() >= 4 + 8 + 12 + 16);
+        assertEquals(1, find(ops, "focus.save", "error").count());
+        JfrSummarizer.Stats jwt = find(ops, "jwt.verify", null);
+        assertEquals(2, jwt.count());
+        assertNull(jwt.outcome());
+
+        // 합계가 큰 순서
+        for (int i = 1; i < ops.size(); i++) assertTrue(ops.get(i - 1).totalMs() >= ops.get(i).totalMs());
+        assertTrue(!summary.start().isAfter(summary.end()));
+    }
+
+    private static JfrSummarizer.Stats find(List<JfrSummarizer.Stats> ops, String name, String outcome) {
+        return ops.stream()
+                .filter(s -> s.name().equals(name) && java.util.Objects.equals(s.outcome(), outcome))
+                .findFirst().orElseThrow(() -> new AssertionError(name + "/" + outcome + " not in " + ops));
+    }
+}
@@ -0,0 +1,120 @@
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.Course;
+import com.edtech.edtech_backend.entity.CourseEngagementAnalytics;
+import com.edtech.edtech_backend.entity.FocusInterval;
+import com.edtech.edtech_backend.entity.PurgeJob;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
+import com.edtech.edtech_backend.repository.CourseRepository;
+import com.edtech.edtech_backend.repository.PurgeJobRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 코스 삭제 → 즉시 목록에서 빠지고, 정리 작업이 중간에 멈춰도 다음 실행에서 이어서 끝나는지 확인 */
+@SpringBootTest(properties = {
+        "purge.batch-size=20",
+        "purge.pause-ms=40",
+        "purge.initial-delay=PT1H" // 스케줄 실행 대신 테스트에서 직접 호출
+})
+@ActiveProfiles("test")
+class BulkPurgerTest {
+
+    private static final int SESSIONS = 100;
+    private static final int INTERVALS = 3;
+
+    @Autowired PurgeService purgeService;
+    @Autowired BulkPurger purger;
+    @Autowired PurgeJobRepository jobRepository;
+    @Autowired ClassRepository classRepository;
+    @Autowired CourseRepository courseRepository;
+    @Autowired CourseEngagementAnalyticsRepository analyticsRepository;
+    @Autowired CatalogService catalogService;
+    @Autowired JdbcTemplate jdbc;
+
+    @Test
+    void deletedCourseIsPurgedInBatchesAndResumes() {
+        ClassEntity clazz = new ClassEntity();
+        clazz.setTitle("purge");
+        clazz = classRepository.save(clazz);
+        Course course = new Course();
+        course.setTitle("to delete");
+        course.setClassEntity(clazz);
+        Long courseId = courseRepository.save(course).getCourseId();
+        Course other = new Course();
+        other.setTitle("keep");
+        other.setClassEntity(clazz);
+        Long otherId = courseRepository.save(other).getCourseId();
+
+        List<CourseEngagementAnalytics> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) sessions.add(session(clazz, i % 10 == 0 ? otherId : courseId));
+        analyticsRepository.saveAll(sessions);
+        for (int i = 0; i < 30; i++) {
+            jdbc.update("insert into schedule (title, download_url, course_id) values (?, ?, ?)", "s" + i, "u", courseId);
+        }
+
+        Long classId = clazz.getClassId();
+        PurgeJob job = purgeService.deleteCourse(classId, courseId);
+        catalogService.evictCourse(classId, courseId);
+        assertTrue(catalogService.listCourses(classId).stream().noneMatch(c -> c.getCourseId().equals(courseId)));
+
+        // 1차: 시간 예산이 짧아서 도중에 멈춤
+        assertEquals(1, jobRepository.claim(job.getJobId(), Instant.now(), Instant.now().plusSeconds(60)));
+        assertFalse(purger.run(job.getJobId(), Instant.now().plusMillis(150)));
+        PurgeJob paused = jobRepository.findById(job.getJobId()).orElseThrow();
+        assertEquals(PurgeJob.Status.RUNNING, paused.getStatus());
+        assertTrue(paused.getDeletedRows() > 0);
+        assertTrue(count("course_engagement_analytics where course_id = " + courseId) > 0);
+
+        // 2차: 남은 것부터 이어서 끝냄 (멈출 때 점유를 풀었으므로 다시 잡을 수 있음)
+        assertEquals(1, jobRepository.claim(job.getJobId(), Instant.now(), Instant.now().plusSeconds(60)));
+        assertTrue(purger.run(job.getJobId(), Instant.now().plusSeconds(60)));
+        PurgeJob done = jobRepository.findById(job.getJobId()).orElseThrow();
+        assertEquals(PurgeJob.Status.DONE, done.getStatus());
+        assertNotNull(done.getFinishedAt());
+
+        int deletedSessions = SESSIONS - SESSIONS / 10;
+        assertEquals(deletedSessions * (INTERVALS + 1) + 30 + 1, done.getDeletedRows());
+        assertEquals(0, count("course_engagement_analytics where course_id = " + courseId));
+        assertEquals(0, count("schedule where course_id = " + courseId));
+        assertEquals(0, count("course where course_id = " + courseId));
+        // 다른 코스 데이터는 그대로
+        assertEquals(SESSIONS / 10, count("course_engagement_analytics where course_id = " + otherId));
+        assertEquals((SESSIONS / 10) * INTERVALS, count("focus_intervals where course_analytics_id in ("
+                + "select course_analytics_id from course_engagement_analytics where course_id = " + otherId + ")"));
+        assertEquals(0, count("focus_intervals i where not exists (select 1 from course_engagement_analytics a "
+                + "where a.course_analytics_id = i.course_analytics_id)"));
+    }
+
+    private CourseEngagementAnalytics session(ClassEntity clazz, Long courseId) {
+        CourseEngagementAnalytics a = new CourseEngagementAnalytics();
+        a.setClassEntity(clazz);
+        a.setCourseId(courseId);
+        a.setUserId("purge@example.com");
+        for (int i = 0; i < INTERVALS; i++) {
+            FocusInterval fi = new FocusInterval();
+            fi.setStartAt(Instant.ofEpochMilli(i * 1000L));
+            fi.setEndAt(Instant.ofEpochMilli(i * 1000L + 500));
+            fi.setDurationSec(1);
+            a.getAttentionArr().add(fi);
+        }
+        return a;
+    }
+
+    private int count(String fromWhere) {
+        return jdbc.queryForObject("select count(*) from " + fromWhere, Integer.class);
+    }
+}
@@ -0,0 +1,38 @@
+package com.edtech.edtech_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClassIdSetTest {
+
+    @Test
+    void containsExactlyTheGivenIds() {
+        List<Long> ids = new ArrayList<>();
+        for (long i = 1; i <= 1000; i += 3) ids.add(i);
+        ids.add(1L); // 중복
+
+        ClassIdSet set = ClassIdSet.of(ids);
+
+        assertEquals(334, set.size());
+        for (long i = 1; i <= 1000; i++) {
+            assertEquals(i % 3 == 1, set.contains(i), "id " + i);
+        }
+        assertFalse(set.contains(0));
+        assertFalse(set.contains(-1));
+        assertEquals(334, set.toSet().size());
+    }
+
+    @Test
+    void emptySet() {
+        assertFalse(ClassIdSet.EMPTY.contains(1));
+        assertTrue(ClassIdSet.of(List.of()).toSet().isEmpty());
+        assertEquals(Set.of(7L), ClassIdSet.of(List.of(7L)).toSet());
+    }
+}
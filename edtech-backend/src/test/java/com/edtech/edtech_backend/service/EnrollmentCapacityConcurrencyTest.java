@@ -0,0 +1,125 @@
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.Enrollment;
+import com.edtech.edtech_backend.entity.User;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import com.edtech.edtech_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/** 정원보다 훨씬 많은 신청이 동시에 들어와도 초과 등록이 없고, 취소 시 대기열이 승격되는지 확인 */
+@SpringBootTest
+@ActiveProfiles("test")
+class EnrollmentCapacityConcurrencyTest {
+
+    private static final int HEADCOUNT = 30;
+    private static final int STUDENTS = 300;
+    private static final int THREADS = 32;
+
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired UserRepository userRepository;
+    @Autowired ClassRepository classRepository;
+    @Autowired EnrollmentRepository enrollmentRepository;
+
+    @Test
+    void concurrentEnrollmentsNeverExceedHeadcount() throws Exception {
+        ClassEntity clazz = new ClassEntity();
+        clazz.setTitle("rush");
+        clazz.setHeadcount(HEADCOUNT);
+        Long classId = classRepository.save(clazz).getClassId();
+
+        List<String> emails = new ArrayList<>();
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < STUDENTS; i++) {
+            User u = new User();
+            u.setEmail("rush" + i + "@example.com");
+            u.setName("s" + i);
+            u.setPasswordHash("x");
+            users.add(u);
+            emails.add(u.getEmail());
+        }
+        userRepository.saveAll(users);
+
+        // 같은 사용자의 중복 신청도 섞는다 (앞쪽 50명은 두 번씩)
+        List<String> requests = new ArrayList<>(emails);
+        requests.addAll(emails.subList(0, 50));
+
+        Map<EnrollmentService.Result, Integer> results = runConcurrently(requests,
+                email -> enrollmentService.enroll(email, classId));
+
+        assertEquals(HEADCOUNT, approvedCount(classId));
+        assertEquals(HEADCOUNT, classRepository.findById(classId).orElseThrow().getEnrolledCount());
+        assertEquals(STUDENTS - HEADCOUNT, countByStatus(classId, Enrollment.Status.WAITLISTED));
+        assertEquals(HEADCOUNT, results.getOrDefault(EnrollmentService.Result.ENROLLED, 0));
+
+        // 승인된 10명이 동시에 취소 → 대기열 앞 10명이 승격, 인원은 그대로
+        List<String> approved = enrollmentRepository.findByClazz_ClassIdAndStatus(classId, Enrollment.Status.APPROVED)
+                .stream().map(e -> e.getUser().getEmail()).limit(10).toList();
+        runConcurrently(approved, email -> {
+            enrollmentService.cancel(email, classId);
+            return EnrollmentService.Result.ENROLLED;
+        });
+
+        assertEquals(HEADCOUNT, approvedCount(classId));
+        assertEquals(HEADCOUNT, classRepository.findById(classId).orElseThrow().getEnrolledCount());
+        assertEquals(STUDENTS - HEADCOUNT - 10, countByStatus(classId, Enrollment.Status.WAITLISTED));
+    }
+
+    private int approvedCount(Long classId) {
+        return countByStatus(classId, Enrollment.Status.APPROVED);
+    }
+
+    private int countByStatus(Long classId, Enrollment.Status status) {
+        return enrollmentRepository.findByClazz_ClassIdAndStatus(classId, status).size();
+    }
+
+    private Map<EnrollmentService.Result, Integer> runConcurrently(
+            List<String> emails, ThrowingFunction action) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<EnrollmentService.Result>> futures = new ArrayList<>();
+            for (String email : emails) {
+                Callable<EnrollmentService.Result> task = () -> {
+                    start.await();
+                    try {
+                        return action.apply(email);
+                    } catch (org.springframework.dao.DataIntegrityViolationException dup) {
+                        return null; // 같은 사용자의 동시 중복 신청 (컨트롤러에서는 204)
+                    }
+                };
+                futures.add(pool.submit(task));
+            }
+            start.countDown();
+            Map<EnrollmentService.Result, Integer> counts = new EnumMap<>(EnrollmentService.Result.class);
+            for (Future<EnrollmentService.Result> f : futures) {
+                EnrollmentService.Result r = f.get();
+                if (r != null) counts.merge(r, 1, Integer::sum);
+            }
+            return counts;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @FunctionalInterface
+    interface ThrowingFunction {
+        EnrollmentService.Result apply(String email) throws Exception;
+    }
+}
@@ -0,0 +1,136 @@
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.dto.BulkEnrollResultDto;
+import com.edtech.edtech_backend.dto.BulkEnrollResultDto.Outcome;
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.Enrollment;
+import com.edtech.edtech_backend.entity.User;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import com.edtech.edtech_backend.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/** 일괄 등록: 입력 파싱, 행별 결과 분류, 정원 배정, 재실행 시 좌석 중복 반영 없음 (청크/배치 크기를 작게 잡아 경계도 확인) */
+@SpringBootTest(properties = {
+        "enrollment.bulk.lookup-chunk=2",
+        "enrollment.bulk.batch-size=2",
+        "enrollment.bulk.max-rows=10"
+})
+@ActiveProfiles("test")
+class EnrollmentImportServiceTest {
+
+    @Autowired EnrollmentImportService importService;
+    @Autowired EnrollmentService enrollmentService;
+    @Autowired UserRepository userRepository;
+    @Autowired ClassRepository classRepository;
+    @Autowired EnrollmentRepository enrollmentRepository;
+
+    @Test
+    void classifiesRowsAndFillsSeatsInInputOrder() throws Exception {
+        Long classId = newClass("bulk", 3);
+        users("imp-a", "imp-b", "imp-c", "imp-d", "imp-e");
+        enrollmentService.enroll("imp-a@example.com", classId);     // 이미 승인 (좌석 1 사용)
+
+        List<String> emails = importService.readCsv(new StringReader("""
+                \uFEFFemail,name
+                imp-a@example.com,A
+                "imp-b@example.com",B
+
+                IMP-B@example.com,B again
+                not-an-email
+                nobody@example.com
+                imp-c@example.com
+                imp-d@example.com
+                """));
+        BulkEnrollResultDto result = importService.enroll(classId, emails);
+
+        assertEquals(List.of(Outcome.ALREADY_ENROLLED, Outcome.ENROLLED, Outcome.DUPLICATE, Outcome.INVALID,
+                        Outcome.USER_NOT_FOUND, Outcome.ENROLLED, Outcome.WAITLISTED),
+                result.rows().stream().map(BulkEnrollResultDto.Row::result).toList());
+        assertEquals(7, result.total());
+        assertEquals(2, result.counts().get(Outcome.ENROLLED));
+        assertEquals(3, classRepository.findById(classId).orElseThrow().getEnrolledCount());
+        assertEquals(3, countByStatus(classId, Enrollment.Status.APPROVED));
+        assertEquals(1, countByStatus(classId, Enrollment.Status.WAITLISTED));
+
+        // 같은 파일을 다시 올려도 좌석은 그대로, 대기열은 대기열로 남는다
+        BulkEnrollResultDto again = importService.enroll(classId, emails);
+        assertEquals(3, again.counts().get(Outcome.ALREADY_ENROLLED));
+        assertEquals(1, again.counts().get(Outcome.WAITLISTED));
+        assertEquals(0, again.counts().get(Outcome.ENROLLED));
+        assertEquals(3, classRepository.findById(classId).orElseThrow().getEnrolledCount());
+    }
+
+    @Test
+    void unlimitedClassApprovesEveryone() {
+        Long classId = newClass("open", 0);
+        users("open-a", "open-b", "open-c");
+
+        BulkEnrollResultDto result = importService.enroll(classId,
+                List.of("open-a@example.com", "open-b@example.com", "open-c@example.com"));
+
+        assertEquals(3, result.counts().get(Outcome.ENROLLED));
+        assertEquals(3, countByStatus(classId, Enrollment.Status.APPROVED));
+    }
+
+    @Test
+    void readsJsonStringsAndObjects() throws Exception {
+        List<String> emails = importService.readJson(json("""
+                ["a@example.com", {"email": " b@example.com "}, {"name": "no email"}, 42, [1, 2]]
+                """));
+
+        assertEquals(5, emails.size());
+        assertEquals("a@example.com", emails.get(0));
+        assertEquals("b@example.com", emails.get(1));
+        assertEquals(null, emails.get(2));
+        assertEquals(null, emails.get(3));
+        assertEquals(null, emails.get(4));
+    }
+
+    @Test
+    void rejectsBadInput() {
+        assertEquals(400, assertThrows(ResponseStatusException.class,
+                () -> importService.readJson(json("{\"email\": \"a@example.com\"}"))).getStatusCode().value());
+        assertEquals(400, assertThrows(ResponseStatusException.class,
+                () -> importService.readCsv(new StringReader("x@example.com\n".repeat(11)))).getStatusCode().value());
+        assertEquals(404, assertThrows(ResponseStatusException.class,
+                () -> importService.enroll(-1L, List.of("a@example.com"))).getStatusCode().value());
+    }
+
+    private Long newClass(String title, int headcount) {
+        ClassEntity clazz = new ClassEntity();
+        clazz.setTitle(title);
+        clazz.setHeadcount(headcount);
+        return classRepository.save(clazz).getClassId();
+    }
+
+    private void users(String... names) {
+        for (String name : names) {
+            User u = new User();
+            u.setEmail(name + "@example.com");
+            u.setName(name);
+            u.setPasswordHash("x");
+            userRepository.save(u);
+        }
+    }
+
+    private int countByStatus(Long classId, Enrollment.Status status) {
+        return enrollmentRepository.findByClazz_ClassIdAndStatus(classId, status).size();
+    }
+
+    private static ByteArrayInputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,85 @@
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.dto.CursorPage;
+import com.edtech.edtech_backend.dto.FocusDto;
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.CourseEngagementAnalytics;
+import com.edtech.edtech_backend.entity.FocusInterval;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 세션 50개 페이지를 구간까지 읽어도 쿼리 수가 일정한지, 커서로 끝까지 넘어가는지 확인 */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+class FocusHistoryServiceTest {
+
+    private static final String USER = "history@example.com";
+    private static final int SESSIONS = 120;
+
+    @Autowired FocusHistoryService historyService;
+    @Autowired ClassRepository classRepository;
+    @Autowired CourseEngagementAnalyticsRepository analyticsRepository;
+    @Autowired EntityManagerFactory emf;
+
+    @Test
+    void pageWithIntervalsCostsConstantQueries() {
+        ClassEntity clazz = new ClassEntity();
+        clazz.setTitle("history");
+        clazz = classRepository.save(clazz);
+        List<CourseEngagementAnalytics> sessions = new ArrayList<>();
+        for (int i = 0; i < SESSIONS; i++) {
+            CourseEngagementAnalytics a = new CourseEngagementAnalytics();
+            a.setClassEntity(clazz);
+            a.setCourseId(7L);
+            a.setUserId(USER);
+            a.setStartedAt(Instant.ofEpochSecond(1_700_000_000L + i * 60L));
+            for (int k = 0; k < 1 + i % 4; k++) {
+                FocusInterval fi = new FocusInterval();
+                fi.setStartAt(a.getStartedAt().plusSeconds(k * 10L));
+                fi.setEndAt(a.getStartedAt().plusSeconds(k * 10L + 5));
+                fi.setDurationSec(5);
+                fi.setAvgScore(0.5);
+                a.getAttentionArr().add(fi);
+            }
+            sessions.add(a);
+        }
+        analyticsRepository.saveAll(sessions);
+        Long classId = clazz.getClassId();
+
+        Statistics stats = emf.unwrap(SessionFactory.class).getStatistics();
+        stats.clear();
+        CursorPage<FocusDto.SessionView> first = historyService.history(classId, 7L, USER, null, 50, FocusHistoryService.IntervalFormat.LIST, null);
+        assertEquals(2, stats.getPrepareStatementCount());
+
+        assertEquals(50, first.items().size());
+        FocusDto.SessionView newest = first.items().get(0);
+        assertEquals(sessions.get(SESSIONS - 1).getCourseAnalyticsId(), newest.getSessionId());
+        assertEquals(newest.getIntervalCount(), newest.getIntervals().size());
+        assertTrue(first.items().stream().allMatch(s -> s.getIntervals().size() == s.getIntervalCount()));
+
+        // 요약만: 쿼리 1번, intervals 없음
+        stats.clear();
+        CursorPage<FocusDto.SessionView> second = historyService.history(classId, 7L, USER, first.nextCursor(), 50, FocusHistoryService.IntervalFormat.NONE, null);
+        assertEquals(1, stats.getPrepareStatementCount());
+        assertNull(second.items().get(0).getIntervals());
+
+        CursorPage<FocusDto.SessionView> last = historyService.history(classId, 7L, USER, second.nextCursor(), 50, FocusHistoryService.IntervalFormat.NONE, null);
+        assertEquals(SESSIONS - 100, last.items().size());
+        assertNull(last.nextCursor());
+    }
+}
@@ -0,0 +1,249 @@
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.controller.FocusController;
+import com.edtech.edtech_backend.dto.FocusDto;
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.CourseEngagementAnalytics;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
+import com.edtech.edtech_backend.repository.FocusJournalCheckpointRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 저널 → DB 드레인: 배치 중간 실패 시 배치+체크포인트가 같이 롤백되고 다시 돌면 빠짐없이, 재기동 후 중복 없이.
+ * 클래스 없음/제약 위반/변환 실패 레코드는 건너뛰고 센다. 컨트롤러의 202 + X-Journal-Seq 경로,
+ * 수강 확인이 DB 장애로 실패하면 저널로 받고 드레이너가 수강생만 저장.
+ * 서비스는 테스트마다 임시 디렉터리로 직접 만든다 (컨텍스트의 빈은 mode=off).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class FocusJournalServiceTest {
+
+    @Autowired CourseEngagementAnalyticsService analyticsService;
+    @Autowired CourseEngagementAnalyticsRepository analyticsRepository;
+    @Autowired ClassRepository classRepository;
+    @Autowired FocusJournalCheckpointRepository checkpointRepository;
+    @Autowired ApplicationEventPublisher eventPublisher;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired PlatformTransactionManager txManager;
+    @Autowired JdbcTemplate jdbc;
+    @Autowired EnrollmentMembershipService membershipService;
+    @Autowired FocusHistoryService focusHistoryService;
+
+    @TempDir Path dir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<FocusJournalService> opened = new ArrayList<>();
+    private final long courseId = ThreadLocalRandom.current().nextLong(1_000_000, Long.MAX_VALUE);
+
+    @AfterEach
+    void closeJournals() throws IOException {
+        for (FocusJournalService s : opened) s.close();
+    }
+
+    @Test
+    void failedBatchRollsBackWithCheckpointAndReplaysWithoutDuplicates() throws IOException {
+        Long classId = newClass();
+        // 다섯 번째 저장에서 한 번 DB 장애
+        AtomicInteger calls = new AtomicInteger();
+        CourseEngagementAnalyticsService flaky = mock(CourseEngagementAnalyticsService.class);
+        when(flaky.save(any())).thenAnswer(inv -> {
+            if (calls.incrementAndGet() == 5) throw new DataAccessResourceFailureException("connection reset");
+            return analyticsService.save(inv.getArgument(0));
+        });
+
+        FocusJournalService service = open(flaky);
+        for (int i = 0; i < 7; i++) service.append("drain@example.com", session(classId, 1));
+
+        service.drain();     // 1~3 커밋, 4~6 배치는 5 에서 실패 → 통째로 롤백
+        assertEquals(3, rows());
+        assertEquals(3, checkpoint());
+
+        service.drain();     // 커서가 체크포인트로 돌아와 4 부터 다시
+        assertEquals(7, rows());
+        assertEquals(7, checkpoint());
+
+        service.append("drain@example.com", session(classId, 1));
+        service.append("drain@example.com", session(classId, 1));
+        service.close();
+        opened.remove(service);
+
+        // 재기동: 같은 디렉터리(journal.id) → DB 체크포인트 다음부터만
+        FocusJournalService reopened = open(analyticsService);
+        reopened.drain();
+        assertEquals(9, rows());
+        reopened.drain();
+        assertEquals(9, rows());
+    }
+
+    @Test
+    void badRecordsAreSkippedAndCountedOnce() throws IOException {
+        Long classId = newClass();
+        FocusJournalService service = open(analyticsService);
+
+        service.append("skip@example.com", session(classId, 2));
+        service.append("skip@example.com", session(987_654_321L, 1));        // 없는 클래스
+        service.append("x".repeat(300) + "@example.com", session(classId, 1)); // user_email varchar(255) 초과
+        FocusDto.SessionPayload poison = session(classId, 1);
+        poison.getIntervals().get(0).setStart(null);                         // 변환 중 NPE
+        service.append("skip@example.com", poison);
+        service.append("skip@example.com", session(classId, 3));
+
+        service.drain();
+
+        List<CourseEngagementAnalytics> saved = analyticsRepository.findAll().stream()
+                .filter(a -> a.getCourseId() != null && a.getCourseId() == courseId).toList();
+        assertEquals(2, saved.size());
+        assertEquals(5, checkpoint());
+        assertEquals(1.0, dropped("class_missing"));
+        assertEquals(1.0, dropped("rejected"));
+        assertEquals(1.0, dropped("poison"));
+        assertEquals(2.0, meterRegistry.get("focus.journal.drained").counter().count());
+    }
+
+    @Test
+    void controllerAcceptsIntoJournalAndDrainerSavesForTheAuthenticatedUser() {
+        Long classId = newClass();
+        FocusJournalService service = open(analyticsService);
+        // 마지막 인자(PageResponseWriter)는 조회 응답용이라 저장 경로에선 안 쓴다
+        FocusController controller = new FocusController(classRepository, analyticsRepository, analyticsService,
+                membershipService, eventPublisher, focusHistoryService, service, null);
+        var admin = new UsernamePasswordAuthenticationToken("journal-admin@example.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_ADMIN")));
+        FocusDto.SessionPayload payload = session(classId, 2);
+        payload.setUserId("someone-else@example.com");                       // 프론트 값은 무시
+
+        ResponseEntity<FocusDto.SaveResponse> first = controller.saveIntervals(admin, payload);
+        ResponseEntity<FocusDto.SaveResponse> second = controller.saveIntervals(admin, payload);
+
+        assertEquals(202, first.getStatusCode().value());
+        assertEquals("1", first.getHeaders().getFirst("X-Journal-Seq"));
+        assertEquals("2", second.getHeaders().getFirst("X-Journal-Seq"));
+        assertNull(first.getBody().getAnalyticsId());
+        assertEquals(0, rows());
+
+        service.drain();
+        assertEquals(2, rows());
+        assertEquals(2, jdbc.queryForObject(
+                "select count(*) from course_engagement_analytics where course_id = ? and user_email = ?",
+                Integer.class, courseId, "journal-admin@example.com"));
+    }
+
+    @Test
+    void membershipCheckDuringOutageIsJournaledAndVerifiedByDrainer() {
+        Long classId = newClass();
+        // 수강 캐시 미스 + DB 장애 → requireMember 가 연결 오류. 드레이너 때는 DB 가 돌아와 있음
+        EnrollmentMembershipService membership = mock(EnrollmentMembershipService.class);
+        doThrow(new DataAccessResourceFailureException("connection refused")).when(membership).requireMember(any(), any());
+        when(membership.isMember("member@example.com", classId)).thenReturn(true);
+        when(membership.isMember("outsider@example.com", classId)).thenReturn(false);
+
+        FocusJournalService service = open(FocusJournalService.Mode.FALLBACK, analyticsService, membership);
+        FocusController controller = new FocusController(classRepository, analyticsRepository, analyticsService,
+                membership, eventPublisher, focusHistoryService, service, null);
+
+        assertEquals(202, controller.saveIntervals(student("member@example.com"), session(classId, 1)).getStatusCode().value());
+        assertEquals(202, controller.saveIntervals(student("outsider@example.com"), session(classId, 1)).getStatusCode().value());
+
+        service.drain();
+        assertEquals(1, rows());
+        assertEquals(1, jdbc.queryForObject(
+                "select count(*) from course_engagement_analytics where course_id = ? and user_email = ?",
+                Integer.class, courseId, "member@example.com"));
+        assertEquals(1.0, dropped("not_member"));
+    }
+
+    private static UsernamePasswordAuthenticationToken student(String email) {
+        return new UsernamePasswordAuthenticationToken(email, null, List.of(new SimpleGrantedAuthority("ROLE_STUDENT")));
+    }
+
+    private FocusJournalService open(CourseEngagementAnalyticsService analytics) {
+        return open(FocusJournalService.Mode.ALWAYS, analytics, membershipService);
+    }
+
+    private FocusJournalService open(FocusJournalService.Mode mode, CourseEngagementAnalyticsService analytics,
+                                     EnrollmentMembershipService membership) {
+        FocusJournalService service = new FocusJournalService(mode, dir,
+                DataSize.ofKilobytes(64), DataSize.ofMegabytes(8), true, 3, Duration.ofSeconds(10),
+                analytics, classRepository, membership, checkpointRepository, eventPublisher, objectMapper, txManager, meterRegistry);
+        try {
+            service.open();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        opened.add(service);
+        return service;
+    }
+
+    private Long newClass() {
+        ClassEntity clazz = new ClassEntity();
+        clazz.setTitle("journal");
+        return classRepository.save(clazz).getClassId();
+    }
+
+    private FocusDto.SessionPayload session(Long classId, int intervals) {
+        long start = System.currentTimeMillis() - 600_000;
+        FocusDto.SessionPayload p = new FocusDto.SessionPayload();
+        p.setClassId(classId);
+        p.setCourseId(courseId);
+        p.setStartedAt(start);
+        p.setEndedAt(start + 600_000);
+        p.setTotalDurationSec(600);
+        List<FocusDto.IntervalPayload> list = new ArrayList<>();
+        for (int k = 0; k < intervals; k++) {
+            FocusDto.IntervalPayload ip = new FocusDto.IntervalPayload();
+            ip.setStart(start + k * 60_000L);
+            ip.setEnd(start + k * 60_000L + 5_000);
+            ip.setDurationSec(5);
+            ip.setAvgScore(0.4);
+            list.add(ip);
+        }
+        p.setIntervals(list);
+        return p;
+    }
+
+    private int rows() {
+        return jdbc.queryForObject("select count(*) from course_engagement_analytics where course_id = ?",
+                Integer.class, courseId);
+    }
+
+    private long checkpoint() throws IOException {
+        String journalId = Files.readString(dir.resolve("journal.id")).trim();
+        return checkpointRepository.findById(journalId).orElseThrow().getAppliedSeq();
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get("focus.journal.dropped").tag("reason", reason).counter().count();
+    }
+}
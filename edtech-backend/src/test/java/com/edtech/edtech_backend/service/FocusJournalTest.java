@@ -0,0 +1,147 @@
+package com.edtech.edtech_backend.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 저널 파일 형식: 재기동 후 이어 읽기, 쓰다 만 꼬리 복구, 세그먼트 교체/정리, 동시 append 그룹 커밋 */
+class FocusJournalTest {
+
+    private static final int SEGMENT = 4096;
+
+    @TempDir Path dir;
+
+    @Test
+    void reopenResumesAfterCheckpoint() throws IOException {
+        try (FocusJournal journal = FocusJournal.open(dir, SEGMENT, 1 << 20, true)) {
+            for (int i = 1; i <= 5; i++) assertEquals(i, journal.append(bytes("s" + i)));
+        }
+        try (FocusJournal journal = FocusJournal.open(dir, SEGMENT, 1 << 20, true)) {
+            assertEquals(5, journal.lastSeq());
+            assertEquals(List.of("s3", "s4", "s5"), read(journal.cursor(2).poll(10)));
+            assertEquals(6, journal.append(bytes("s6")));
+        }
+    }
+
+    @Test
+    void tornTailIsDiscarded() throws IOException {
+        try (FocusJournal journal = FocusJournal.open(dir, SEGMENT, 1 << 20, true)) {
+            journal.append(bytes("ok-1"));
+            journal.append(bytes("ok-2"));
+        }
+        // 세 번째 레코드를 쓰다 죽은 상황: 길이는 있는데 crc/seq 가 안 맞음
+        int tail = 2 * (FocusJournal.HEADER + 4);
+        try (FileChannel ch = FileChannel.open(onlySegment(), StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_WRITE, 0, ch.size());
+            buf.putInt(tail, 100);
+            buf.put(tail + FocusJournal.HEADER, bytes("garbage"));
+            buf.force();
+        }
+        try (FocusJournal journal = FocusJournal.open(dir, SEGMENT, 1 << 20, true)) {
+            assertEquals(2, journal.lastSeq());
+            assertEquals(3, journal.append(bytes("ok-3")));
+            assertEquals(List.of("ok-1", "ok-2", "ok-3"), read(journal.cursor(0).poll(10)));
+        }
+    }
+
+    @Test
+    void rotatesSegmentsAndReleasesAppliedOnes() throws IOException {
+        byte[] record = new byte[1000];
+        try (FocusJournal journal = FocusJournal.open(dir, SEGMENT, 3 * SEGMENT, true)) {
+            FocusJournal.Cursor cursor = journal.cursor(0);
+            for (int i = 0; i < 10; i++) journal.append(record);      // 세그먼트당 4건 → 3개
+            assertEquals(3, segmentCount());
+            assertThrows(IllegalStateException.class, () -> {
+                for (int i = 0; i < 10; i++) journal.append(record);
+            });
+            assertEquals(12, cursor.poll(100).size());
+
+            journal.release(6);                                    // 1~4 세그먼트만 다 적용됨
+            assertEquals(2, segmentCount());
+            journal.release(12);
+            assertEquals(1, segmentCount());
+            assertEquals(13, journal.append(new byte[10]));
+            assertEquals(13, cursor.poll(100).get(0).seq());
+        }
+        try (FocusJournal journal = FocusJournal.open(dir, SEGMENT, 3 * SEGMENT, true)) {
+            assertEquals(13, journal.lastSeq());
+            assertTrue(journal.cursor(13).poll(10).isEmpty());
+        }
+    }
+
+    @Test
+    void concurrentAppendsAreGroupCommittedAndPublishedOnlyOnceDurable() throws Exception {
+        int threads = 8;
+        int perThread = 200;
+        try (FocusJournal journal = FocusJournal.open(dir, SEGMENT, 1 << 20, true)) {
+            Set<Long> seqs = ConcurrentHashMap.newKeySet();
+            AtomicInteger unpublished = new AtomicInteger();
+            ExecutorService pool = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        long seq = journal.append(new byte[100]);             // 세그먼트 교체도 섞이게
+                        seqs.add(seq);
+                        if (journal.lastSeq() < seq) unpublished.incrementAndGet(); // 돌려받은 seq 는 이미 읽을 수 있어야
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) f.get(60, TimeUnit.SECONDS);
+            pool.shutdown();
+
+            int total = threads * perThread;
+            assertEquals(total, seqs.size());
+            assertEquals(0, unpublished.get());
+            assertEquals(total, journal.lastSeq());
+            List<FocusJournal.Entry> entries = journal.cursor(0).poll(total + 10);
+            assertEquals(total, entries.size());
+            for (int i = 0; i < total; i++) assertEquals(i + 1, entries.get(i).seq());
+        }
+        try (FocusJournal journal = FocusJournal.open(dir, SEGMENT, 1 << 20, true)) {
+            assertEquals(threads * perThread, journal.lastSeq());
+        }
+    }
+
+    private static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> read(List<FocusJournal.Entry> entries) {
+        return entries.stream().map(e -> new String(e.payload(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private Path onlySegment() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(".journal")).findFirst().orElseThrow();
+        }
+    }
+
+    private long segmentCount() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.toString().endsWith(".journal")).count();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.edtech.edtech_backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/** 첫 요청은 캐시에 안 넣고, 두 번째 요청부터 적재 → 그다음부터 캐시에서 */
+class SegmentCacheServiceTest {
+
+    @TempDir Path root;
+
+    @Test
+    void admitsOnSecondRequestOnly() throws Exception {
+        Files.createDirectories(root.resolve("v"));
+        Files.write(root.resolve("v/chunk_0_1.m4s"), new byte[1000]);
+        Files.write(root.resolve("v/once.m4s"), new byte[1000]);
+        MediaFileService files = new MediaFileService(root.toString());
+        SegmentCacheService cache = new SegmentCacheService(files, new SimpleMeterRegistry(),
+                true, 1 << 20, 1 << 20, 0, Duration.ofMinutes(10));
+        var hot = files.resolve("v/chunk_0_1.m4s").orElseThrow();
+        var once = files.resolve("v/once.m4s").orElseThrow();
+
+        assertTrue(cache.get(once).isEmpty());
+        assertTrue(cache.get(hot).isEmpty());
+        assertTrue(cache.get(hot).isEmpty());         // 두 번째: 적재만 걸고 이번 응답은 파일에서
+        Optional<ByteBuffer> hit = awaitHit(cache, hot);
+        assertEquals(1000, hit.orElseThrow().remaining());
+
+        Thread.sleep(50);
+        assertTrue(cache.get(once).isEmpty(), "second request of a one-off only admits it");
+    }
+
+    private static Optional<ByteBuffer> awaitHit(SegmentCacheService cache, MediaFileService.MediaFile file) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            Optional<ByteBuffer> hit = cache.get(file);
+            if (hit.isPresent()) return hit;
+            Thread.sleep(10);
+        }
+        return Optional.empty();
+    }
+}
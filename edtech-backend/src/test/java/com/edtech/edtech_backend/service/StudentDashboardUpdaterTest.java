@@ -0,0 +1,188 @@
+package com.edtech.edtech_backend.service;
+
+import com.edtech.edtech_backend.config.AsyncConfig;
+import com.edtech.edtech_backend.dto.StudentDashboardDto;
+import com.edtech.edtech_backend.entity.ClassEntity;
+import com.edtech.edtech_backend.entity.Course;
+import com.edtech.edtech_backend.entity.CourseEngagementAnalytics;
+import com.edtech.edtech_backend.entity.Enrollment;
+import com.edtech.edtech_backend.entity.FocusInterval;
+import com.edtech.edtech_backend.entity.Lecture;
+import com.edtech.edtech_backend.entity.User;
+import com.edtech.edtech_backend.repository.ClassRepository;
+import com.edtech.edtech_backend.repository.CourseEngagementAnalyticsRepository;
+import com.edtech.edtech_backend.repository.CourseRepository;
+import com.edtech.edtech_backend.repository.EnrollmentRepository;
+import com.edtech.edtech_backend.repository.LectureRepository;
+import com.edtech.edtech_backend.repository.StudentDashboardRepository;
+import com.edtech.edtech_backend.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 이벤트 → 대시보드 읽기 모델 갱신: 커밋 후에만 반영(롤백이면 그대로), 트랜잭션 밖 발행은 바로(fallbackExecution),
+ * 코스/집중 세션 변경이 payload 에 들어가는지, 한 번도 안 본 사용자는 만들지 않는지.
+ * 갱신은 단일 스레드 dashboardExecutor 에서 돌므로 뒤에 빈 작업을 넣고 기다리면 앞선 이벤트 처리가 끝나 있다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class StudentDashboardUpdaterTest {
+
+    @Autowired StudentDashboardService dashboardService;
+    @Autowired StudentDashboardRepository dashboardRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired ClassRepository classRepository;
+    @Autowired CourseRepository courseRepository;
+    @Autowired LectureRepository lectureRepository;
+    @Autowired EnrollmentRepository enrollmentRepository;
+    @Autowired CourseEngagementAnalyticsRepository analyticsRepository;
+    @Autowired ApplicationEventPublisher eventPublisher;
+    @Autowired PlatformTransactionManager txManager;
+    @Autowired ObjectMapper objectMapper;
+    @Autowired @Qualifier(AsyncConfig.DASHBOARD_EXECUTOR) ThreadPoolTaskExecutor dashboardExecutor;
+
+    @Test
+    void enrollmentEventRebuildsOnlyAfterCommit() throws Exception {
+        User user = user("dash-enroll");
+        ClassEntity clazz = newClass("dash-enroll-class");
+        long before = revision(user);                       // 첫 조회로 행 생성 (수강 없음)
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+
+        // 롤백된 트랜잭션에서 발행한 이벤트는 버려진다
+        tx.executeWithoutResult(status -> {
+            enroll(user, clazz);
+            eventPublisher.publishEvent(new DashboardEvents.EnrollmentChanged(List.of(user.getEmail())));
+            status.setRollbackOnly();
+        });
+        drain();
+        assertEquals(before, revision(user));
+
+        tx.executeWithoutResult(status -> {
+            enroll(user, clazz);
+            eventPublisher.publishEvent(new DashboardEvents.EnrollmentChanged(List.of(user.getEmail())));
+        });
+        drain();
+        assertEquals(before + 1, revision(user));
+        StudentDashboardDto dto = payload(user);
+        assertEquals(1, dto.classes().size());
+        assertEquals(clazz.getClassId(), dto.classes().get(0).classId());
+        assertEquals("APPROVED", dto.classes().get(0).status());
+    }
+
+    @Test
+    void courseAndFocusEventsOutsideTransactionRebuildImmediately() throws Exception {
+        User user = user("dash-course");
+        ClassEntity clazz = newClass("dash-course-class");
+        enroll(user, clazz);
+        revision(user);
+
+        // 트랜잭션 밖 발행 → fallbackExecution 으로 바로 처리
+        Course course = course(clazz, "week 1", "subs/week1.vtt");
+        eventPublisher.publishEvent(new DashboardEvents.CoursesChanged(clazz.getClassId()));
+        drain();
+        StudentDashboardDto.CourseItem item = payload(user).classes().get(0).courses().get(0);
+        assertEquals(course.getCourseId(), item.courseId());
+        assertEquals("week 1", item.title());
+        assertEquals(null, item.latestFocus());
+        assertFalse(item.quizAvailable());
+
+        CourseEngagementAnalytics session = session(user, clazz, course.getCourseId());
+        eventPublisher.publishEvent(new DashboardEvents.FocusSessionSaved(user.getEmail(), clazz.getClassId(), course.getCourseId()));
+        drain();
+        item = payload(user).classes().get(0).courses().get(0);
+        assertNotNull(item.latestFocus());
+        assertEquals(session.getCourseAnalyticsId(), item.latestFocus().sessionId());
+        assertEquals(2, item.latestFocus().intervalCount());
+        assertEquals(10, item.latestFocus().unfocusedSec());
+        assertTrue(item.quizAvailable());
+    }
+
+    @Test
+    void eventsDoNotCreateRowsForUsersWhoNeverLooked() throws Exception {
+        User user = user("dash-never");
+        eventPublisher.publishEvent(new DashboardEvents.EnrollmentChanged(List.of(user.getEmail())));
+        drain();
+        assertTrue(dashboardRepository.findByEmail(user.getEmail()).isEmpty());
+    }
+
+    private long revision(User user) {
+        return dashboardService.get(user.getEmail()).getRevision();
+    }
+
+    private StudentDashboardDto payload(User user) throws Exception {
+        return objectMapper.readValue(dashboardRepository.findByEmail(user.getEmail()).orElseThrow().getPayload(),
+                StudentDashboardDto.class);
+    }
+
+    /** 단일 스레드 실행기라 빈 작업이 끝나면 그 앞에 들어온 갱신도 끝난 것 */
+    private void drain() throws Exception {
+        dashboardExecutor.submit(() -> { }).get(10, TimeUnit.SECONDS);
+    }
+
+    private User user(String name) {
+        User u = new User();
+        u.setEmail(name + "@example.com");
+        u.setName(name);
+        u.setPasswordHash("x");
+        return userRepository.save(u);
+    }
+
+    private ClassEntity newClass(String title) {
+        ClassEntity clazz = new ClassEntity();
+        clazz.setTitle(title);
+        return classRepository.save(clazz);
+    }
+
+    private void enroll(User user, ClassEntity clazz) {
+        Enrollment e = new Enrollment();
+        e.setUser(user);
+        e.setClazz(clazz);
+        enrollmentRepository.save(e);
+    }
+
+    private Course course(ClassEntity clazz, String title, String vttPath) {
+        Lecture lecture = new Lecture();
+        lecture.setTitle(title);
+        lecture.setVttPath(vttPath);
+        Course course = new Course();
+        course.setTitle(title);
+        course.setClassEntity(clazz);
+        course.setLecture(lectureRepository.save(lecture));
+        return courseRepository.save(course);
+    }
+
+    private CourseEngagementAnalytics session(User user, ClassEntity clazz, Long courseId) {
+        CourseEngagementAnalytics a = new CourseEngagementAnalytics();
+        a.setClassEntity(clazz);
+        a.setCourseId(courseId);
+        a.setUserId(user.getEmail());
+        a.setStartedAt(Instant.now().minusSeconds(600));
+        a.setTotalDurationSec(600);
+        for (int k = 0; k < 2; k++) {
+            FocusInterval fi = new FocusInterval();
+            fi.setStartAt(a.getStartedAt().plusSeconds(k * 60L));
+            fi.setEndAt(a.getStartedAt().plusSeconds(k * 60L + 5));
+            fi.setDurationSec(5);
+            fi.setAvgScore(0.3);
+            a.getAttentionArr().add(fi);
+        }
+        return analyticsRepository.save(a);
+    }
+}
@@ -0,0 +1,46 @@
+package com.edtech.edtech_backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimelineDownsamplerTest {
+
+    @Test
+    void keepsEndpointsAndSpikes() {
+        int n = 10_000;
+        long[] x = new long[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = 1_700_000_000_000L + i * 1000L;
+            y[i] = 0.8 + 0.01 * Math.sin(i / 50.0);
+        }
+        y[4321] = 0.0; // 집중도 급락 한 점
+
+        int[] picked = TimelineDownsampler.lttb(x, y, 300);
+
+        assertEquals(300, picked.length);
+        assertEquals(0, picked[0]);
+        assertEquals(n - 1, picked[picked.length - 1]);
+        for (int i = 1; i < picked.length; i++) assertTrue(picked[i] > picked[i - 1]);
+        boolean spikeKept = false;
+        for (int idx : picked) spikeKept |= idx == 4321;
+        assertTrue(spikeKept);
+    }
+
+    @Test
+    void shortSeriesIsReturnedAsIs() {
+        List<long[]> items = new ArrayList<>();
+        for (int i = 0; i < 5; i++) items.add(new long[]{i, i});
+        assertSame(items, TimelineDownsampler.downsample(items, p -> p[0], p -> p[1], 10));
+        // 최소 3점
+        assertEquals(3, TimelineDownsampler.downsample(items, p -> p[0], p -> p[1], 1).size());
+        assertArrayEquals(new int[]{0, 1, 2}, TimelineDownsampler.lttb(new long[]{1, 2, 3}, new double[]{1, 2, 3}, 3));
+    }
+}
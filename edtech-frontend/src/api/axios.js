@@ -28,4 +28,17 @@ api.interceptors.response.use(
   }
 );
 
+// 커서 페이지 목록(/classes, /classes/{id}/students 등)을 끝까지 따라가며 모두 모은다
+// 서버는 한 번에 최대 200개까지 주고, 다음 페이지가 있으면 X-Next-Cursor 헤더를 붙인다
+export const getAllPages = async (url, params = {}) => {
+  const items = [];
+  let cursor;
+  do {
+    const res = await api.get(url, { params: { ...params, size: 200, cursor } });
+    if (Array.isArray(res.data)) items.push(...res.data);
+    cursor = res.headers["x-next-cursor"];
+  } while (cursor);
+  return items;
+};
+
 export default api;
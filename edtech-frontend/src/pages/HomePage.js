@@ -1,5 +1,5 @@
 import React, { useState, useEffect } from "react";
-import api from "../api/axios";
+import api, { getAllPages } from "../api/axios";
 import ClassCard from "../components/ClassCard";
 import ClassRegisterModal from "../components/ClassRegisterModal";
 import { getAuth } from "../utils/auth";
@@ -20,8 +20,7 @@ export default function HomePage() {
 
   const fetchClasses = async () => {
     try {
-      const { data } = await api.get("/classes");
-      const list = Array.isArray(data) ? data : (Array.isArray(data?.content) ? data.content : []);
+      const list = await getAllPages("/classes");
       setClasses(list);
       console.log("classes:", list);
     } catch (err) {
@@ -1,7 +1,7 @@
 // src/pages/StudentsPage.js
 import { useEffect, useState } from "react";
 import { useParams } from "react-router-dom";
-import api from "../api/axios";
+import { getAllPages } from "../api/axios";
 
 export default function StudentsPage() {
   const { classId } = useParams();
@@ -11,8 +11,8 @@ export default function StudentsPage() {
 
   useEffect(() => {
     setError("");
-    api.get(`/classes/${classId}/students`)
-      .then(({ data }) => setRows(Array.isArray(data) ? data : []))
+    getAllPages(`/classes/${classId}/students`)
+      .then(setRows)
       .catch((e) => {
         setRows([]);
         // 403이면 관리자 전용임을 안내
@@ -7,9 +7,11 @@ import com.edtech.edtech_gpt_sever.dto.ChatResponse;
 import com.edtech.edtech_gpt_sever.service.GptService;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.web.bind.annotation.*;
 
+@Slf4j
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api/chat")
@@ -19,13 +21,15 @@ public class ChatController {
 
     @PostMapping
     public ChatResponse chat(@RequestBody ChatRequest request) {
-        System.out.println("📩 받은 메시지: " + request.getMessage());
+        // 메시지 본문은 남기지 않고 길이만 (개인정보 + 로그 양)
+        String message = request.getMessage();
+        log.atDebug().addKeyValue("chars", message == null ? 0 : message.length()).log("chat request");
 
         try {
-            String gptReply = gptService.ask(request.getMessage());
+            String gptReply = gptService.ask(message);
             return new ChatResponse(gptReply);
         } catch (Exception e) {
-            e.printStackTrace();
+            log.atWarn().setCause(e).addKeyValue("chars", message == null ? 0 : message.length()).log("chat failed");
             return new ChatResponse("❌ GPT 처리 중 오류 발생: " + e.getMessage());
         }
     }